@@ -0,0 +1,92 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An adversarial version of the game, in the style of Absurdle. The game never commits to a target word. Instead,
+ * each guess splits the words that are still possible into groups by the coloring they would produce, and the game
+ * answers with the coloring of the largest group. The player wins once the only word left is the one they guessed.
+ */
+public class AdversarialGame {
+
+    private final PatternCalculator calculator;
+    private List<String> remaining;
+
+    public AdversarialGame(Dictionary dictionary, PatternCalculator calculator) {
+        this.calculator = calculator;
+        this.remaining = new ArrayList<>(dictionary.getWords());
+    }
+
+    /**
+     * Plays a guess. The words that are still possible are narrowed down to the ones that agree with the returned
+     * colors.
+     *
+     * @param guess the guessed word
+     * @return the colors for the guess
+     */
+    public Color[] guess(String guess) {
+        char[] letters = guess.toCharArray();
+        int[] codes = new int[remaining.size()];
+        int[] bucketSizes = new int[calculator.getNumPatterns()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = calculator.calculate(letters, remaining.get(i).toCharArray());
+            bucketSizes[codes[i]]++;
+        }
+
+        int chosen = chooseBucket(bucketSizes);
+
+        List<String> narrowed = new ArrayList<>(bucketSizes[chosen]);
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] == chosen) {
+                narrowed.add(remaining.get(i));
+            }
+        }
+        remaining = narrowed;
+        return calculator.decode(chosen);
+    }
+
+    public boolean isSolved(Color[] colors) {
+        return calculator.encode(colors) == calculator.getSolvedPattern();
+    }
+
+    public int getRemainingCount() {
+        return remaining.size();
+    }
+
+    public List<String> getRemainingWords() {
+        return Collections.unmodifiableList(remaining);
+    }
+
+    /**
+     * Picks the largest group. Ties go to the coloring that gives away the least, so that the game only admits a
+     * correct guess when there is nothing else left.
+     */
+    private int chooseBucket(int[] bucketSizes) {
+        int chosen = -1;
+        for (int code = 0; code < bucketSizes.length; code++) {
+            if (bucketSizes[code] == 0) {
+                continue;
+            }
+            if (chosen == -1 || bucketSizes[code] > bucketSizes[chosen]
+                    || (bucketSizes[code] == bucketSizes[chosen] && revealed(code) < revealed(chosen))) {
+                chosen = code;
+            }
+        }
+        if (chosen == -1) {
+            throw new IllegalStateException("There are no words left");
+        }
+        return chosen;
+    }
+
+    private int revealed(int code) {
+        int score = 0;
+        while (code > 0) {
+            // green digits are worth 2, yellow digits 1
+            score += code % 3;
+            code /= 3;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,402 @@
+package wordle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plays against an {@link AdversarialGame}. Since the game always answers with the largest group of words, the
+ * average case doesn't matter, only the worst case. This picks the guess that minimizes the number of words that can
+ * be left after a fixed number of guesses, assuming the game answers as badly as possible for us each time.
+ * <p/>
+ * The search is a minimax over our guesses and the game's colorings. It is kept affordable by:
+ * <ul>
+ *     <li>looking up colorings in a {@link PatternTable} instead of computing them</li>
+ *     <li>trying the guesses with the smallest largest-group first, and stopping once a guess's largest group can't
+ *     beat the best guess so far</li>
+ *     <li>cutting off a guess as soon as one of its groups is worse than the best guess so far</li>
+ *     <li>remembering the result for each set of remaining words, since different guesses often lead to the same
+ *     set</li>
+ *     <li>optionally, only searching the most promising guesses at each step</li>
+ * </ul>
+ */
+public class AdversarialSolver {
+
+    private static final int MAX_MEMO_ENTRIES = 1_000_000;
+
+    private final PatternTable patternTable;
+    private final int depth;
+    private final int maxGuesses;
+    private final int numPatterns;
+    private final int solvedPattern;
+    private final Map<StateKey, MemoEntry> memo = new HashMap<>();
+
+    // the indexes into the pattern table of the words that are still possible
+    private int[] candidates;
+
+    public AdversarialSolver(PatternTable patternTable, int depth) {
+        this(patternTable, depth, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param patternTable the colorings of every word against every other word
+     * @param depth how many guesses to look ahead. Each additional guess is far more expensive.
+     * @param maxGuesses how many of the most promising guesses to search at each step. Searching all of them is
+     * exact, but proving that nothing better exists is most of the work of a deep search.
+     */
+    public AdversarialSolver(PatternTable patternTable, int depth, int maxGuesses) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Must look at least one guess ahead");
+        } else if (maxGuesses < 1) {
+            throw new IllegalArgumentException("Must search at least one guess");
+        }
+        this.patternTable = patternTable;
+        this.depth = depth;
+        this.maxGuesses = maxGuesses;
+        this.numPatterns = patternTable.getCalculator().getNumPatterns();
+        this.solvedPattern = patternTable.getCalculator().getSolvedPattern();
+        this.candidates = new int[patternTable.size()];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = i;
+        }
+    }
+
+    /**
+     * Calculate the best first word to play.
+     */
+    public String findFirstWord() {
+        return findNextWord();
+    }
+
+    /**
+     * Narrows the remaining words to the ones that agree with the outcome of the previous guess, then calculates the
+     * best next word to play.
+     *
+     * @param previousGuess the word that was played
+     * @param outcome the colors that the game provided
+     */
+    public String findNextWord(String previousGuess, Color[] outcome) {
+        int guess = patternTable.indexOf(previousGuess);
+        if (guess < 0) {
+            throw new IllegalArgumentException("'" + previousGuess + "' is not in the dictionary");
+        }
+        int code = patternTable.getCalculator().encode(outcome);
+
+        int count = 0;
+        int[] narrowed = new int[candidates.length];
+        for (int answer : candidates) {
+            if (patternTable.get(guess, answer) == code) {
+                narrowed[count++] = answer;
+            }
+        }
+        candidates = Arrays.copyOf(narrowed, count);
+        return findNextWord();
+    }
+
+    /**
+     * @return the number of words that are still possible
+     */
+    public int getRemainingCount() {
+        return candidates.length;
+    }
+
+    /**
+     * @return the number of words that can be left after the configured number of guesses, if the game plays as
+     * badly as possible for us
+     */
+    public int getWorstCase() {
+        return search(candidates, depth, 0, Integer.MAX_VALUE);
+    }
+
+    private String findNextWord() {
+        if (candidates.length == 0) {
+            return null;
+        } else if (candidates.length <= 2) {
+            // either word splits the other one off
+            return patternTable.getWord(candidates[0]);
+        }
+
+        int[] largestBuckets = new int[patternTable.size()];
+        int[] guesses = orderGuesses(candidates, largestBuckets);
+        int best = Integer.MAX_VALUE;
+        int bestGuess = guesses[0];
+        for (int i = 0; i < guesses.length && i < maxGuesses; i++) {
+            if (lowerBound(largestBuckets[i], depth - 1) >= best) {
+                break;
+            }
+            int value = evaluateGuess(guesses[i], candidates, depth, best);
+            if (value < best) {
+                best = value;
+                bestGuess = guesses[i];
+                if (best <= lowerBound(candidates.length, depth)) {
+                    break;
+                }
+            }
+        }
+        return patternTable.getWord(bestGuess);
+    }
+
+    /**
+     * Calculates the number of words that can be left after the given number of guesses.
+     * <p/>
+     * The bounds work like alpha-beta pruning. The caller is keeping the worst of several groups, so a result at or
+     * below alpha won't change its answer. The caller already has a guess that is as good as beta, so a result at or
+     * above beta won't change its answer either. Outside of (alpha, beta) the result is only a bound.
+     *
+     * @param words the words that are still possible
+     * @param guessesLeft the number of guesses to look ahead
+     * @param alpha results at or below this may be overestimates
+     * @param beta results at or above this may be underestimates
+     * @return the number of words left in the worst case
+     */
+    private int search(int[] words, int guessesLeft, int alpha, int beta) {
+        if (words.length <= 1) {
+            return guessesLeft == 0 ? words.length : 0;
+        } else if (guessesLeft == 0) {
+            return words.length;
+        }
+
+        int lowerBound = lowerBound(words.length, guessesLeft);
+        if (lowerBound >= beta) {
+            return lowerBound;
+        }
+
+        StateKey key = new StateKey(words, guessesLeft);
+        MemoEntry entry = memo.get(key);
+        if (entry != null && (entry.bound == Bound.EXACT
+                || (entry.bound == Bound.LOWER && entry.value >= beta)
+                || (entry.bound == Bound.UPPER && entry.value <= alpha))) {
+            return entry.value;
+        }
+
+        // there's no point in finding a guess that is better than the caller needs
+        int goodEnough = Math.max(alpha, lowerBound);
+        int best;
+        if (guessesLeft == 1) {
+            // with one guess left, the answer is just the smallest largest group
+            best = smallestLargestBucket(words, goodEnough, beta);
+        } else {
+            int[] largestBuckets = new int[patternTable.size()];
+            int[] guesses = orderGuesses(words, largestBuckets);
+            best = Integer.MAX_VALUE;
+            for (int i = 0; i < guesses.length && i < maxGuesses && best > goodEnough; i++) {
+                int limit = Math.min(best, beta);
+                // the guesses are ordered by their largest group, so none of the rest can do better either
+                if (lowerBound(largestBuckets[i], guessesLeft - 1) >= limit) {
+                    break;
+                }
+                best = Math.min(best, evaluateGuess(guesses[i], words, guessesLeft, limit));
+            }
+            // if every guess was cut off, then all we know is that beta can't be beaten
+            best = Math.max(best, lowerBound);
+        }
+
+        Bound bound;
+        if (best >= beta) {
+            best = Math.max(beta, lowerBound);
+            bound = Bound.LOWER;
+        } else if (best <= alpha) {
+            bound = Bound.UPPER;
+        } else {
+            bound = Bound.EXACT;
+        }
+        if (memo.size() >= MAX_MEMO_ENTRIES) {
+            memo.clear();
+        }
+        memo.put(key, new MemoEntry(best, bound));
+        return best;
+    }
+
+    /**
+     * Calculates how many words can be left in the worst case if the given word is guessed next.
+     *
+     * @return the number of words left, or any value greater than or equal to the cutoff if the guess can't beat it
+     */
+    private int evaluateGuess(int guess, int[] words, int guessesLeft, int cutoff) {
+        int[][] buckets = partition(guess, words);
+
+        // the largest groups usually decide the outcome, so try them first to cut off bad guesses early
+        Arrays.sort(buckets, (a, b) -> Integer.compare(b.length, a.length));
+
+        int worst = 0;
+        for (int[] bucket : buckets) {
+            // a group can never end up with more words than it started with
+            if (bucket.length <= worst) {
+                break;
+            }
+            worst = Math.max(worst, search(bucket, guessesLeft - 1, worst, cutoff));
+            if (worst >= cutoff) {
+                break;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Splits the words into groups by the coloring the guess produces. The all-green group is left out, since that
+     * means the game was won. The words in each group stay in ascending order.
+     */
+    private int[][] partition(int guess, int[] words) {
+        int[] bucketSizes = new int[numPatterns];
+        for (int word : words) {
+            bucketSizes[patternTable.get(guess, word)]++;
+        }
+        bucketSizes[solvedPattern] = 0;
+
+        int numBuckets = 0;
+        int[][] buckets = new int[numPatterns][];
+        for (int code = 0; code < numPatterns; code++) {
+            if (bucketSizes[code] > 0) {
+                buckets[code] = new int[bucketSizes[code]];
+                numBuckets++;
+            }
+        }
+
+        int[] fill = new int[numPatterns];
+        for (int word : words) {
+            int code = patternTable.get(guess, word);
+            if (code != solvedPattern) {
+                buckets[code][fill[code]++] = word;
+            }
+        }
+
+        int[][] result = new int[numBuckets][];
+        int next = 0;
+        for (int[] bucket : buckets) {
+            if (bucket != null) {
+                result[next++] = bucket;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the guess that leaves the smallest largest group, stopping early once a guess is good enough.
+     *
+     * @param goodEnough stop once a guess is at least this good
+     * @param cutoff a group this large is already too large to be interesting
+     */
+    private int smallestLargestBucket(int[] words, int goodEnough, int cutoff) {
+        int[] bucketSizes = new int[numPatterns];
+        int best = Integer.MAX_VALUE;
+        int limit = cutoff;
+        for (int guess = 0; guess < patternTable.size() && best > goodEnough; guess++) {
+            int largest = 0;
+            int counted = 0;
+            while (counted < words.length && largest < limit) {
+                int code = patternTable.get(guess, words[counted++]);
+                if (code != solvedPattern) {
+                    largest = Math.max(largest, ++bucketSizes[code]);
+                }
+            }
+            for (int i = 0; i < counted; i++) {
+                bucketSizes[patternTable.get(guess, words[i])] = 0;
+            }
+            best = Math.min(best, largest);
+            limit = Math.min(limit, best);
+        }
+        return best;
+    }
+
+    /**
+     * Orders every word in the dictionary by the size of the largest group it splits the given words into. Ties go to
+     * words that could be the answer, since guessing those might win outright.
+     *
+     * @param words the words that are still possible
+     * @param largestBuckets filled in with the size of the largest group of each guess, in the returned order
+     * @return the indexes of the guesses, best first
+     */
+    private int[] orderGuesses(int[] words, int[] largestBuckets) {
+        int numGuesses = patternTable.size();
+        boolean[] isCandidate = new boolean[numGuesses];
+        for (int word : words) {
+            isCandidate[word] = true;
+        }
+
+        long[] keyed = new long[numGuesses];
+        int[] bucketSizes = new int[numPatterns];
+        for (int guess = 0; guess < numGuesses; guess++) {
+            int largest = 0;
+            for (int word : words) {
+                int code = patternTable.get(guess, word);
+                if (code != solvedPattern) {
+                    largest = Math.max(largest, ++bucketSizes[code]);
+                }
+            }
+            clearBuckets(guess, words, bucketSizes);
+            // sort by largest group, then candidates first, then dictionary order
+            keyed[guess] = ((long) largest << 33) | ((isCandidate[guess] ? 0L : 1L) << 32) | guess;
+        }
+        Arrays.sort(keyed);
+
+        int[] guesses = new int[numGuesses];
+        for (int i = 0; i < numGuesses; i++) {
+            guesses[i] = (int) keyed[i];
+            largestBuckets[i] = (int) (keyed[i] >>> 33);
+        }
+        return guesses;
+    }
+
+    /**
+     * Resets only the counts that a guess touched, which is much cheaper than clearing every coloring when there are
+     * only a few words left.
+     */
+    private void clearBuckets(int guess, int[] words, int[] bucketSizes) {
+        for (int word : words) {
+            bucketSizes[patternTable.get(guess, word)] = 0;
+        }
+    }
+
+    /**
+     * A lower bound on the number of words that can be left after the given number of guesses. At best, a guess
+     * spreads the words evenly across every coloring, with one of them being the winning all-green coloring.
+     */
+    private int lowerBound(int numWords, int guessesLeft) {
+        for (int i = 0; i < guessesLeft && numWords > 0; i++) {
+            numWords = numWords <= 1 ? 0 : (numWords - 1 + numPatterns - 2) / (numPatterns - 1);
+        }
+        return numWords;
+    }
+
+    private static final class StateKey {
+        private final int[] words;
+        private final int guessesLeft;
+        private final int hash;
+
+        StateKey(int[] words, int guessesLeft) {
+            this.words = words;
+            this.guessesLeft = guessesLeft;
+            this.hash = 31 * Arrays.hashCode(words) + guessesLeft;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StateKey)) {
+                return false;
+            }
+            StateKey other = (StateKey) o;
+            return hash == other.hash && guessesLeft == other.guessesLeft && Arrays.equals(words, other.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private enum Bound {
+        EXACT,
+        LOWER,
+        UPPER
+    }
+
+    private static final class MemoEntry {
+        private final int value;
+        private final Bound bound;
+
+        MemoEntry(int value, Bound bound) {
+            this.value = value;
+            this.bound = bound;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package wordle;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * The letters a dictionary is spelled with, numbered densely from 0 in character order. English gets 26 codes, and a
+ * Spanish or Polish dictionary gets its accented letters too, so code that counts letters can keep using small
+ * arrays indexed by code, whatever the language.
+ * <p/>
+ * The alphabet is worked out from the words when a {@link WordList} is loaded, so it only has the letters that are
+ * actually used.
+ */
+public final class Alphabet {
+
+    /**
+     * The most letters an alphabet can have.
+     */
+    public static final int MAX_SIZE = 255;
+
+    // the letters, in character order, so the code of a letter is its index
+    private final char[] letters;
+    // the code of each character plus 1, or 0 for characters that aren't letters of the alphabet
+    private final byte[] codes;
+
+    private Alphabet(char[] letters) {
+        this.letters = letters;
+        this.codes = new byte[letters.length == 0 ? 0 : letters[letters.length - 1] + 1];
+        for (int i = 0; i < letters.length; i++) {
+            codes[letters[i]] = (byte) (i + 1);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the words use more than {@link #MAX_SIZE} different characters
+     */
+    public static Alphabet of(Collection<String> words) {
+        // only as big as the largest character, so English stays small
+        BitSet seen = new BitSet();
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                seen.set(word.charAt(i));
+            }
+        }
+        int count = seen.cardinality();
+        if (count > MAX_SIZE) {
+            throw new IllegalArgumentException("The words use " + count + " different letters, more than "
+                    + MAX_SIZE);
+        }
+        char[] letters = new char[count];
+        int next = 0;
+        for (int c = seen.nextSetBit(0); c >= 0; c = seen.nextSetBit(c + 1)) {
+            letters[next++] = (char) c;
+        }
+        return new Alphabet(letters);
+    }
+
+    public int size() {
+        return letters.length;
+    }
+
+    /**
+     * @return the code of the letter, or -1 if it isn't in the alphabet
+     */
+    public int code(char letter) {
+        return letter < codes.length ? (codes[letter] & 0xff) - 1 : -1;
+    }
+
+    public char letter(int code) {
+        return letters[code];
+    }
+
+    public boolean contains(char letter) {
+        return code(letter) >= 0;
+    }
+
+    /**
+     * @return whether every letter of the word is in the alphabet
+     */
+    public boolean canSpell(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!contains(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(letters);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Alphabet && Arrays.equals(letters, ((Alphabet) o).letters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(letters);
+    }
+}
@@ -0,0 +1,68 @@
+package wordle;
+
+/**
+ * A stratified sample of the remaining answers, drawn by a {@link StratifiedSampler}.
+ */
+public final class AnswerSample {
+
+    private final char[][] answers;
+    private final int[] stratumOf;
+    private final int[] stratumSizes;
+    private final int[] sampledSizes;
+    private final int populationSize;
+
+    AnswerSample(char[][] answers, int[] stratumOf, int[] stratumSizes, int[] sampledSizes, int populationSize) {
+        this.answers = answers;
+        this.stratumOf = stratumOf;
+        this.stratumSizes = stratumSizes;
+        this.sampledSizes = sampledSizes;
+        this.populationSize = populationSize;
+    }
+
+    /**
+     * @return the number of answers in the sample
+     */
+    public int size() {
+        return answers.length;
+    }
+
+    /**
+     * @return the number of answers the sample was drawn from
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * @return whether the sample is every answer, so that estimates from it are exact
+     */
+    public boolean isComplete() {
+        return answers.length == populationSize;
+    }
+
+    char[] getAnswer(int i) {
+        return answers[i];
+    }
+
+    int getStratum(int i) {
+        return stratumOf[i];
+    }
+
+    int getNumStrata() {
+        return stratumSizes.length;
+    }
+
+    /**
+     * @return the number of answers in the stratum, sampled or not
+     */
+    int getStratumSize(int stratum) {
+        return stratumSizes[stratum];
+    }
+
+    /**
+     * @return the number of answers sampled from the stratum
+     */
+    int getSampledSize(int stratum) {
+        return sampledSizes[stratum];
+    }
+}
@@ -0,0 +1,105 @@
+package wordle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Searches for the next word to play within a time budget. Scoring every word can take minutes early in the game, so
+ * this scores the most promising words first (see {@link LetterFrequencyRanker}) and stops once the budget runs out,
+ * returning the best word it found. Along the way it reports the best word so far, so callers can show progress or
+ * give up early.
+ */
+public class AnytimeSearch {
+
+    // report progress at least this often, even if the best word hasn't changed
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Dictionary dictionary;
+    private final GoodnessCalculator goodnessCalculator;
+    private final LetterFrequencyRanker ranker;
+
+    public AnytimeSearch(Dictionary dictionary, GoodnessCalculator goodnessCalculator, LetterFrequencyRanker ranker) {
+        this.dictionary = dictionary;
+        this.goodnessCalculator = goodnessCalculator;
+        this.ranker = ranker;
+    }
+
+    /**
+     * Searches on the calling thread. The search stops early if the thread is interrupted, and the interrupt is left
+     * set for the caller to deal with.
+     *
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @param budget how long to search for
+     * @param listener told about the best word so far whenever it changes, every so often while it doesn't, and once
+     * more when the search is done
+     * @return the best word found, and how much of the dictionary was searched
+     */
+    public SearchProgress search(Color[] knownColors, Duration budget, Consumer<SearchProgress> listener) {
+        return search(knownColors, budget, listener, () -> Thread.currentThread().isInterrupted());
+    }
+
+    /**
+     * Prepares a search to run in the background. Subscribe to it for progress, then start it.
+     */
+    public SearchTask newTask(Color[] knownColors, Duration budget) {
+        return new SearchTask(this, knownColors, budget);
+    }
+
+    SearchProgress search(Color[] knownColors, Duration budget, Consumer<SearchProgress> listener,
+            BooleanSupplier cancelled) {
+        long start = System.nanoTime();
+        long budgetNanos = toNanos(budget);
+        List<String> words = dictionary.getWords();
+        int total = words.size();
+
+        if (total <= 1) {
+            SearchProgress progress = new SearchProgress(total == 0 ? null : words.get(0), 0.0, total, total,
+                    Duration.ZERO);
+            listener.accept(progress);
+            return progress;
+        }
+
+        String bestWord = null;
+        double bestScore = 0.0;
+        int scored = 0;
+        long lastReported = start;
+
+        for (String word : ranker.rank(words)) {
+            // always score at least one word, so there is something to play
+            long now = System.nanoTime();
+            if (bestWord != null && (now - start >= budgetNanos || cancelled.getAsBoolean())) {
+                break;
+            }
+
+            double score = goodnessCalculator.calculateGoodness(word, knownColors, total);
+            scored++;
+            boolean improved = bestWord == null || score > bestScore;
+            if (improved) {
+                bestWord = word;
+                bestScore = score;
+            }
+
+            now = System.nanoTime();
+            if (improved || now - lastReported >= PROGRESS_INTERVAL_NANOS) {
+                listener.accept(new SearchProgress(bestWord, bestScore, scored, total, Duration.ofNanos(now - start)));
+                lastReported = now;
+            }
+        }
+
+        SearchProgress result = new SearchProgress(bestWord, bestScore, scored, total,
+                Duration.ofNanos(System.nanoTime() - start));
+        listener.accept(result);
+        return result;
+    }
+
+    private long toNanos(Duration budget) {
+        try {
+            return budget.toNanos();
+        } catch (ArithmeticException e) {
+            // longer than anyone will wait
+            return Long.MAX_VALUE;
+        }
+    }
+}
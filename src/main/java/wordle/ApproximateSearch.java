@@ -0,0 +1,114 @@
+package wordle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Picks the next word by scoring only the most promising few. The words are ranked with the cheap
+ * {@link LetterFrequencyRanker}, and only the top ones get the full {@link GoodnessCalculator} treatment, so a turn
+ * costs a fixed number of scorings no matter how big the dictionary is. The best word usually ranks near the top; see
+ * {@link ApproximationBenchmark} for how near.
+ * <p/>
+ * Unlike {@link AnytimeSearch}, the number of words to score is decided up front, so the same state always gets the
+ * same word. It can still be sized from a time budget, based on how long scoring took on earlier turns.
+ */
+public class ApproximateSearch {
+
+    // how much each new measurement of the scoring cost counts against the older ones
+    private static final double COST_SMOOTHING = 0.5;
+
+    private final Dictionary dictionary;
+    private final GoodnessCalculator goodnessCalculator;
+    private final LetterFrequencyRanker ranker;
+
+    // the time to score one guess against one remaining word, or 0 if nothing has been scored yet
+    private double nanosPerComparison;
+
+    public ApproximateSearch(Dictionary dictionary, GoodnessCalculator goodnessCalculator,
+            LetterFrequencyRanker ranker) {
+        this.dictionary = dictionary;
+        this.goodnessCalculator = goodnessCalculator;
+        this.ranker = ranker;
+    }
+
+    /**
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @param maxWords how many of the most promising words to score
+     * @return the best of the scored words, and how many were scored
+     */
+    public SearchProgress search(Color[] knownColors, int maxWords) {
+        long start = System.nanoTime();
+        List<String> words = dictionary.getWords();
+        int total = words.size();
+
+        if (total <= 1) {
+            return new SearchProgress(total == 0 ? null : words.get(0), 0.0, total, total, Duration.ZERO);
+        }
+
+        String bestWord = null;
+        double bestScore = 0.0;
+        // always score at least one word, so there is something to play
+        List<String> top = ranker.top(words, Math.max(1, maxWords));
+        for (String word : top) {
+            double score = goodnessCalculator.calculateGoodness(word, knownColors, total);
+            if (bestWord == null || score > bestScore) {
+                bestWord = word;
+                bestScore = score;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        recordCost(elapsed, (long) top.size() * total);
+        return new SearchProgress(bestWord, bestScore, top.size(), total, Duration.ofNanos(elapsed));
+    }
+
+    /**
+     * Scores as many of the most promising words as should fit in the time budget. The budget is only an estimate
+     * going in, so the search can run somewhat over or under it.
+     * <p/>
+     * Before anything has been measured, this scores the top word alone first to find out how long a word takes.
+     *
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @param budget roughly how long to search for
+     * @return the best of the scored words, and how many were scored
+     */
+    public SearchProgress search(Color[] knownColors, Duration budget) {
+        if (nanosPerComparison == 0) {
+            SearchProgress first = search(knownColors, 1);
+            if (first.isComplete()) {
+                return first;
+            }
+            int maxWords = estimateMaxWords(budget.minus(first.getElapsed()));
+            if (maxWords <= 1) {
+                return first;
+            }
+            return search(knownColors, maxWords);
+        }
+        return search(knownColors, estimateMaxWords(budget));
+    }
+
+    /**
+     * @return how many words can be scored against the current dictionary within the budget, going by the earlier
+     * searches, or 1 if there haven't been any
+     */
+    public int estimateMaxWords(Duration budget) {
+        int total = dictionary.size();
+        if (nanosPerComparison == 0 || total == 0 || budget.isNegative()) {
+            return 1;
+        }
+        // in doubles, since a long enough budget would overflow a long of nanoseconds
+        double budgetNanos = budget.getSeconds() * 1e9 + budget.getNano();
+        double words = budgetNanos / (nanosPerComparison * total);
+        return (int) Math.max(1, Math.min(total, words));
+    }
+
+    /**
+     * Scoring a guess takes time in proportion to the number of remaining words, so the cost is kept per comparison
+     * and carries over as the dictionary shrinks.
+     */
+    private void recordCost(long elapsedNanos, long comparisons) {
+        double cost = Math.max(1.0, (double) elapsedNanos / comparisons);
+        nanosPerComparison = nanosPerComparison == 0 ? cost
+                : COST_SMOOTHING * cost + (1 - COST_SMOOTHING) * nanosPerComparison;
+    }
+}
@@ -0,0 +1,229 @@
+package wordle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures what {@link ApproximateSearch} gives up by scoring only the top few words from the
+ * {@link LetterFrequencyRanker}. It plays a game against every answer, always with the exactly best word, and at each
+ * turn checks which word the top M would have picked instead. The results say how big M needs to be for a given
+ * dictionary.
+ * <p/>
+ * Every word is scored from a histogram of its colorings, built with the {@link PatternCalculator}. That gives the
+ * same scores as the {@link WordMatcher}, but fast enough to score every word at every turn.
+ */
+public class ApproximationBenchmark {
+
+    private final PatternCalculator patternCalculator;
+    private final GoodnessCalculator goodnessCalculator;
+    private final LetterFrequencyRanker ranker;
+
+    public ApproximationBenchmark(PatternCalculator patternCalculator, GoodnessCalculator goodnessCalculator,
+            LetterFrequencyRanker ranker) {
+        this.patternCalculator = patternCalculator;
+        this.goodnessCalculator = goodnessCalculator;
+        this.ranker = ranker;
+    }
+
+    /**
+     * @param words the dictionary. Every word is tried as the answer.
+     * @param firstGuess the word every game starts with, since the first turn is the same for every answer
+     * @param maxWordsOptions the values of M to compare
+     * @return one result for each value of M, in the same order
+     */
+    public List<Result> run(List<String> words, String firstGuess, int[] maxWordsOptions) {
+        List<Turn> turns = new ArrayList<>();
+        Map<String, Turn> seen = new HashMap<>();
+        for (String answer : words) {
+            playGame(words, answer, firstGuess, maxWordsOptions, turns, seen);
+        }
+
+        List<Result> results = new ArrayList<>(maxWordsOptions.length);
+        for (int m = 0; m < maxWordsOptions.length; m++) {
+            int differences = 0;
+            double totalLoss = 0.0;
+            double worstLoss = 0.0;
+            for (Turn turn : turns) {
+                if (turn.differs[m]) {
+                    differences++;
+                }
+                totalLoss += turn.loss[m];
+                worstLoss = Math.max(worstLoss, turn.loss[m]);
+            }
+            results.add(new Result(maxWordsOptions[m], turns.size(), differences,
+                    turns.isEmpty() ? 0.0 : totalLoss / turns.size(), worstLoss));
+        }
+        return results;
+    }
+
+    /**
+     * Plays until only the answer is left, adding each turn to the list. Many answers go through the same turns, so
+     * those are only compared once.
+     */
+    private void playGame(List<String> words, String answer, String firstGuess, int[] maxWordsOptions,
+            List<Turn> turns, Map<String, Turn> seen) {
+        List<String> remaining = words;
+        String guess = firstGuess;
+        while (true) {
+            int outcome = patternCalculator.calculate(guess, answer);
+            remaining = narrow(remaining, guess, outcome);
+            if (remaining.size() <= 1) {
+                return;
+            }
+
+            String key = outcome + " " + remaining;
+            Turn turn = seen.get(key);
+            if (turn == null) {
+                turn = compare(remaining, patternCalculator.decode(outcome), maxWordsOptions);
+                seen.put(key, turn);
+            }
+            turns.add(turn);
+            guess = turn.bestWord;
+        }
+    }
+
+    private List<String> narrow(List<String> words, String guess, int outcome) {
+        List<String> matching = new ArrayList<>();
+        for (String word : words) {
+            if (patternCalculator.calculate(guess, word) == outcome) {
+                matching.add(word);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Scores every remaining word the way {@link Solver} does, then checks what each top M would have picked.
+     */
+    private Turn compare(List<String> remaining, Color[] knownColors, int[] maxWordsOptions) {
+        Map<String, Double> scores = new HashMap<>();
+        String bestWord = null;
+        double bestScore = 0.0;
+        int[] histogram = new int[patternCalculator.getNumPatterns()];
+        for (String guess : remaining) {
+            char[] letters = guess.toCharArray();
+            Arrays.fill(histogram, 0);
+            for (String answer : remaining) {
+                histogram[patternCalculator.calculate(letters, answer.toCharArray())]++;
+            }
+            double score = goodnessCalculator.calculateGoodness(letters, histogram, knownColors, remaining.size());
+            scores.put(guess, score);
+            if (bestWord == null || score > bestScore) {
+                bestWord = guess;
+                bestScore = score;
+            }
+        }
+
+        Turn turn = new Turn(bestWord, maxWordsOptions.length);
+        for (int m = 0; m < maxWordsOptions.length; m++) {
+            String approximateWord = null;
+            double approximateScore = 0.0;
+            for (String guess : ranker.top(remaining, Math.max(1, maxWordsOptions[m]))) {
+                double score = scores.get(guess);
+                if (approximateWord == null || score > approximateScore) {
+                    approximateWord = guess;
+                    approximateScore = score;
+                }
+            }
+            // several words often tie for best, and picking another one of those is no loss
+            turn.differs[m] = approximateScore < bestScore;
+            turn.loss[m] = bestScore == 0.0 ? 0.0 : (bestScore - approximateScore) / bestScore;
+        }
+        return turn;
+    }
+
+    private static final class Turn {
+        private final String bestWord;
+        private final boolean[] differs;
+        private final double[] loss;
+
+        private Turn(String bestWord, int numOptions) {
+            this.bestWord = bestWord;
+            this.differs = new boolean[numOptions];
+            this.loss = new double[numOptions];
+        }
+    }
+
+    /**
+     * How the top M did over every turn of every game.
+     */
+    public static final class Result {
+        private final int maxWords;
+        private final int turns;
+        private final int differences;
+        private final double meanLoss;
+        private final double worstLoss;
+
+        public Result(int maxWords, int turns, int differences, double meanLoss, double worstLoss) {
+            this.maxWords = maxWords;
+            this.turns = turns;
+            this.differences = differences;
+            this.meanLoss = meanLoss;
+            this.worstLoss = worstLoss;
+        }
+
+        public int getMaxWords() {
+            return maxWords;
+        }
+
+        public int getTurns() {
+            return turns;
+        }
+
+        /**
+         * @return the number of turns where the top M picked a worse word than scoring every word would
+         */
+        public int getDifferences() {
+            return differences;
+        }
+
+        /**
+         * @return the average shortfall of the picked word's score from the best score, as a fraction of the best
+         */
+        public double getMeanLoss() {
+            return meanLoss;
+        }
+
+        public double getWorstLoss() {
+            return worstLoss;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("M=%-6d differs on %5d/%d turns (%5.1f%%), mean loss %.4f%%, worst loss %.2f%%",
+                    maxWords, differences, turns, 100.0 * differences / Math.max(1, turns), 100 * meanLoss,
+                    100 * worstLoss);
+        }
+    }
+
+    /**
+     * Runs the benchmark on the bundled dictionary.
+     * <p/>
+     * Arguments: optionally the first word, "tares" by default, followed by the values of M to compare.
+     */
+    public static void main(String[] args) throws IOException {
+        String firstGuess = args.length > 0 ? args[0] : "tares";
+        int[] maxWordsOptions = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[] {1, 2, 5, 10, 20, 50, 100, 200};
+
+        Dictionary dictionary = new DictionaryFileLoader("/dictionary.txt").buildDictionary();
+        int wordLength = firstGuess.length();
+        PatternCalculator patternCalculator = new PatternCalculator(wordLength);
+        GoodnessCalculator goodnessCalculator = new GoodnessCalculator(wordLength, new WordMatcher(dictionary),
+                new EntropyCalculator(), new ColoringEnumerator(patternCalculator));
+        ApproximationBenchmark benchmark = new ApproximationBenchmark(patternCalculator, goodnessCalculator,
+                new LetterFrequencyRanker(wordLength));
+
+        System.out.println("Playing " + dictionary.size() + " games starting with " + firstGuess + "...");
+        long start = System.nanoTime();
+        for (Result result : benchmark.run(dictionary.getWords(), firstGuess, maxWordsOptions)) {
+            System.out.println(result);
+        }
+        System.out.println("Done in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
@@ -0,0 +1,376 @@
+package wordle;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of indexes into a {@link WordList}, such as the words that are still possible in a game. A game starts with
+ * thousands of words and is down to a handful within a few turns, so the set picks how to store itself by how many
+ * words are in it:
+ * <ul>
+ * <li>up to {@link #TINY_MAX} indexes are kept in fields, with no array at all</li>
+ * <li>a sorted array of indexes, while that is smaller than a bit per word in the list</li>
+ * <li>a bit per word in the list, once it is mostly full</li>
+ * </ul>
+ * A set never changes once made. Narrowing it makes a new set in whichever form suits the words that are left, so
+ * sets can be shared between games and used as keys. Two sets with the same indexes are equal, whatever their form.
+ */
+public abstract class CandidateSet {
+
+    /**
+     * The most indexes that are kept without an array.
+     */
+    public static final int TINY_MAX = 4;
+
+    enum Form {
+        TINY,
+        SPARSE,
+        DENSE
+    }
+
+    private final int universe;
+    // worked out on first use, with 0 meaning not yet
+    private int hash;
+
+    private CandidateSet(int universe) {
+        this.universe = universe;
+    }
+
+    /**
+     * @return a set of every index below the universe
+     */
+    public static CandidateSet all(int universe) {
+        long[] bits = new long[(universe + 63) / 64];
+        Arrays.fill(bits, -1L);
+        if (universe % 64 != 0) {
+            bits[bits.length - 1] = (1L << universe) - 1;
+        }
+        return fromBits(universe, bits, universe);
+    }
+
+    public static CandidateSet none(int universe) {
+        return new Tiny(universe, new int[0], 0);
+    }
+
+    /**
+     * @param universe the size of the word list the indexes are into
+     * @param indexes the indexes, in ascending order without repeats
+     */
+    public static CandidateSet of(int universe, int... indexes) {
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] < 0 || indexes[i] >= universe || (i > 0 && indexes[i] <= indexes[i - 1])) {
+                throw new IllegalArgumentException("Indexes must be ascending and below " + universe + ": "
+                        + Arrays.toString(indexes));
+            }
+        }
+        return fromSorted(universe, indexes.clone(), indexes.length);
+    }
+
+    /**
+     * Same as {@link #of(int, int...)} for part of an array, which is trusted to be in order.
+     */
+    static CandidateSet ofRange(int universe, int[] sorted, int from, int to) {
+        return fromSorted(universe, Arrays.copyOfRange(sorted, from, to), to - from);
+    }
+
+    /**
+     * @return the size of the word list the indexes are into
+     */
+    public int getUniverse() {
+        return universe;
+    }
+
+    public abstract int size();
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public abstract boolean contains(int index);
+
+    /**
+     * @return the first index in the set at or after the given one, or -1 if there are none
+     */
+    public abstract int next(int from);
+
+    abstract Form getForm();
+
+    /**
+     * @return the set of the indexes that pass the test, in whichever form suits how many there are
+     */
+    public CandidateSet retain(IntPredicate keep) {
+        int[] kept = new int[size()];
+        int count = 0;
+        for (int i = next(0); i >= 0; i = next(i + 1)) {
+            if (keep.test(i)) {
+                kept[count++] = i;
+            }
+        }
+        return count == size() ? this : fromSorted(universe, kept, count);
+    }
+
+    /**
+     * @return the indexes in both sets. The smaller set is walked and the bigger one looked up, or for two sets of
+     * bits, the bits are combined a word at a time.
+     */
+    public CandidateSet intersect(CandidateSet other) {
+        if (other.universe != universe) {
+            throw new IllegalArgumentException("The sets are over word lists of different sizes");
+        }
+        if (this instanceof Dense && other instanceof Dense) {
+            return ((Dense) this).and((Dense) other);
+        }
+        return size() <= other.size() ? retain(other::contains) : other.retain(this::contains);
+    }
+
+    /**
+     * @return the indexes, in ascending order
+     */
+    public int[] toArray() {
+        int[] indexes = new int[size()];
+        int count = 0;
+        for (int i = next(0); i >= 0; i = next(i + 1)) {
+            indexes[count++] = i;
+        }
+        return indexes;
+    }
+
+    /**
+     * The same as {@link Arrays#hashCode(int[])} of the indexes, so it doesn't depend on the form.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            for (int i = next(0); i >= 0; i = next(i + 1)) {
+                h = 31 * h + i;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CandidateSet)) {
+            return false;
+        }
+        CandidateSet other = (CandidateSet) o;
+        if (universe != other.universe || size() != other.size() || hashCode() != other.hashCode()) {
+            return false;
+        }
+        for (int i = next(0), j = other.next(0); i >= 0; i = next(i + 1), j = other.next(j + 1)) {
+            if (i != j) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * A sorted array of indexes takes 32 bits an index, against a bit for every word in the list for the bits.
+     */
+    private static boolean isDense(int universe, int count) {
+        return (long) count * Integer.SIZE > universe;
+    }
+
+    /**
+     * @param sorted the indexes, in ascending order. Only the first count are used, and the array may be kept.
+     */
+    private static CandidateSet fromSorted(int universe, int[] sorted, int count) {
+        if (count <= TINY_MAX) {
+            return new Tiny(universe, sorted, count);
+        }
+        if (isDense(universe, count)) {
+            long[] bits = new long[(universe + 63) / 64];
+            for (int i = 0; i < count; i++) {
+                bits[sorted[i] >>> 6] |= 1L << sorted[i];
+            }
+            return new Dense(universe, bits, count);
+        }
+        return new Sparse(universe, count == sorted.length ? sorted : Arrays.copyOf(sorted, count));
+    }
+
+    /**
+     * @param bits a bit for each index in the set, which may be kept
+     * @param count how many bits are set
+     */
+    private static CandidateSet fromBits(int universe, long[] bits, int count) {
+        if (count > TINY_MAX && isDense(universe, count)) {
+            return new Dense(universe, bits, count);
+        }
+        int[] sorted = new int[count];
+        int next = 0;
+        for (int block = 0; block < bits.length; block++) {
+            for (long b = bits[block]; b != 0; b &= b - 1) {
+                sorted[next++] = block * 64 + Long.numberOfTrailingZeros(b);
+            }
+        }
+        return fromSorted(universe, sorted, count);
+    }
+
+    private static final class Tiny extends CandidateSet {
+        private final int size;
+        private final int a;
+        private final int b;
+        private final int c;
+        private final int d;
+
+        private Tiny(int universe, int[] sorted, int count) {
+            super(universe);
+            this.size = count;
+            this.a = count > 0 ? sorted[0] : -1;
+            this.b = count > 1 ? sorted[1] : -1;
+            this.c = count > 2 ? sorted[2] : -1;
+            this.d = count > 3 ? sorted[3] : -1;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(int index) {
+            return index >= 0 && (index == a || index == b || index == c || index == d);
+        }
+
+        @Override
+        public int next(int from) {
+            // the unused fields are -1, so they never pass
+            if (a >= from) {
+                return a;
+            }
+            if (b >= from) {
+                return b;
+            }
+            if (c >= from) {
+                return c;
+            }
+            return d >= from ? d : -1;
+        }
+
+        @Override
+        Form getForm() {
+            return Form.TINY;
+        }
+    }
+
+    private static final class Sparse extends CandidateSet {
+        private final int[] indexes;
+
+        private Sparse(int universe, int[] indexes) {
+            super(universe);
+            this.indexes = indexes;
+        }
+
+        @Override
+        public int size() {
+            return indexes.length;
+        }
+
+        @Override
+        public boolean contains(int index) {
+            return Arrays.binarySearch(indexes, index) >= 0;
+        }
+
+        @Override
+        public int next(int from) {
+            int position = Arrays.binarySearch(indexes, from);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            return position < indexes.length ? indexes[position] : -1;
+        }
+
+        @Override
+        public int[] toArray() {
+            return indexes.clone();
+        }
+
+        @Override
+        Form getForm() {
+            return Form.SPARSE;
+        }
+    }
+
+    private static final class Dense extends CandidateSet {
+        private final long[] bits;
+        private final int size;
+
+        private Dense(int universe, long[] bits, int size) {
+            super(universe);
+            this.bits = bits;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(int index) {
+            return index >= 0 && index < getUniverse() && (bits[index >>> 6] & (1L << index)) != 0;
+        }
+
+        @Override
+        public int next(int from) {
+            int block = from >>> 6;
+            if (block >= bits.length) {
+                return -1;
+            }
+            long word = bits[block] & (-1L << from);
+            while (true) {
+                if (word != 0) {
+                    return block * 64 + Long.numberOfTrailingZeros(word);
+                }
+                if (++block == bits.length) {
+                    return -1;
+                }
+                word = bits[block];
+            }
+        }
+
+        /**
+         * Narrows a bit at a time into new bits, rather than listing the indexes first, since most of them usually
+         * don't pass.
+         */
+        @Override
+        public CandidateSet retain(IntPredicate keep) {
+            long[] kept = new long[bits.length];
+            int count = 0;
+            for (int i = next(0); i >= 0; i = next(i + 1)) {
+                if (keep.test(i)) {
+                    kept[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            return count == size ? this : fromBits(getUniverse(), kept, count);
+        }
+
+        private CandidateSet and(Dense other) {
+            long[] both = new long[bits.length];
+            int count = 0;
+            for (int i = 0; i < bits.length; i++) {
+                both[i] = bits[i] & other.bits[i];
+                count += Long.bitCount(both[i]);
+            }
+            return fromBits(getUniverse(), both, count);
+        }
+
+        @Override
+        Form getForm() {
+            return Form.DENSE;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lists the colorings that the game can actually produce for a guess, in the canonical form that
+ * {@link WordMatcher} expects. Of the 3^wordLength ways to color a guess, many can never happen: a yellow can't
+ * follow a gray for the same letter, and a letter can't be yellow if every other spot is already green with that
+ * letter. Skipping them saves filtering the dictionary for colorings that can't match anything.
+ * <p/>
+ * Which colorings are possible only depends on where the guess repeats letters, not on the letters themselves, so
+ * "abcde" and "fghij" share the same list. The lists are cached by that signature.
+ */
+public class ColoringEnumerator {
+
+    private static final int YELLOW = 1;
+    private static final int GREEN = 2;
+
+    private final PatternCalculator patternCalculator;
+    private final int wordLength;
+    private final Map<Long, Colorings> cache = new ConcurrentHashMap<>();
+
+    public ColoringEnumerator(PatternCalculator patternCalculator) {
+        if (patternCalculator.getWordLength() > 16) {
+            throw new IllegalArgumentException("Words longer than 16 letters are not supported");
+        }
+        this.patternCalculator = patternCalculator;
+        this.wordLength = patternCalculator.getWordLength();
+    }
+
+    public PatternCalculator getPatternCalculator() {
+        return patternCalculator;
+    }
+
+    /**
+     * Gets every coloring that the game could produce for the guess. The arrays are shared, so they must not be
+     * modified.
+     *
+     * @param guess the letters of the guess
+     * @return the possible colorings
+     */
+    public List<Color[]> getColorings(char[] guess) {
+        return getOrCompute(guess).colors;
+    }
+
+    /**
+     * Gets the codes (see {@link PatternCalculator}) of every coloring that the game could produce for the guess. The
+     * array is shared, so it must not be modified.
+     *
+     * @param guess the letters of the guess
+     * @return the possible codes, in ascending order
+     */
+    public int[] getPatterns(char[] guess) {
+        return getOrCompute(guess).patterns;
+    }
+
+    /**
+     * Checks whether the game could produce the given coloring for the guess.
+     */
+    public boolean isPossible(char[] guess, Color[] colors) {
+        return isPossible(guess, patternCalculator.encode(colors));
+    }
+
+    /**
+     * Checks whether the game could produce the given coloring, as a {@link PatternCode}, for the guess.
+     */
+    public boolean isPossible(char[] guess, int pattern) {
+        return Arrays.binarySearch(getPatterns(guess), pattern) >= 0;
+    }
+
+    /**
+     * Rewrites a coloring into the canonical form. When a guess repeats a letter and only some of the copies are in
+     * the target word, it doesn't matter which of the copies are marked yellow. The canonical form marks the leftmost
+     * ones, which is what the game does, but a player might enter it the other way around.
+     *
+     * @param guess the letters of the guess
+     * @param colors the coloring to rewrite
+     * @return a canonical coloring that matches the same words
+     */
+    public Color[] canonicalize(char[] guess, Color[] colors) {
+        if (guess.length != wordLength || colors.length != wordLength) {
+            throw new IllegalArgumentException("exactly " + wordLength + " colors are required");
+        }
+
+        for (Color color : colors) {
+            if (color == null) {
+                throw new IllegalArgumentException("Every position needs a color");
+            }
+        }
+
+        Color[] canonical = new Color[wordLength];
+        for (int i = 0; i < wordLength; i++) {
+            if (colors[i] == Color.GREEN) {
+                canonical[i] = Color.GREEN;
+                continue;
+            }
+            // this copy is yellow if the player marked more copies of the letter yellow than there are non-green
+            // copies to the left of it
+            int yellows = 0;
+            int notGreenBefore = 0;
+            for (int j = 0; j < wordLength; j++) {
+                if (guess[j] == guess[i]) {
+                    if (colors[j] == Color.YELLOW) {
+                        yellows++;
+                    }
+                    if (j < i && colors[j] != Color.GREEN) {
+                        notGreenBefore++;
+                    }
+                }
+            }
+            canonical[i] = notGreenBefore < yellows ? Color.YELLOW : Color.GRAY;
+        }
+        return canonical;
+    }
+
+    /**
+     * Same as {@link #canonicalize(char[], Color[])}, for a coloring as a {@link PatternCode}.
+     */
+    public int canonicalize(char[] guess, int pattern) {
+        PatternCode.checkCode(pattern, wordLength);
+        return patternCalculator.encode(canonicalize(guess, PatternCode.toColors(pattern, wordLength)));
+    }
+
+    private Colorings getOrCompute(char[] guess) {
+        if (guess.length != wordLength) {
+            throw new IllegalArgumentException("Word length must be " + wordLength);
+        }
+        int[] letterIds = toLetterIds(guess);
+        return cache.computeIfAbsent(signature(letterIds), s -> enumerate(letterIds));
+    }
+
+    private Colorings enumerate(int[] letterIds) {
+        List<Integer> possible = new ArrayList<>();
+        int[] digits = new int[wordLength];
+        for (int code = 0; code < patternCalculator.getNumPatterns(); code++) {
+            int remainder = code;
+            for (int i = 0; i < wordLength; i++) {
+                digits[i] = remainder % 3;
+                remainder /= 3;
+            }
+            if (isPossible(letterIds, digits)) {
+                possible.add(code);
+            }
+        }
+
+        int[] patterns = new int[possible.size()];
+        List<Color[]> colors = new ArrayList<>(possible.size());
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = possible.get(i);
+            colors.add(patternCalculator.decode(patterns[i]));
+        }
+        return new Colorings(patterns, Collections.unmodifiableList(colors));
+    }
+
+    /**
+     * A coloring is possible if there is some target word that produces it. For each letter in the guess:
+     * <ul>
+     *     <li>the yellows must be the leftmost of its copies that aren't green</li>
+     *     <li>each yellow copy has to be somewhere else in the target. It can't be at a green spot, and it can't be at a
+     *     spot where the guess has the same letter, because that spot would have been green. So the yellows can't
+     *     outnumber the non-green spots that hold some other letter.</li>
+     * </ul>
+     * Any spots left over in the target can be filled with a letter that isn't in the guess.
+     */
+    private boolean isPossible(int[] letterIds, int[] digits) {
+        int numNotGreen = 0;
+        for (int digit : digits) {
+            if (digit != GREEN) {
+                numNotGreen++;
+            }
+        }
+
+        for (int letter = 0; letter < wordLength; letter++) {
+            int notGreen = 0;
+            int yellows = 0;
+            boolean seenGray = false;
+            for (int i = 0; i < wordLength; i++) {
+                if (letterIds[i] != letter || digits[i] == GREEN) {
+                    continue;
+                }
+                notGreen++;
+                if (digits[i] == YELLOW) {
+                    if (seenGray) {
+                        return false;
+                    }
+                    yellows++;
+                } else {
+                    seenGray = true;
+                }
+            }
+            if (yellows > numNotGreen - notGreen) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Numbers the distinct letters of the guess in order of first appearance, so "speed" becomes [0, 1, 2, 2, 3].
+     */
+    private int[] toLetterIds(char[] guess) {
+        int[] ids = new int[guess.length];
+        int nextId = 0;
+        for (int i = 0; i < guess.length; i++) {
+            ids[i] = -1;
+            for (int j = 0; j < i; j++) {
+                if (guess[j] == guess[i]) {
+                    ids[i] = ids[j];
+                    break;
+                }
+            }
+            if (ids[i] == -1) {
+                ids[i] = nextId++;
+            }
+        }
+        return ids;
+    }
+
+    private long signature(int[] letterIds) {
+        long signature = 0;
+        for (int id : letterIds) {
+            signature = (signature << 4) | id;
+        }
+        return signature;
+    }
+
+    private static final class Colorings {
+        private final int[] patterns;
+        private final List<Color[]> colors;
+
+        Colorings(int[] patterns, List<Color[]> colors) {
+            this.patterns = patterns;
+            this.colors = colors;
+        }
+    }
+}
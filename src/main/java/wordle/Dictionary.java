@@ -1,41 +1,132 @@
 package wordle;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Contains the set of words that are possible at any given point in the game.
+ * <p/>
+ * The words themselves live in a {@link WordList}, which can be shared between games. A dictionary only keeps track
+ * of which of those words are still possible, as a {@link CandidateSet}, so starting a new game over an already loaded
+ * word list is cheap. The set shrinks to a few ints once the game is down to a few words. Narrowing down one
+ * dictionary doesn't affect any other dictionary over the same word list.
  */
 public class Dictionary {
-    private List<String> dictionary;
+    private WordList wordList;
+    // never changes, so copies of this dictionary can share it until one of them narrows
+    private CandidateSet candidates;
+
+    // the words that are still possible, built on demand since the matcher asks for them over and over
+    private List<String> words;
 
     public Dictionary() {
-        this(new ArrayList<>(5000));
+        this(new WordList(List.of()));
     }
 
     public Dictionary(List<String> words) {
-        this.dictionary = new ArrayList<>(words);
+        this(new WordList(words));
+    }
+
+    /**
+     * Creates a dictionary where every word in the list is possible.
+     */
+    public Dictionary(WordList wordList) {
+        this(wordList, wordList.getEveryWord());
+    }
+
+    /**
+     * Creates a dictionary where only the given words of the list are possible.
+     */
+    public Dictionary(WordList wordList, CandidateSet candidates) {
+        if (candidates.getUniverse() != wordList.size()) {
+            throw new IllegalArgumentException("The candidates are for a list of " + candidates.getUniverse()
+                    + " words, not " + wordList.size());
+        }
+        this.wordList = wordList;
+        this.candidates = candidates;
+    }
+
+    /**
+     * @return an independent dictionary with the same possible words, sharing the same word list
+     */
+    public Dictionary copy() {
+        return new Dictionary(wordList, candidates);
+    }
+
+    public WordList getWordList() {
+        return wordList;
+    }
+
+    /**
+     * @return whether the word at the given index of the word list is still possible
+     */
+    public boolean contains(int index) {
+        return candidates.contains(index);
+    }
+
+    /**
+     * @return the indexes in the word list of the words that are still possible
+     */
+    public CandidateSet getCandidates() {
+        return candidates;
     }
 
+    /**
+     * Adds a word to this dictionary only. Since the word list is shared, this copies it, so it is meant for building
+     * small dictionaries by hand. Load large ones into a {@link WordList} instead.
+     */
     public void addWord(String word) {
-        dictionary.add(word);
+        List<String> all = new ArrayList<>(wordList.getWords());
+        all.add(word);
+        wordList = new WordList(all);
+
+        int[] indexes = Arrays.copyOf(candidates.toArray(), candidates.size() + 1);
+        indexes[indexes.length - 1] = all.size() - 1;
+        candidates = CandidateSet.of(all.size(), indexes);
+        words = null;
     }
 
     public int size() {
-        return dictionary.size();
+        return candidates.size();
     }
 
     public List<String> getWords() {
-        return Collections.unmodifiableList(dictionary);
+        if (words == null) {
+            List<String> possible = new ArrayList<>(candidates.size());
+            for (int i = nextCandidate(0); i >= 0; i = nextCandidate(i + 1)) {
+                possible.add(wordList.get(i));
+            }
+            words = Collections.unmodifiableList(possible);
+        }
+        return words;
     }
 
     public void intersect(Set<String> wordsToRetain) {
-        // it's inefficient, but it's only done once per guess.
-        Set<String> newWords = new HashSet<>(dictionary);
-        newWords.retainAll(wordsToRetain);
-        dictionary = new ArrayList<>(newWords);
+        setCandidates(candidates.retain(i -> wordsToRetain.contains(wordList.get(i))));
+    }
+
+    /**
+     * Same as {@link #intersect(Set)}, with the words to keep as indexes into the word list, which saves looking the
+     * words up.
+     */
+    public void intersect(CandidateSet candidatesToRetain) {
+        setCandidates(candidates.intersect(candidatesToRetain));
+    }
+
+    private void setCandidates(CandidateSet narrowed) {
+        if (narrowed != candidates) {
+            candidates = narrowed;
+            words = null;
+        }
+    }
+
+    /**
+     * @return the index of the first possible word at or after the given index, or -1 if there are none
+     */
+    public int nextCandidate(int from) {
+        return candidates.next(from);
     }
 }
@@ -3,6 +3,9 @@ package wordle;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DictionaryFileLoader {
 
@@ -18,17 +21,25 @@ public class DictionaryFileLoader {
      *
      */
     public Dictionary buildDictionary() throws IOException {
-        Dictionary dictionary = new Dictionary();
+        return new Dictionary(buildWordList());
+    }
+
+    /**
+     * Loads the words from the given dictionary file into a list that can be shared by any number of games. Each game
+     * then gets its own {@link Dictionary} over the list.
+     */
+    public WordList buildWordList() throws IOException {
+        List<String> words = new ArrayList<>(5000);
 
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(
-                this.getClass().getResourceAsStream(filePath)))) {
+                this.getClass().getResourceAsStream(filePath), StandardCharsets.UTF_8))) {
 
             String line;
             while ((line = reader.readLine()) != null) {
-                dictionary.addWord(line);
+                words.add(line);
             }
         }
 
-        return dictionary;
+        return new WordList(words);
     }
 }
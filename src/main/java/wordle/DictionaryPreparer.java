@@ -2,24 +2,26 @@ package wordle;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 public class DictionaryPreparer {
 
     private static final int WORD_LENGTH = 5;
 
     /**
-     * Loads a dictionary file, filters it down to just the words of the right length, and writes it back out.
+     * Loads a dictionary file, filters it down to just the words of the right length, and writes it back out. Both
+     * files are UTF-8, so dictionaries with accented letters come through intact.
      *
      * @param inputFile the raw dictionary
      * @param outputFile the trimmed dictionary
      * @throws IOException if the file could not be loaded
      */
     public void prepare(String inputFile, String outputFile) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new FileReader(inputFile));
-             BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(inputFile), StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(Paths.get(outputFile), StandardCharsets.UTF_8)) {
 
             String line = reader.readLine();
 
@@ -43,9 +45,13 @@ public class DictionaryPreparer {
                 && checkLetters(word);
     }
 
+    /**
+     * Any letter of any language will do, including the accented letters of Spanish, German or Polish. The words then
+     * make up the dictionary's {@link Alphabet} when it is loaded.
+     */
     private boolean checkLetters(String word) {
         for (char c : word.toCharArray()) {
-            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+            if (!Character.isLetter(c)) {
                 return false;
             }
         }
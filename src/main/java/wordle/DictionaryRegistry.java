@@ -0,0 +1,258 @@
+package wordle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the dictionaries for several kinds of game loaded at once, such as different word lengths, languages or
+ * answer lists. Each dictionary is loaded once into a {@link SharedDictionary}, and every game on it shares its word
+ * list and indexes.
+ * <p/>
+ * Dictionaries are registered by name up front, but only loaded when a game first asks for one. When the loaded
+ * dictionaries add up to more than the memory budget, the ones used least recently are dropped until they fit again,
+ * and are loaded again the next time they are asked for. Games already playing on a dropped dictionary are not
+ * affected, since they hold on to it themselves. The dictionary that was just asked for is never dropped, so one that
+ * is bigger than the whole budget is still served.
+ * <p/>
+ * Memory is counted with {@link SharedDictionary#estimateBytes()}, which is only an estimate. Indexes that are built
+ * between requests are counted on the next request.
+ */
+public class DictionaryRegistry {
+
+    /**
+     * Where a dictionary's words come from. It is called again each time the dictionary has to be loaded.
+     */
+    public interface Source {
+        WordList load() throws IOException;
+
+        /**
+         * @param path a dictionary file on the classpath, such as "/dictionary.txt"
+         */
+        static Source resource(String path) {
+            return () -> new DictionaryFileLoader(path).buildWordList();
+        }
+
+        /**
+         * @param file a dictionary file with one word per line
+         */
+        static Source file(Path file) {
+            return () -> new WordList(WordListWatcher.readWords(file));
+        }
+    }
+
+    private final long memoryBudget;
+    // in name order, so the stats come out in a stable order
+    private final Map<String, Entry> entries = new ConcurrentSkipListMap<>();
+    // counts requests, so that entries can be ordered by when they were last used
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * @param memoryBudget roughly how many bytes the loaded dictionaries may take up between them
+     */
+    public DictionaryRegistry(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Adds a dictionary that games can ask for by name. Nothing is loaded until then.
+     *
+     * @throws IllegalArgumentException if there is already a dictionary with the name
+     */
+    public void register(String name, Source source) {
+        if (entries.putIfAbsent(name, new Entry(name, source)) != null) {
+            throw new IllegalArgumentException("There is already a dictionary named " + name);
+        }
+    }
+
+    /**
+     * Gets the dictionary, loading it if it isn't loaded already. That may drop other dictionaries to stay within the
+     * memory budget.
+     *
+     * @throws IllegalArgumentException if there is no dictionary with the name
+     */
+    public SharedDictionary get(String name) throws IOException {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("No dictionary named " + name);
+        }
+        SharedDictionary dictionary;
+        // only this entry is locked while loading, so other dictionaries can be served in the meantime
+        synchronized (entry) {
+            if (entry.dictionary == null) {
+                entry.dictionary = new SharedDictionary(name, entry.source.load());
+                entry.loads++;
+            } else {
+                entry.hits++;
+            }
+            entry.lastUsed = clock.incrementAndGet();
+            dictionary = entry.dictionary;
+        }
+        evictOverBudget(entry);
+        return dictionary;
+    }
+
+    /**
+     * Starts a new game on the dictionary. See {@link SharedDictionary#newSolver()}.
+     */
+    public Solver newSolver(String name) throws IOException {
+        return get(name).newSolver();
+    }
+
+    /**
+     * Drops the dictionary, if it is loaded. It will be loaded again the next time it is asked for.
+     *
+     * @return whether it was loaded
+     */
+    public boolean evict(String name) {
+        Entry entry = entries.get(name);
+        return entry != null && entry.evict();
+    }
+
+    /**
+     * @return roughly how many bytes the loaded dictionaries take up between them
+     */
+    public long getMemoryUsed() {
+        long used = 0;
+        for (Entry entry : entries.values()) {
+            used += entry.getStats().getBytes();
+        }
+        return used;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * @return the stats for every registered dictionary, in name order
+     */
+    public List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            stats.add(entry.getStats());
+        }
+        return stats;
+    }
+
+    /**
+     * Drops the least recently used dictionaries, other than the one just asked for, until the rest fit in the budget.
+     * Only one request does this at a time, so two of them don't both drop a dictionary for the same shortfall.
+     */
+    private synchronized void evictOverBudget(Entry requested) {
+        while (true) {
+            long used = 0;
+            Entry leastRecent = null;
+            for (Entry entry : entries.values()) {
+                synchronized (entry) {
+                    if (entry.dictionary == null) {
+                        continue;
+                    }
+                    used += entry.dictionary.estimateBytes();
+                    if (entry != requested && (leastRecent == null || entry.lastUsed < leastRecent.lastUsed)) {
+                        leastRecent = entry;
+                    }
+                }
+            }
+            if (used <= memoryBudget || leastRecent == null) {
+                return;
+            }
+            leastRecent.evict();
+        }
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final Source source;
+
+        // guarded by this entry
+        private SharedDictionary dictionary;
+        private long hits;
+        private long loads;
+        private long evictions;
+        private volatile long lastUsed;
+
+        private Entry(String name, Source source) {
+            this.name = name;
+            this.source = source;
+        }
+
+        private synchronized boolean evict() {
+            if (dictionary == null) {
+                return false;
+            }
+            dictionary = null;
+            evictions++;
+            return true;
+        }
+
+        private synchronized Stats getStats() {
+            return new Stats(name, dictionary != null, dictionary == null ? 0 : dictionary.estimateBytes(), hits,
+                    loads, evictions);
+        }
+    }
+
+    /**
+     * How one dictionary has been used, as of when the stats were taken.
+     */
+    public static final class Stats {
+        private final String name;
+        private final boolean loaded;
+        private final long bytes;
+        private final long hits;
+        private final long loads;
+        private final long evictions;
+
+        public Stats(String name, boolean loaded, long bytes, long hits, long loads, long evictions) {
+            this.name = name;
+            this.loaded = loaded;
+            this.bytes = bytes;
+            this.hits = hits;
+            this.loads = loads;
+            this.evictions = evictions;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isLoaded() {
+            return loaded;
+        }
+
+        /**
+         * @return roughly how many bytes the dictionary takes up, or 0 if it isn't loaded
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return how many requests were served by the dictionary that was already loaded
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return how many times the dictionary was loaded, including reloads after it was dropped
+         */
+        public long getLoads() {
+            return loads;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %s, %d KB, %d hits, %d loads, %d evictions", name,
+                    loaded ? "loaded" : "not loaded", bytes / 1024, hits, loads, evictions);
+        }
+    }
+}
@@ -32,6 +32,20 @@ public class EntropyCalculator {
         }
     }
 
+    /**
+     * Same as {@link #calculateEntropy(int, int)}, but for when the probability of the outcome is only estimated.
+     *
+     * @param pMatch the probability that the target word results in the color combination
+     * @return the entropy of the guess
+     */
+    public double calculateEntropy(double pMatch) {
+        if (pMatch <= 0.0 || pMatch >= 1.0) {
+            return 0.0;
+        }
+        double pNoMatch = 1.0 - pMatch;
+        return -1 * (pMatch * log2(pMatch) + pNoMatch * log2(pNoMatch));
+    }
+
     private double log2(double n) {
         return Math.log(n) / Math.log(2);
     }
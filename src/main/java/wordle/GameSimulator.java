@@ -0,0 +1,57 @@
+package wordle;
+
+/**
+ * Plays whole games with the {@link Solver}, with the simulator standing in for the player who types in the colors.
+ * The word list is shared between the games, so each game only costs its own {@link Dictionary}.
+ */
+public class GameSimulator {
+
+    private final WordList wordList;
+    private final int maxGuesses;
+    private final PatternCalculator patternCalculator;
+    private final ColoringEnumerator coloringEnumerator;
+    private final EntropyCalculator entropyCalculator = new EntropyCalculator();
+
+    /**
+     * @param wordList the words the solver picks from, which are also the possible answers
+     * @param maxGuesses how many guesses the solver gets before the game counts as lost
+     */
+    public GameSimulator(WordList wordList, int maxGuesses) {
+        if (wordList.size() == 0) {
+            throw new IllegalArgumentException("The word list is empty");
+        }
+        this.wordList = wordList;
+        this.maxGuesses = maxGuesses;
+        this.patternCalculator = new PatternCalculator(wordList.get(0).length());
+        this.coloringEnumerator = new ColoringEnumerator(patternCalculator);
+    }
+
+    /**
+     * @param firstWord the word to open with
+     * @param answer the word to find
+     * @return the number of guesses it took to find the answer, or 0 if the solver ran out of guesses
+     */
+    public int play(String firstWord, String answer) {
+        int wordLength = patternCalculator.getWordLength();
+        Dictionary dictionary = new Dictionary(wordList);
+        WordMatcher matcher = new WordMatcher(dictionary);
+        Solver solver = new Solver(wordLength, dictionary, matcher,
+                new GoodnessCalculator(wordLength, matcher, entropyCalculator, coloringEnumerator));
+
+        String guess = firstWord;
+        for (int guesses = 1; guesses <= maxGuesses; guesses++) {
+            int outcome = patternCalculator.calculate(guess, answer);
+            if (outcome == patternCalculator.getSolvedPattern()) {
+                return guesses;
+            }
+            if (guesses < maxGuesses) {
+                guess = solver.findNextWord(guess, patternCalculator.decode(outcome));
+            }
+        }
+        return 0;
+    }
+
+    public int getMaxGuesses() {
+        return maxGuesses;
+    }
+}
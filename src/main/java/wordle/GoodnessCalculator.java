@@ -1,6 +1,5 @@
 package wordle;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -8,16 +7,24 @@ import java.util.List;
  */
 public class GoodnessCalculator {
 
+    // the number of standard errors on either side of an estimate, for about 95% confidence
+    private static final double CONFIDENCE_Z = 1.96;
+
     private final int wordLength;
-    private final int numColorings;
     private final WordMatcher matcher;
     private final EntropyCalculator entropyCalculator;
+    private final ColoringEnumerator coloringEnumerator;
 
     public GoodnessCalculator(int wordLength, WordMatcher matcher, EntropyCalculator entropyCalculator) {
+        this(wordLength, matcher, entropyCalculator, new ColoringEnumerator(new PatternCalculator(wordLength)));
+    }
+
+    public GoodnessCalculator(int wordLength, WordMatcher matcher, EntropyCalculator entropyCalculator,
+            ColoringEnumerator coloringEnumerator) {
         this.wordLength = wordLength;
-        numColorings = (int) Math.pow(3, wordLength);
         this.matcher = matcher;
         this.entropyCalculator = entropyCalculator;
+        this.coloringEnumerator = coloringEnumerator;
     }
 
     /**
@@ -30,91 +37,243 @@ public class GoodnessCalculator {
      * @return the expected reduction of the remaining choices, as a percentage of numChoices
      */
     public double calculateGoodness(String guess, Color[] knownColors, int dictionarySize) {
-        // This could be improved. It doesn't need to be this big except in the worst case.
-        List<Double> goodnessValues = new ArrayList<>(numColorings);
+        char[] letters = guess.toCharArray();
 
-        Color[] stateSpace = new Color[wordLength];
-        System.arraycopy(knownColors, 0, stateSpace, 0, wordLength);
-
-        analyzePossibleOutcomes(guess.toCharArray(), 0, stateSpace, dictionarySize, goodnessValues);
+        double sum = 0.0;
+        for (Color[] outcome : coloringEnumerator.getColorings(letters)) {
+            if (agreesWithKnownColors(outcome, knownColors)) {
+                sum += analyzeOutcome(letters, outcome, dictionarySize);
+            }
+        }
 
         // the average entropy of this guess
-        return average(goodnessValues);
+        return sum / countOutcomes(knownColors);
     }
 
+    /**
+     * Same as {@link #calculateGoodness(String, Color[], int)}, with the known colors as a {@link PatternCode}. The
+     * colorings are tried as codes too, so nothing is allocated per coloring.
+     *
+     * @param knownPattern the colors that are known already. Only the green ones matter.
+     */
+    public double calculateGoodness(String guess, int knownPattern, int dictionarySize) {
+        char[] letters = guess.toCharArray();
+
+        double sum = 0.0;
+        for (int pattern : coloringEnumerator.getPatterns(letters)) {
+            if (agreesWithKnownPattern(pattern, knownPattern)) {
+                sum += entropyCalculator.calculateEntropy(matcher.countMatchingWords(letters, pattern),
+                        dictionarySize);
+            }
+        }
+        return sum / countOutcomes(knownPattern);
+    }
 
     /**
-     * Goes through each of the possible colorings that can arise. Each outcome represents a partition of the
-     * dictionary (every two words can be compared to form a coloring, and two words will always produce a consistent
-     * coloring). For each legal, unique outcome, this analyzes the probability that a randomly chosen target word is in
-     * the set of words in that partition.
-     * <p/>
-     * For each letter, the possibilities are (gray, green, yellow), which leaves 3^wordLength possible color outcomes.
-     * Each of those outcomes has some probability of matching the target word. The amount of information gained is the
-     * entropy of the outcomes: 1) the target is matched by the pattern, 2) the target is not matched by the pattern.
+     * Same as {@link #calculateGoodness(String, Color[], int)}, but for when the number of target words that produce
+     * each coloring has already been counted, so the dictionary doesn't need to be filtered again.
+     *
+     * @param guess the letters of the guess
+     * @param histogram the number of target words for each coloring, indexed by the code from {@link PatternCalculator}
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @param dictionarySize the number of target words that were counted
+     * @return the expected reduction of the remaining choices, as a percentage of numChoices
+     */
+    public double calculateGoodness(char[] guess, int[] histogram, Color[] knownColors, int dictionarySize) {
+        return calculateGoodness(guess, histogram, knownGreens(knownColors), dictionarySize);
+    }
+
+    /**
+     * Same as {@link #calculateGoodness(char[], int[], Color[], int)}, with the known colors as a {@link PatternCode}.
+     */
+    public double calculateGoodness(char[] guess, int[] histogram, int knownPattern, int dictionarySize) {
+        double sum = 0.0;
+        for (int pattern : coloringEnumerator.getPatterns(guess)) {
+            if (agreesWithKnownPattern(pattern, knownPattern)) {
+                sum += entropyCalculator.calculateEntropy(histogram[pattern], dictionarySize);
+            }
+        }
+        return sum / countOutcomes(knownPattern);
+    }
+
+    /**
+     * Estimates the same score as {@link #calculateGoodness(char[], int[], Color[], int)} from a sample of the target
+     * words, which is much cheaper when there are a lot of them. Each coloring's share of the targets is estimated
+     * from the sample, weighting each stratum by its size, and the score is worked out from those shares. Estimating
+     * entropy from a sample tends to come out low, by about the same amount for every coloring seen, so that is added
+     * back.
      * <p/>
-     * There may be a more intelligent way to do this, but it seems to work.
+     * The margin comes from how much the score moves with each sampled target (the delta method), which is close
+     * enough once the sample has a few hundred targets. If the sample is every target, the score is exact.
      *
-     * @param letters The letters in the guess
-     * @param index the index whose color we are choosing
-     * @param outcome the outcome being tested
-     * @param numChoices the number of words being chosen against
-     * @param probabilities the probability that the target word is matched by this outcome coloring. One probability
-     * per valid color outcome tested.
+     * @param guess the letters of the guess
+     * @param sample the target words to count
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @return the estimated score, with a 95% confidence interval
      */
-    private void analyzePossibleOutcomes(char[] letters, int index, Color[] outcome, int numChoices,
-            List<Double> probabilities) {
+    public GoodnessEstimate estimateGoodness(char[] guess, AnswerSample sample, Color[] knownColors) {
+        return estimateGoodness(guess, sample, knownGreens(knownColors));
+    }
 
-        if (index == wordLength) {
-            // some patterns are invalid
-            if (!isOutcomeValid(outcome)) {
-                return;
+    /**
+     * Same as {@link #estimateGoodness(char[], AnswerSample, Color[])}, with the known colors as a
+     * {@link PatternCode}.
+     */
+    public GoodnessEstimate estimateGoodness(char[] guess, AnswerSample sample, int knownPattern) {
+        PatternCalculator patternCalculator = coloringEnumerator.getPatternCalculator();
+        int size = sample.size();
+        int[] codes = new int[size];
+        for (int j = 0; j < size; j++) {
+            codes[j] = patternCalculator.calculate(guess, sample.getAnswer(j));
+        }
+
+        if (sample.isComplete()) {
+            int[] histogram = new int[patternCalculator.getNumPatterns()];
+            for (int code : codes) {
+                histogram[code]++;
             }
-            int numMatching = matcher.countMatchingWords(letters, outcome);
-            probabilities.add(entropyCalculator.calculateEntropy(numMatching, numChoices));
+            return new GoodnessEstimate(calculateGoodness(guess, histogram, knownPattern, size), 0.0, size, true);
+        }
 
-        } else if (outcome[index] == Color.GREEN) {
-            // if we know this letter already, don't try anything else in that spot
-            analyzePossibleOutcomes(letters, index + 1, outcome, numChoices, probabilities);
-        } else {
+        double populationSize = sample.getPopulationSize();
+        double[] shares = new double[patternCalculator.getNumPatterns()];
+        for (int j = 0; j < size; j++) {
+            int stratum = sample.getStratum(j);
+            shares[codes[j]] += sample.getStratumSize(stratum) / (sample.getSampledSize(stratum) * populationSize);
+        }
 
-            // use backtracking to try each of the possible colorings that can result
+        int[] patterns = coloringEnumerator.getPatterns(guess);
+        double samplingFraction = size / populationSize;
+        double biasPerColoring = (1 - samplingFraction) / (2 * size * Math.log(2));
+        // how much the score moves with each coloring's share, or 0 for colorings that don't count
+        double[] slopes = new double[shares.length];
+        double sum = 0.0;
+        for (int i = 0; i < patterns.length; i++) {
+            double share = shares[patterns[i]];
+            if (share > 0 && agreesWithKnownPattern(patterns[i], knownPattern)) {
+                sum += entropyCalculator.calculateEntropy(share);
+                if (share < 1) {
+                    sum += biasPerColoring;
+                }
+                slopes[patterns[i]] = entropySlope(share, size);
+            }
+        }
 
-            // contains this letter
-            outcome[index] = Color.YELLOW;
-            analyzePossibleOutcomes(letters, index + 1, outcome, numChoices, probabilities);
+        double variance = 0.0;
+        double[] slopeSums = new double[sample.getNumStrata()];
+        double[] slopeSquares = new double[sample.getNumStrata()];
+        for (int j = 0; j < size; j++) {
+            double slope = slopes[codes[j]];
+            slopeSums[sample.getStratum(j)] += slope;
+            slopeSquares[sample.getStratum(j)] += slope * slope;
+        }
+        for (int h = 0; h < slopeSums.length; h++) {
+            int sampled = sample.getSampledSize(h);
+            int stratumSize = sample.getStratumSize(h);
+            if (sampled > 1 && sampled < stratumSize) {
+                double weight = stratumSize / populationSize;
+                double stratumVariance = (slopeSquares[h] - slopeSums[h] * slopeSums[h] / sampled) / (sampled - 1);
+                variance += weight * weight * (1 - (double) sampled / stratumSize) * stratumVariance / sampled;
+            }
+        }
 
-            // contains this letter in this position
-            outcome[index] = Color.GREEN;
-            analyzePossibleOutcomes(letters, index + 1, outcome, numChoices, probabilities);
+        double outcomes = countOutcomes(knownPattern);
+        return new GoodnessEstimate(sum / outcomes, CONFIDENCE_Z * Math.sqrt(variance) / outcomes, size, false);
+    }
 
-            // does not contain this letter
-            outcome[index] = Color.GRAY;
-            analyzePossibleOutcomes(letters, index + 1, outcome, numChoices, probabilities);
+    /**
+     * The slope of the entropy at the given share, log2((1 - p) / p). The slope is infinite at 0 and 1, so the share is
+     * kept half a sampled target away from them.
+     */
+    private double entropySlope(double share, int sampleSize) {
+        double limit = 0.5 / sampleSize;
+        double p = Math.min(Math.max(share, limit), 1 - limit);
+        return Math.log((1 - p) / p) / Math.log(2);
+    }
+
+    /**
+     * Each outcome represents a partition of the dictionary (every two words can be compared to form a coloring, and
+     * two words will always produce a consistent coloring). This analyzes the probability that a randomly chosen
+     * target word is in the set of words in that partition.
+     * <p/>
+     * For each letter, the possibilities are (gray, green, yellow), which leaves up to 3^wordLength possible color
+     * outcomes, though only the ones the game can actually produce are tried. Each of those outcomes has some
+     * probability of matching the target word. The amount of information gained is the entropy of the outcomes:
+     * 1) the target is matched by the pattern, 2) the target is not matched by the pattern.
+     *
+     * @param letters The letters in the guess
+     * @param outcome the outcome being tested
+     * @param numChoices the number of words being chosen against
+     * @return the entropy of the outcome
+     */
+    private double analyzeOutcome(char[] letters, Color[] outcome, int numChoices) {
+        int numMatching = matcher.countMatchingWords(letters, outcome);
+        return entropyCalculator.calculateEntropy(numMatching, numChoices);
+    }
 
-            outcome[index] = null;
+    /**
+     * The number of outcomes to average over. This is every coloring of the unknown spots, minus the ones with all but
+     * one spot green and a yellow, which can't happen for any guess. The colorings that can't happen because of
+     * repeated letters are skipped when calculating, but they still count here as outcomes with no information.
+     * Otherwise a guess like "sises", which has few possible colorings, would look better than one that splits the
+     * dictionary more ways.
+     */
+    private int countOutcomes(Color[] knownColors) {
+        int unknown = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (knownColors[i] != Color.GREEN) {
+                unknown++;
+            }
         }
+        // 3^unknown colorings, and one way to put the yellow in each unknown spot with the rest green
+        return (int) Math.pow(3, unknown) - unknown;
     }
 
+    /**
+     * Same as {@link #countOutcomes(Color[])}, for a known pattern code.
+     */
+    private int countOutcomes(int knownPattern) {
+        int unknown = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (!PatternCode.isGreen(knownPattern, i)) {
+                unknown++;
+            }
+        }
+        return (int) Math.pow(3, unknown) - unknown;
+    }
 
-    private boolean isOutcomeValid(Color[] outcome) {
-        int numGreen = 0;
-        int numYellow = 0;
-        for (Color c : outcome) {
-            if (c == Color.GREEN) {
-                numGreen++;
-            } else if (c == Color.YELLOW) {
-                numYellow++;
+    /**
+     * The known colors as a code, keeping only the greens, since those are all that matter and the rest may not be
+     * known at all.
+     */
+    private int knownGreens(Color[] knownColors) {
+        int code = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (knownColors[i] == Color.GREEN) {
+                code = PatternCode.withColor(code, i, Color.GREEN);
             }
         }
-        if (numGreen == wordLength - 1 && numYellow > 0) {
-            return false;
+        return code;
+    }
+
+    private boolean agreesWithKnownPattern(int pattern, int knownPattern) {
+        for (int i = 0; i < wordLength; i++) {
+            if (PatternCode.isGreen(knownPattern, i) && !PatternCode.isGreen(pattern, i)) {
+                return false;
+            }
         }
         return true;
     }
 
-    private double average(List<Double> nums) {
-        double sum = nums.stream().reduce(0.0, Double::sum);
-        return sum / nums.size();
+    /**
+     * If we know a letter already, don't try anything else in that spot.
+     */
+    private boolean agreesWithKnownColors(Color[] outcome, Color[] knownColors) {
+        for (int i = 0; i < wordLength; i++) {
+            if (knownColors[i] == Color.GREEN && outcome[i] != Color.GREEN) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,56 @@
+package wordle;
+
+/**
+ * A goodness score estimated from a sample of the answers, with a confidence interval around it. See
+ * {@link GoodnessCalculator#estimateGoodness}.
+ */
+public final class GoodnessEstimate {
+
+    private final double score;
+    private final double margin;
+    private final int sampleSize;
+    private final boolean exact;
+
+    public GoodnessEstimate(double score, double margin, int sampleSize, boolean exact) {
+        this.score = score;
+        this.margin = margin;
+        this.sampleSize = sampleSize;
+        this.exact = exact;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * @return how far the true score could be from the estimate, with about 95% confidence
+     */
+    public double getMargin() {
+        return margin;
+    }
+
+    public double getLowerBound() {
+        return score - margin;
+    }
+
+    public double getUpperBound() {
+        return score + margin;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * @return whether every answer was counted, so that the score is the same as an exact calculation
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    @Override
+    public String toString() {
+        return exact ? String.format("%.5f", score) : String.format("%.5f +/- %.5f (%d answers)", score, margin,
+                sampleSize);
+    }
+}
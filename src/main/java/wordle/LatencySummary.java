@@ -0,0 +1,54 @@
+package wordle;
+
+import java.util.Arrays;
+
+/**
+ * Percentiles of a set of latencies, such as the turns of a {@link TraceReplay}.
+ */
+public final class LatencySummary {
+
+    private final long[] sortedNanos;
+
+    /**
+     * @param nanos the latencies, in nanoseconds. The array is copied.
+     */
+    public LatencySummary(long[] nanos) {
+        this.sortedNanos = nanos.clone();
+        Arrays.sort(sortedNanos);
+    }
+
+    public int getCount() {
+        return sortedNanos.length;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the smallest latency that at least that percent of the latencies are no greater than, or 0 if there
+     * are none
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Not a percentile: " + percentile);
+        }
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)];
+    }
+
+    public long getMaxNanos() {
+        return sortedNanos.length == 0 ? 0 : sortedNanos[sortedNanos.length - 1];
+    }
+
+    public double getMeanNanos() {
+        return sortedNanos.length == 0 ? 0.0 : Arrays.stream(sortedNanos).average().getAsDouble();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d turns: mean %.3f ms, p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms",
+                getCount(), getMeanNanos() / 1e6, getPercentileNanos(50) / 1e6, getPercentileNanos(90) / 1e6,
+                getPercentileNanos(99) / 1e6, getMaxNanos() / 1e6);
+    }
+}
@@ -0,0 +1,157 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks guesses with a cheap heuristic: a guess is promising if its letters show up in many of the remaining words,
+ * and more so if they show up in the same spots. This takes one pass over the words to count letters and one pass to
+ * score them, so it is a good way to decide which guesses are worth the full {@link GoodnessCalculator} treatment.
+ * See {@link ApproximationBenchmark} for how often the best word is outside the top few.
+ */
+public class LetterFrequencyRanker {
+
+    private final int wordLength;
+    // the letters to count, or null to work them out from the words on each call
+    private final Alphabet alphabet;
+
+    public LetterFrequencyRanker(int wordLength) {
+        this(wordLength, null);
+    }
+
+    /**
+     * @param alphabet the letters of every word that will be ranked, such as {@link WordList#getAlphabet()}
+     */
+    public LetterFrequencyRanker(int wordLength, Alphabet alphabet) {
+        this.wordLength = wordLength;
+        this.alphabet = alphabet;
+    }
+
+    /**
+     * Orders the words from most to least promising, judged against the words themselves. Ties keep their original
+     * order.
+     *
+     * @param words the remaining words
+     * @return a new list with the same words, best first
+     */
+    public List<String> rank(List<String> words) {
+        Frequencies frequencies = count(words);
+        double[] scores = new double[words.size()];
+        List<Integer> order = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            scores[i] = frequencies.score(words.get(i));
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> -scores[i]));
+
+        List<String> ranked = new ArrayList<>(words.size());
+        for (int i : order) {
+            ranked.add(words.get(i));
+        }
+        return ranked;
+    }
+
+    /**
+     * Picks the most promising words, without sorting all of them.
+     *
+     * @param words the remaining words
+     * @param count how many words to pick
+     * @return up to count words, best first. Ties keep their original order.
+     */
+    public List<String> top(List<String> words, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        if (count >= words.size()) {
+            return rank(words);
+        }
+        Frequencies frequencies = count(words);
+        double[] scores = new double[words.size()];
+        // keeps the best words seen so far, with the worst of them on top
+        Comparator<Integer> worstFirst = Comparator.comparingDouble((Integer i) -> scores[i])
+                .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(count + 1, worstFirst);
+        for (int i = 0; i < words.size(); i++) {
+            scores[i] = frequencies.score(words.get(i));
+            best.add(i);
+            if (best.size() > count) {
+                best.poll();
+            }
+        }
+
+        List<String> top = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            top.add(words.get(best.poll()));
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    private Frequencies count(List<String> words) {
+        Frequencies frequencies = new Frequencies(alphabet != null ? alphabet : Alphabet.of(words));
+        for (String word : words) {
+            for (int i = 0; i < wordLength; i++) {
+                int letter = frequencies.code(word, i);
+                frequencies.positional[i][letter]++;
+                if (isFirstOccurrence(word, i)) {
+                    frequencies.overall[letter]++;
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * Words are short, so looking back for the letter is cheaper than keeping a set of the letters seen.
+     */
+    private static boolean isFirstOccurrence(String word, int position) {
+        char letter = word.charAt(position);
+        for (int j = 0; j < position; j++) {
+            if (word.charAt(j) == letter) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final class Frequencies {
+        private final Alphabet alphabet;
+        // the number of words with each letter in each spot, by letter code
+        private final int[][] positional;
+        // the number of words with each letter anywhere
+        private final int[] overall;
+
+        private Frequencies(Alphabet alphabet) {
+            this.alphabet = alphabet;
+            this.positional = new int[wordLength][alphabet.size()];
+            this.overall = new int[alphabet.size()];
+        }
+
+        private int code(String word, int position) {
+            int code = alphabet.code(word.charAt(position));
+            if (code < 0) {
+                throw new IllegalArgumentException("'" + word + "' has a letter that isn't in " + alphabet);
+            }
+            return code;
+        }
+
+        /**
+         * Repeated letters only count once toward the overall score, since a second copy tells us much less than a
+         * new letter would.
+         */
+        private double score(String word) {
+            double score = 0;
+            for (int i = 0; i < wordLength; i++) {
+                int letter = code(word, i);
+                score += positional[i][letter];
+                if (isFirstOccurrence(word, i)) {
+                    score += overall[letter];
+                }
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package wordle;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays many games at once against one {@link SharedDictionary}, to see how the {@link Solver} holds up under load:
+ * how many turns a second it gets through, how long the slowest turns take, and how hard it works the garbage
+ * collector. Run it with different numbers of threads to find where adding threads stops adding turns, which points
+ * at contention over something shared.
+ * <p/>
+ * Each game draws a random answer and one of the given first words, then plays through the solver, with the harness
+ * standing in for the player who types in the colors, like {@link GameSimulator}. Only the solver's turns are timed,
+ * since the first word is fixed. The answers and first words are drawn from the seed before anything starts, so a
+ * run plays the same games whatever the number of threads.
+ */
+public class LoadHarness {
+
+    private final SharedDictionary dictionary;
+    private final List<String> firstWords;
+    private final int maxGuesses;
+    private final PatternCalculator patternCalculator;
+
+    /**
+     * @param firstWords the words the games open with, each picked about equally often
+     * @param maxGuesses how many guesses each game gets before it counts as lost
+     */
+    public LoadHarness(SharedDictionary dictionary, List<String> firstWords, int maxGuesses) {
+        if (firstWords.isEmpty()) {
+            throw new IllegalArgumentException("At least one first word is needed");
+        }
+        for (String word : firstWords) {
+            if (word.length() != dictionary.getWordLength()) {
+                throw new IllegalArgumentException("'" + word + "' is not " + dictionary.getWordLength()
+                        + " letters long");
+            }
+        }
+        this.dictionary = dictionary;
+        this.firstWords = List.copyOf(firstWords);
+        this.maxGuesses = maxGuesses;
+        this.patternCalculator = dictionary.getColoringEnumerator().getPatternCalculator();
+    }
+
+    /**
+     * @param games how many games to play in total
+     * @param threads how many games to play at once
+     * @param seed picks the answers and first words
+     * @param sampleInterval how often to take a sample of the heap
+     */
+    public LoadReport run(int games, int threads, long seed, Duration sampleInterval) throws InterruptedException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        WordList wordList = dictionary.getWordList();
+        // counted as the turns are played, for the heap samples
+        AtomicLong turnsDone = new AtomicLong();
+        Random random = new Random(seed);
+        List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            String answer = wordList.get(random.nextInt(wordList.size()));
+            String firstWord = firstWords.get(random.nextInt(firstWords.size()));
+            tasks.add(() -> play(firstWord, answer, turnsDone));
+        }
+
+        List<LoadReport.HeapSample> heap = Collections.synchronizedList(new ArrayList<>());
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "load-harness-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long[] gcBefore = gcTotals();
+        long start = System.nanoTime();
+        sampler.scheduleAtFixedRate(() -> heap.add(sampleHeap(start, turnsDone)), 0, sampleInterval.toNanos(),
+                TimeUnit.NANOSECONDS);
+
+        List<GameResult> results = new ArrayList<>(games);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<GameResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("A game could not be played", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            sampler.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        sampler.awaitTermination(1, TimeUnit.SECONDS);
+        heap.add(sampleHeap(start, turnsDone));
+        long[] gcAfter = gcTotals();
+
+        int won = 0;
+        int turns = 0;
+        for (GameResult result : results) {
+            won += result.guesses > 0 ? 1 : 0;
+            turns += result.latencies.length;
+        }
+        long[] latencies = new long[turns];
+        int next = 0;
+        for (GameResult result : results) {
+            System.arraycopy(result.latencies, 0, latencies, next, result.latencies.length);
+            next += result.latencies.length;
+        }
+        List<LoadReport.HeapSample> samples;
+        synchronized (heap) {
+            samples = new ArrayList<>(heap);
+        }
+        return new LoadReport(games, won, threads, elapsed, new LatencySummary(latencies),
+                gcAfter[0] - gcBefore[0], Duration.ofMillis(gcAfter[1] - gcBefore[1]), samples);
+    }
+
+    private GameResult play(String firstWord, String answer, AtomicLong turnsDone) {
+        Solver solver = dictionary.newSolver();
+        long[] latencies = new long[Math.max(0, maxGuesses - 1)];
+        int turns = 0;
+        String guess = firstWord;
+        for (int guesses = 1; guesses <= maxGuesses; guesses++) {
+            int outcome = patternCalculator.calculate(guess, answer);
+            if (outcome == patternCalculator.getSolvedPattern()) {
+                return new GameResult(guesses, Arrays.copyOf(latencies, turns));
+            }
+            if (guesses < maxGuesses) {
+                long start = System.nanoTime();
+                guess = solver.findNextWord(guess, outcome);
+                latencies[turns++] = System.nanoTime() - start;
+                turnsDone.incrementAndGet();
+            }
+        }
+        return new GameResult(0, Arrays.copyOf(latencies, turns));
+    }
+
+    /**
+     * Samples the heap, along with how many turns have been played so far.
+     */
+    private static LoadReport.HeapSample sampleHeap(long start, AtomicLong turnsDone) {
+        MemoryUsage usage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return new LoadReport.HeapSample(Duration.ofNanos(System.nanoTime() - start), turnsDone.get(),
+                usage.getUsed(), usage.getCommitted());
+    }
+
+    /**
+     * @return the number of collections so far and the milliseconds spent in them, over every collector that reports
+     * them
+     */
+    private static long[] gcTotals() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 means the collector doesn't keep track
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[] {count, millis};
+    }
+
+    private static final class GameResult {
+        // the number of guesses, or 0 if the game was lost
+        private final int guesses;
+        private final long[] latencies;
+
+        private GameResult(int guesses, long[] latencies) {
+            this.guesses = guesses;
+            this.latencies = latencies;
+        }
+    }
+
+    /**
+     * Plays games against the bundled dictionary and prints the report.
+     * <p/>
+     * Arguments, all optional: how many games to play, 200 by default; how many threads, the number of processors by
+     * default; and the seed, 1 by default.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        SharedDictionary dictionary = new SharedDictionary("/dictionary.txt",
+                new DictionaryFileLoader("/dictionary.txt").buildWordList());
+        LoadHarness harness = new LoadHarness(dictionary, List.of("tares", "crane", "slate", "trace"), 6);
+        System.out.println("Playing " + games + " games on " + threads + " thread(s)...");
+        System.out.println(harness.run(games, threads, seed, Duration.ofSeconds(1)));
+    }
+}
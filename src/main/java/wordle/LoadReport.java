@@ -0,0 +1,150 @@
+package wordle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * What a {@link LoadHarness} run found: how fast the turns went, how long they took, and what the garbage collector
+ * and the heap were doing meanwhile.
+ */
+public final class LoadReport {
+
+    private final int games;
+    private final int won;
+    private final int threads;
+    private final Duration elapsed;
+    private final LatencySummary latency;
+    private final long gcCount;
+    private final Duration gcTime;
+    private final List<HeapSample> heap;
+
+    public LoadReport(int games, int won, int threads, Duration elapsed, LatencySummary latency, long gcCount,
+            Duration gcTime, List<HeapSample> heap) {
+        this.games = games;
+        this.won = won;
+        this.threads = threads;
+        this.elapsed = elapsed;
+        this.latency = latency;
+        this.gcCount = gcCount;
+        this.gcTime = gcTime;
+        this.heap = heap;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return how many of the games found the answer within the allowed guesses
+     */
+    public int getWon() {
+        return won;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getTurns() {
+        return latency.getCount();
+    }
+
+    /**
+     * @return how long the whole run took
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public double getTurnsPerSecond() {
+        double seconds = elapsed.getSeconds() + elapsed.getNano() / 1e9;
+        return seconds == 0 ? 0.0 : getTurns() / seconds;
+    }
+
+    public LatencySummary getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return how many garbage collections there were during the run, in the whole JVM
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @return the time spent in garbage collections during the run, as the collectors report it. For the usual
+     * collectors that is the time the application was paused, and the work they do alongside it isn't counted.
+     */
+    public Duration getGcTime() {
+        return gcTime;
+    }
+
+    /**
+     * @return the heap samples, in the order they were taken, from the start of the run to the end
+     */
+    public List<HeapSample> getHeap() {
+        return heap;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Played %d games (%d won) on %d thread(s) in %d ms: %d turns, %.1f turns/s%n",
+                games, won, threads, elapsed.toMillis(), getTurns(), getTurnsPerSecond()));
+        report.append(String.format("Turn latency: p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+                latency.getPercentileNanos(50) / 1e6, latency.getPercentileNanos(99) / 1e6,
+                latency.getPercentileNanos(99.9) / 1e6, latency.getMaxNanos() / 1e6));
+        report.append(String.format("GC: %d collection(s), %d ms%n", gcCount, gcTime.toMillis()));
+        report.append("Heap:").append(System.lineSeparator());
+        for (HeapSample sample : heap) {
+            report.append("    ").append(sample).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * The heap at one point in the run.
+     */
+    public static final class HeapSample {
+        private final Duration elapsed;
+        private final long turns;
+        private final long usedBytes;
+        private final long committedBytes;
+
+        public HeapSample(Duration elapsed, long turns, long usedBytes, long committedBytes) {
+            this.elapsed = elapsed;
+            this.turns = turns;
+            this.usedBytes = usedBytes;
+            this.committedBytes = committedBytes;
+        }
+
+        /**
+         * @return how far into the run the sample was taken
+         */
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        /**
+         * @return how many turns had been played by then
+         */
+        public long getTurns() {
+            return turns;
+        }
+
+        public long getUsedBytes() {
+            return usedBytes;
+        }
+
+        public long getCommittedBytes() {
+            return committedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%6d ms: %7d turns, %5d MB used of %5d MB", elapsed.toMillis(), turns,
+                    usedBytes >> 20, committedBytes >> 20);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package wordle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Plays several {@link ScoringObjective}s against each other: each one plays a game against every word in the
+ * dictionary, always picking the remaining word it scores best, the way {@link Solver} does. The results say how many
+ * guesses each objective takes on average and at worst.
+ * <p/>
+ * The objectives share as much of the work as they can. The colorings come from one {@link PatternTable}, and the
+ * first time any game reaches a set of remaining words, every guess is counted into an {@link OutcomeHistogram} once
+ * and every objective scores it from there. The objectives often agree, so their games go through many of the same
+ * states, and each state's picks are remembered for all of them.
+ */
+public class ObjectiveTournament {
+
+    private final PatternTable table;
+    private final ColoringEnumerator coloringEnumerator;
+    private final List<ScoringObjective> objectives;
+    private final int maxGuesses;
+    private final char[][] letters;
+    private final int[] everyWord;
+
+    // the word each objective picks, by the remaining words and the last coloring
+    private final Map<StateKey, int[]> picks = new ConcurrentHashMap<>();
+
+    /**
+     * @param table the colorings between every pair of words. Every word is both a guess and an answer.
+     * @param coloringEnumerator lists the colorings of a guess, for the same word length as the table
+     * @param maxGuesses how many guesses each game gets before it counts as lost
+     */
+    public ObjectiveTournament(PatternTable table, ColoringEnumerator coloringEnumerator,
+            List<ScoringObjective> objectives, int maxGuesses) {
+        if (coloringEnumerator.getPatternCalculator().getWordLength() != table.getCalculator().getWordLength()) {
+            throw new IllegalArgumentException("The enumerator is for a different word length than the table");
+        }
+        this.table = table;
+        this.coloringEnumerator = coloringEnumerator;
+        this.objectives = List.copyOf(objectives);
+        this.maxGuesses = maxGuesses;
+        this.letters = new char[table.size()][];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = table.getWord(i).toCharArray();
+        }
+        this.everyWord = IntStream.range(0, table.size()).toArray();
+    }
+
+    /**
+     * Plays every objective against every answer, in parallel.
+     *
+     * @param firstWord the word every game opens with
+     * @return one result for each objective, in the same order
+     */
+    public List<Result> run(String firstWord) {
+        int first = table.indexOf(firstWord);
+        if (first < 0) {
+            throw new IllegalArgumentException("'" + firstWord + "' is not in the table");
+        }
+        int[][] guesses = new int[objectives.size()][table.size()];
+        IntStream.range(0, table.size()).parallel().forEach(answer -> {
+            for (int objective = 0; objective < objectives.size(); objective++) {
+                guesses[objective][answer] = play(objective, first, answer);
+            }
+        });
+
+        List<Result> results = new ArrayList<>(objectives.size());
+        for (int objective = 0; objective < objectives.size(); objective++) {
+            int[] distribution = new int[maxGuesses + 1];
+            for (int count : guesses[objective]) {
+                distribution[count]++;
+            }
+            results.add(new Result(objectives.get(objective).getName(), distribution));
+        }
+        return results;
+    }
+
+    /**
+     * @return the number of guesses it took to find the answer, or 0 if the objective ran out of guesses
+     */
+    private int play(int objective, int first, int answer) {
+        int solved = table.getCalculator().getSolvedPattern();
+        int[] remaining = everyWord;
+        int guess = first;
+        for (int guesses = 1; guesses <= maxGuesses; guesses++) {
+            int outcome = table.get(guess, answer);
+            if (outcome == solved) {
+                return guesses;
+            }
+            remaining = narrow(remaining, guess, outcome);
+            guess = pick(remaining, outcome)[objective];
+        }
+        return 0;
+    }
+
+    private int[] narrow(int[] remaining, int guess, int outcome) {
+        int[] matching = new int[remaining.length];
+        int count = 0;
+        for (int word : remaining) {
+            if (table.get(guess, word) == outcome) {
+                matching[count++] = word;
+            }
+        }
+        return Arrays.copyOf(matching, count);
+    }
+
+    /**
+     * @return the word each objective picks, in the same order as the objectives
+     */
+    private int[] pick(int[] remaining, int knownPattern) {
+        StateKey key = new StateKey(remaining, knownPattern);
+        int[] cached = picks.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int[] best = new int[objectives.size()];
+        if (remaining.length == 1) {
+            Arrays.fill(best, remaining[0]);
+        } else {
+            double[] bestScores = new double[objectives.size()];
+            Arrays.fill(bestScores, Double.NEGATIVE_INFINITY);
+            int[] counts = new int[table.getCalculator().getNumPatterns()];
+            for (int guess : remaining) {
+                Arrays.fill(counts, 0);
+                for (int answer : remaining) {
+                    counts[table.get(guess, answer)]++;
+                }
+                OutcomeHistogram histogram = new OutcomeHistogram(letters[guess],
+                        coloringEnumerator.getPatterns(letters[guess]), counts, remaining.length, knownPattern);
+                for (int objective = 0; objective < best.length; objective++) {
+                    double score = objectives.get(objective).score(histogram);
+                    // ties go to the word that comes first
+                    if (score > bestScores[objective]) {
+                        bestScores[objective] = score;
+                        best[objective] = guess;
+                    }
+                }
+            }
+        }
+        // another game may have worked it out at the same time, which gives the same picks
+        picks.put(key, best);
+        return best;
+    }
+
+    private static final class StateKey {
+        private final int[] words;
+        private final int knownPattern;
+        private final int hash;
+
+        StateKey(int[] words, int knownPattern) {
+            this.words = words;
+            this.knownPattern = knownPattern;
+            this.hash = 31 * Arrays.hashCode(words) + knownPattern;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StateKey)) {
+                return false;
+            }
+            StateKey other = (StateKey) o;
+            return hash == other.hash && knownPattern == other.knownPattern && Arrays.equals(words, other.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * How one objective did over every game.
+     */
+    public static final class Result {
+        private final String name;
+        private final int[] distribution;
+
+        /**
+         * @param distribution the number of games won in each number of guesses, with the games lost at index 0
+         */
+        public Result(String name, int[] distribution) {
+            this.name = name;
+            this.distribution = distribution.clone();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getGames() {
+            return Arrays.stream(distribution).sum();
+        }
+
+        public int getWon() {
+            return getGames() - distribution[0];
+        }
+
+        /**
+         * @return the number of games that took exactly the given number of guesses, or that were lost for 0
+         */
+        public int getGames(int guesses) {
+            return guesses < distribution.length ? distribution[guesses] : 0;
+        }
+
+        /**
+         * @return the average number of guesses in the games that were won
+         */
+        public double getMeanGuesses() {
+            long total = 0;
+            for (int guesses = 1; guesses < distribution.length; guesses++) {
+                total += (long) guesses * distribution[guesses];
+            }
+            return getWon() == 0 ? 0.0 : (double) total / getWon();
+        }
+
+        /**
+         * @return the most guesses any won game took
+         */
+        public int getMaxGuesses() {
+            for (int guesses = distribution.length - 1; guesses > 0; guesses--) {
+                if (distribution[guesses] > 0) {
+                    return guesses;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder counts = new StringBuilder();
+            for (int guesses = 1; guesses < distribution.length; guesses++) {
+                counts.append(' ').append(guesses).append(':').append(distribution[guesses]);
+            }
+            return String.format("%-20s won %d/%d, mean %.4f guesses, worst %d,%s", name, getWon(), getGames(),
+                    getMeanGuesses(), getMaxGuesses(), counts);
+        }
+    }
+
+    /**
+     * Plays the built-in objectives against the bundled dictionary.
+     * <p/>
+     * Arguments: optionally the first word, "tares" by default.
+     */
+    public static void main(String[] args) throws IOException {
+        String firstWord = args.length > 0 ? args[0] : "tares";
+        SharedDictionary dictionary = new SharedDictionary("/dictionary.txt",
+                new DictionaryFileLoader("/dictionary.txt").buildWordList());
+        GoodnessCalculator goodnessCalculator = new GoodnessCalculator(dictionary.getWordLength(),
+                new WordMatcher(dictionary.newDictionary()), new EntropyCalculator(),
+                dictionary.getColoringEnumerator());
+        List<ScoringObjective> objectives = List.of(ScoringObjective.averageEntropy(goodnessCalculator),
+                ScoringObjective.entropy(), ScoringObjective.expectedRemaining(), ScoringObjective.worstCase(),
+                ScoringObjective.distinctOutcomes());
+
+        long start = System.nanoTime();
+        ObjectiveTournament tournament = new ObjectiveTournament(dictionary.getPatternTable(),
+                dictionary.getColoringEnumerator(), objectives, 6);
+        System.out.println("Playing " + dictionary.getWordList().size() + " games per objective, starting with "
+                + firstWord + "...");
+        for (Result result : tournament.run(firstWord)) {
+            System.out.println(result);
+        }
+        System.out.println("Done in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
@@ -0,0 +1,674 @@
+package wordle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds a provably optimal strategy for the dictionary, offline. Unlike {@link Solver}, which picks the guess that
+ * gains the most information right now, this searches every guess tree and keeps the one with the fewest guesses
+ * over all answers, either on average or for the hardest answer. Every word can be guessed, and every word is a
+ * possible answer.
+ * <p/>
+ * The search is a branch and bound in the style of {@link AdversarialSolver}:
+ * <ul>
+ *     <li>colorings come from a {@link PatternTable}</li>
+ *     <li>each guess gets a lower bound from the sizes of the groups it splits the words into, at best spreading
+ *     each group over every coloring. Guesses are tried from the lowest bound up, and the rest are skipped once the
+ *     bound can't beat the best guess so far.</li>
+ *     <li>a guess is cut off as soon as the groups searched so far add up to more than the best guess so far</li>
+ *     <li>the result for each set of remaining words is remembered, since different guesses often lead to the same
+ *     set</li>
+ *     <li>the first guesses are searched on several threads at once, sharing the best result so far</li>
+ * </ul>
+ * A full dictionary takes hours, so the search can save what it has learned to a checkpoint file every so often, and
+ * picks up from the file when started again.
+ */
+public class OptimalStrategySearch {
+
+    /**
+     * What makes one strategy better than another.
+     */
+    public enum Objective {
+        /**
+         * The fewest guesses on average over every answer.
+         */
+        EXPECTED_GUESSES,
+        /**
+         * The fewest guesses for the hardest answer.
+         */
+        WORST_CASE
+    }
+
+    // the cost of a set of words that can't all be found in the guesses left. A few of these still add up to an int.
+    static final int INFEASIBLE = Integer.MAX_VALUE / 4;
+
+    private static final int MAX_MEMO_ENTRIES = 20_000_000;
+    // "WOPT", so that some other file is rejected rather than misread
+    private static final int MAGIC = 0x574f5054;
+    private static final int VERSION = 1;
+
+    private final PatternTable patternTable;
+    private final Objective objective;
+    private final int maxGuesses;
+    private final int threads;
+    private final Path checkpointFile;
+    private final long checkpointIntervalNanos;
+    private final int numPatterns;
+    private final int solvedPattern;
+    private final Map<StateKey, MemoEntry> memo = new ConcurrentHashMap<>();
+
+    // the best first guess so far, as its cost in the high half and its index in the low half, so that ties go to
+    // the earlier word
+    private final AtomicLong rootBest = new AtomicLong(pack(INFEASIBLE, Integer.MAX_VALUE));
+    // the first guesses that have been searched, whether or not they were the best
+    private final Set<Integer> rootDone = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextCheckpoint = new AtomicLong();
+
+    public OptimalStrategySearch(PatternTable patternTable, Objective objective, int maxGuesses, int threads) {
+        this(patternTable, objective, maxGuesses, threads, null, Duration.ZERO);
+    }
+
+    /**
+     * @param patternTable the colorings of every word against every other word
+     * @param objective what to minimize
+     * @param maxGuesses a strategy must find every answer within this many guesses
+     * @param threads how many first guesses to search at once
+     * @param checkpointFile where to save progress, or null to not save it. If the file exists, the search carries
+     * on from it.
+     * @param checkpointInterval how often to save progress
+     */
+    public OptimalStrategySearch(PatternTable patternTable, Objective objective, int maxGuesses, int threads,
+            Path checkpointFile, Duration checkpointInterval) {
+        if (maxGuesses < 1) {
+            throw new IllegalArgumentException("At least one guess is needed");
+        } else if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        } else if (patternTable.size() == 0) {
+            throw new IllegalArgumentException("The dictionary is empty");
+        }
+        this.patternTable = patternTable;
+        this.objective = objective;
+        this.maxGuesses = maxGuesses;
+        this.threads = threads;
+        this.checkpointFile = checkpointFile;
+        this.checkpointIntervalNanos = checkpointInterval.toNanos();
+        this.numPatterns = patternTable.getCalculator().getNumPatterns();
+        this.solvedPattern = patternTable.getCalculator().getSolvedPattern();
+    }
+
+    /**
+     * Runs the search to the end.
+     *
+     * @return the optimal strategy. When several are equally good, which one is returned can depend on how the
+     * threads were scheduled.
+     * @throws IllegalStateException if no strategy finds every answer within the maximum number of guesses
+     */
+    public StrategyTree solve() throws IOException, InterruptedException {
+        if (checkpointFile != null && Files.exists(checkpointFile)) {
+            loadCheckpoint();
+        }
+        nextCheckpoint.set(System.nanoTime() + checkpointIntervalNanos);
+
+        int[] words = new int[patternTable.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = i;
+        }
+        searchRoot(words);
+        if (checkpointFile != null) {
+            saveCheckpoint();
+        }
+
+        long best = rootBest.get();
+        if (costOf(best) >= INFEASIBLE) {
+            throw new IllegalStateException("No strategy finds every answer within " + maxGuesses + " guesses");
+        }
+        return new StrategyTree(buildNode(guessOf(best), words, maxGuesses));
+    }
+
+    /**
+     * @return the cost of the best strategy found so far: the total number of guesses over every answer, or the
+     * number of guesses for the hardest answer, depending on the objective
+     */
+    public int getBestCost() {
+        return costOf(rootBest.get());
+    }
+
+    /**
+     * Searches the first guesses in parallel. Each one is skipped if its bound can't beat the best one finished so
+     * far, so the order they are handed out in still matters.
+     */
+    private void searchRoot(int[] words) throws InterruptedException {
+        GuessOrder order = orderGuesses(words, maxGuesses);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(order.guesses.length);
+            for (int i = 0; i < order.guesses.length; i++) {
+                int guess = order.guesses[i];
+                int bound = order.bounds[i];
+                futures.add(executor.submit(() -> {
+                    if (rootDone.contains(guess)) {
+                        return;
+                    }
+                    int limit = costOf(rootBest.get());
+                    if (bound < limit) {
+                        int cost = evaluateGuess(guess, words, maxGuesses, limit);
+                        if (cost < limit) {
+                            rootBest.accumulateAndGet(pack(cost, guess), Math::min);
+                        }
+                    }
+                    // the best cost only goes down, so a guess that can't beat it now never will
+                    rootDone.add(guess);
+                    maybeCheckpoint();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("The search failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Calculates the cost of the best strategy for finding the answer among the words.
+     *
+     * @param words the words that are still possible, in ascending order
+     * @param guessesLeft how many guesses are left to find the answer in
+     * @param cutoff the caller has no use for a cost at or above this
+     * @return the cost, or any value at or above the cutoff if the cost isn't below it
+     */
+    private int search(int[] words, int guessesLeft, int cutoff) {
+        int n = words.length;
+        if (guessesLeft == 0) {
+            return INFEASIBLE;
+        } else if (n == 1) {
+            return 1;
+        }
+        int lowerBound = lowerBound(n, guessesLeft);
+        if (lowerBound >= cutoff) {
+            return lowerBound;
+        } else if (n == 2) {
+            // guessing either word finds it in one guess, or splits off the other one for the next guess
+            return objective == Objective.EXPECTED_GUESSES ? 3 : 2;
+        }
+
+        StateKey key = new StateKey(words, guessesLeft);
+        MemoEntry entry = memo.get(key);
+        if (entry != null) {
+            if (entry.exact || entry.cost >= cutoff) {
+                return entry.cost;
+            }
+            lowerBound = Math.max(lowerBound, entry.cost);
+        }
+
+        GuessOrder order = orderGuesses(words, guessesLeft);
+        int best = INFEASIBLE;
+        int bestGuess = -1;
+        for (int i = 0; i < order.guesses.length; i++) {
+            int limit = Math.min(best, cutoff);
+            // the guesses are ordered by their bound, so none of the rest can do better either
+            if (order.bounds[i] >= limit) {
+                break;
+            }
+            int cost = evaluateGuess(order.guesses[i], words, guessesLeft, limit);
+            if (cost < limit) {
+                best = cost;
+                bestGuess = order.guesses[i];
+                if (best <= lowerBound) {
+                    break;
+                }
+            }
+        }
+
+        if (memo.size() >= MAX_MEMO_ENTRIES) {
+            memo.clear();
+        }
+        if (bestGuess >= 0) {
+            memo.put(key, new MemoEntry(best, true, bestGuess));
+            maybeCheckpoint();
+            return best;
+        }
+        // every guess was cut off, so all we know is that the cutoff can't be beaten
+        int bound = Math.max(lowerBound, cutoff);
+        memo.put(key, new MemoEntry(bound, false, -1));
+        return bound;
+    }
+
+    /**
+     * Calculates the cost of guessing the given word next.
+     *
+     * @return the cost, or any value at or above the cutoff if the cost isn't below it
+     */
+    private int evaluateGuess(int guess, int[] words, int guessesLeft, int cutoff) {
+        int[][] groups = compact(partition(guess, words));
+        // the largest groups usually decide the outcome, so search them first to cut off bad guesses early
+        Arrays.sort(groups, (a, b) -> Integer.compare(b.length, a.length));
+
+        if (objective == Objective.EXPECTED_GUESSES) {
+            // every answer takes this guess, then however many its group takes
+            long total = words.length;
+            for (int[] group : groups) {
+                total += lowerBound(group.length, guessesLeft - 1);
+            }
+            for (int[] group : groups) {
+                if (total >= cutoff) {
+                    break;
+                }
+                int bound = lowerBound(group.length, guessesLeft - 1);
+                if (group.length > 1) {
+                    long rest = total - bound;
+                    total = rest + search(group, guessesLeft - 1, (int) Math.min(INFEASIBLE, cutoff - rest));
+                }
+            }
+            return (int) Math.min(INFEASIBLE, total);
+        }
+
+        int worst = 1;
+        for (int[] group : groups) {
+            worst = Math.max(worst, 1 + lowerBound(group.length, guessesLeft - 1));
+        }
+        for (int[] group : groups) {
+            if (worst >= cutoff) {
+                break;
+            }
+            if (group.length > 1) {
+                worst = Math.max(worst, 1 + search(group, guessesLeft - 1, cutoff - 1));
+            }
+        }
+        return Math.min(INFEASIBLE, worst);
+    }
+
+    /**
+     * Orders the guesses by the lower bound on their cost. Guesses that don't split the words at all are left out,
+     * since they can only waste a guess. Ties go to words that could be the answer, since guessing those might win
+     * outright.
+     */
+    private GuessOrder orderGuesses(int[] words, int guessesLeft) {
+        int numGuesses = patternTable.size();
+        boolean[] isCandidate = new boolean[numGuesses];
+        for (int word : words) {
+            isCandidate[word] = true;
+        }
+
+        long[] keyed = new long[numGuesses];
+        int count = 0;
+        int[] groupSizes = new int[numPatterns];
+        for (int guess = 0; guess < numGuesses; guess++) {
+            for (int word : words) {
+                groupSizes[patternTable.get(guess, word)]++;
+            }
+            long bound = objective == Objective.EXPECTED_GUESSES ? words.length : 1;
+            boolean splits = false;
+            for (int word : words) {
+                int code = patternTable.get(guess, word);
+                int size = groupSizes[code];
+                if (size == 0) {
+                    continue;
+                }
+                groupSizes[code] = 0;
+                splits |= size < words.length || code == solvedPattern;
+                if (code == solvedPattern) {
+                    continue;
+                }
+                int groupBound = lowerBound(size, guessesLeft - 1);
+                bound = objective == Objective.EXPECTED_GUESSES ? bound + groupBound
+                        : Math.max(bound, 1 + groupBound);
+            }
+            if (splits) {
+                // sort by bound, then candidates first, then dictionary order
+                keyed[count++] = (Math.min(bound, INFEASIBLE) << 33) | ((isCandidate[guess] ? 0L : 1L) << 32)
+                        | guess;
+            }
+        }
+        Arrays.sort(keyed, 0, count);
+
+        GuessOrder order = new GuessOrder(count);
+        for (int i = 0; i < count; i++) {
+            order.guesses[i] = (int) keyed[i];
+            order.bounds[i] = (int) (keyed[i] >>> 33);
+        }
+        return order;
+    }
+
+    /**
+     * Splits the words into groups by the coloring the guess produces, indexed by the coloring. The all-green group
+     * is left out, since that means the game was won. The words in each group stay in ascending order.
+     */
+    private int[][] partition(int guess, int[] words) {
+        int[] groupSizes = new int[numPatterns];
+        for (int word : words) {
+            groupSizes[patternTable.get(guess, word)]++;
+        }
+        groupSizes[solvedPattern] = 0;
+
+        int[][] groups = new int[numPatterns][];
+        for (int code = 0; code < numPatterns; code++) {
+            if (groupSizes[code] > 0) {
+                groups[code] = new int[groupSizes[code]];
+            }
+        }
+        int[] fill = new int[numPatterns];
+        for (int word : words) {
+            int code = patternTable.get(guess, word);
+            if (code != solvedPattern) {
+                groups[code][fill[code]++] = word;
+            }
+        }
+        return groups;
+    }
+
+    private int[][] compact(int[][] groups) {
+        int count = 0;
+        for (int[] group : groups) {
+            if (group != null) {
+                count++;
+            }
+        }
+        int[][] compacted = new int[count][];
+        int next = 0;
+        for (int[] group : groups) {
+            if (group != null) {
+                compacted[next++] = group;
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * A lower bound on the cost of finding the answer among the given number of words. At best, one word is found
+     * with the next guess, and each guess after that splits every group over every coloring but the winning one, so
+     * at most m words can be found with the second guess, m^2 with the third and so on.
+     *
+     * @return the bound, or {@link #INFEASIBLE} if even that can't find every word in the guesses left
+     */
+    private int lowerBound(int numWords, int guessesLeft) {
+        if (numWords == 0) {
+            return 0;
+        }
+        long perGuess = numPatterns - 1;
+        long total = 0;
+        long capacity = 1;
+        int remaining = numWords;
+        int guesses = 0;
+        while (remaining > 0) {
+            guesses++;
+            if (guesses > guessesLeft) {
+                return INFEASIBLE;
+            }
+            long found = Math.min(remaining, capacity);
+            total += found * guesses;
+            remaining -= found;
+            capacity = Math.min(capacity * perGuess, Integer.MAX_VALUE);
+        }
+        return objective == Objective.EXPECTED_GUESSES ? (int) total : guesses;
+    }
+
+    /**
+     * Builds the part of the strategy that starts with the given guess.
+     */
+    private StrategyTree.Node buildNode(int guess, int[] words, int guessesLeft) {
+        StrategyTree.Node node = new StrategyTree.Node(patternTable.getWord(guess));
+        int[][] groups = partition(guess, words);
+        for (int code = 0; code < numPatterns; code++) {
+            if (groups[code] != null) {
+                node.addChild(code, buildNode(bestGuess(groups[code], guessesLeft - 1), groups[code],
+                        guessesLeft - 1));
+            }
+        }
+        return node;
+    }
+
+    private int bestGuess(int[] words, int guessesLeft) {
+        if (words.length <= 2) {
+            return words[0];
+        }
+        StateKey key = new StateKey(words, guessesLeft);
+        MemoEntry entry = memo.get(key);
+        if (entry == null || !entry.exact) {
+            // forgotten when the memo filled up, so search it again
+            search(words, guessesLeft, INFEASIBLE);
+            entry = memo.get(key);
+        }
+        if (entry == null || !entry.exact) {
+            throw new IllegalStateException("Lost track of the best guess for " + words.length + " words");
+        }
+        return entry.guess;
+    }
+
+    private void maybeCheckpoint() {
+        if (checkpointFile == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextCheckpoint.get();
+        if (now - next >= 0 && nextCheckpoint.compareAndSet(next, now + checkpointIntervalNanos)) {
+            try {
+                saveCheckpoint();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not save a checkpoint to " + checkpointFile, e);
+            }
+        }
+    }
+
+    /**
+     * Saves the best first guess so far, which first guesses are done, and everything in the memo. The file is
+     * written next to the old one and then moved into place, so a crash while saving leaves the old one intact.
+     */
+    private synchronized void saveCheckpoint() throws IOException {
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        List<Map.Entry<StateKey, MemoEntry>> entries = new ArrayList<>(memo.entrySet());
+        List<Integer> done = new ArrayList<>(rootDone);
+        try (OutputStream out = Files.newOutputStream(temp);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+            writeHeader(data);
+            data.writeLong(rootBest.get());
+            VarInts.write(data, done.size());
+            for (int guess : done) {
+                VarInts.write(data, guess);
+            }
+            VarInts.write(data, entries.size());
+            for (Map.Entry<StateKey, MemoEntry> entry : entries) {
+                int[] words = entry.getKey().words;
+                VarInts.write(data, words.length);
+                int previous = 0;
+                for (int word : words) {
+                    VarInts.write(data, word - previous);
+                    previous = word;
+                }
+                VarInts.write(data, entry.getKey().guessesLeft);
+                MemoEntry value = entry.getValue();
+                data.writeBoolean(value.exact);
+                VarInts.write(data, value.cost);
+                VarInts.write(data, value.guess + 1);
+            }
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void loadCheckpoint() throws IOException {
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(checkpointFile)))) {
+            if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+                throw new IOException("Not a checkpoint: " + checkpointFile);
+            }
+            if (data.readInt() != objective.ordinal() || data.readInt() != maxGuesses
+                    || data.readInt() != patternTable.size() || data.readInt() != patternTable.getWords().hashCode()) {
+                throw new IOException("The checkpoint " + checkpointFile + " is for a different search");
+            }
+            rootBest.accumulateAndGet(data.readLong(), Math::min);
+            int numDone = VarInts.readInt(data);
+            for (int i = 0; i < numDone; i++) {
+                rootDone.add(VarInts.readInt(data));
+            }
+            int numEntries = VarInts.readInt(data);
+            for (int i = 0; i < numEntries; i++) {
+                int[] words = new int[VarInts.readInt(data)];
+                int previous = 0;
+                for (int w = 0; w < words.length; w++) {
+                    previous += VarInts.readInt(data);
+                    words[w] = previous;
+                }
+                int guessesLeft = VarInts.readInt(data);
+                boolean exact = data.readBoolean();
+                int cost = VarInts.readInt(data);
+                int guess = VarInts.readInt(data) - 1;
+                memo.put(new StateKey(words, guessesLeft), new MemoEntry(cost, exact, guess));
+            }
+        }
+    }
+
+    private void writeHeader(DataOutputStream data) throws IOException {
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(objective.ordinal());
+        data.writeInt(maxGuesses);
+        data.writeInt(patternTable.size());
+        data.writeInt(patternTable.getWords().hashCode());
+    }
+
+    /**
+     * @return how many sets of words the search knows something about, including any loaded from a checkpoint
+     */
+    int getMemoSize() {
+        return memo.size();
+    }
+
+    private static long pack(int cost, int guess) {
+        return ((long) cost << 32) | guess;
+    }
+
+    private static int costOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int guessOf(long packed) {
+        return (int) packed;
+    }
+
+    private static final class GuessOrder {
+        private final int[] guesses;
+        private final int[] bounds;
+
+        private GuessOrder(int size) {
+            this.guesses = new int[size];
+            this.bounds = new int[size];
+        }
+    }
+
+    private static final class StateKey {
+        private final int[] words;
+        private final int guessesLeft;
+        private final int hash;
+
+        StateKey(int[] words, int guessesLeft) {
+            this.words = words;
+            this.guessesLeft = guessesLeft;
+            this.hash = 31 * Arrays.hashCode(words) + guessesLeft;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StateKey)) {
+                return false;
+            }
+            StateKey other = (StateKey) o;
+            return hash == other.hash && guessesLeft == other.guessesLeft && Arrays.equals(words, other.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class MemoEntry {
+        // the exact cost, or a lower bound if not exact
+        private final int cost;
+        private final boolean exact;
+        // the best guess if exact, otherwise -1
+        private final int guess;
+
+        MemoEntry(int cost, boolean exact, int guess) {
+            this.cost = cost;
+            this.exact = exact;
+            this.guess = guess;
+        }
+    }
+
+    /**
+     * Searches the bundled dictionary and writes the strategy, then plays the greedy {@link Solver} with the same first
+     * word for comparison.
+     * <p/>
+     * Arguments: the strategy file to write, then optionally "expected" or "worst", the maximum number of guesses,
+     * the number of threads and a checkpoint file.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.out.println("Usage: OptimalStrategySearch <strategy file> [expected|worst] [max guesses] [threads]"
+                    + " [checkpoint file]");
+            return;
+        }
+        Path output = Paths.get(args[0]);
+        Objective objective = args.length > 1 && args[1].equals("worst") ? Objective.WORST_CASE
+                : Objective.EXPECTED_GUESSES;
+        int maxGuesses = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        Path checkpoint = args.length > 4 ? Paths.get(args[4]) : null;
+
+        WordList wordList = new DictionaryFileLoader("/dictionary.txt").buildWordList();
+        PatternCalculator calculator = new PatternCalculator(wordList.get(0).length());
+        PatternTable table = new PatternTable(wordList.getWords(), calculator);
+        OptimalStrategySearch search = new OptimalStrategySearch(table, objective, maxGuesses, threads, checkpoint,
+                Duration.ofMinutes(5));
+
+        System.out.println("Searching " + wordList.size() + " words on " + threads + " thread(s)...");
+        long start = System.nanoTime();
+        StrategyTree strategy = search.solve();
+        strategy.write(output);
+        System.out.println("Done in " + (System.nanoTime() - start) / 1_000_000 + " ms, wrote " + output);
+
+        GameSimulator greedy = new GameSimulator(wordList, maxGuesses);
+        String firstWord = strategy.getRoot().getGuess();
+        int optimalTotal = 0;
+        int greedyTotal = 0;
+        int greedyLost = 0;
+        for (String answer : wordList.getWords()) {
+            optimalTotal += strategy.play(answer, calculator);
+            int guesses = greedy.play(firstWord, answer);
+            greedyTotal += guesses;
+            if (guesses == 0) {
+                greedyLost++;
+            }
+        }
+        System.out.printf("Optimal: %.4f guesses on average, starting with %s%n",
+                (double) optimalTotal / wordList.size(), firstWord);
+        System.out.printf("Greedy:  %.4f guesses on average over the games it won, and lost %d%n",
+                (double) greedyTotal / Math.max(1, wordList.size() - greedyLost), greedyLost);
+    }
+}
@@ -0,0 +1,82 @@
+package wordle;
+
+import java.util.List;
+
+/**
+ * How a set of target words splits up by coloring when a guess is played against them: the number of targets that
+ * would give each coloring. Every {@link ScoringObjective} works from this, so the colorings only need to be counted
+ * once however many objectives are asked about the guess.
+ */
+public final class OutcomeHistogram {
+
+    private final char[] guess;
+    private final int[] patterns;
+    private final int[] counts;
+    private final int total;
+    private final int knownPattern;
+
+    /**
+     * @param guess the letters of the guess
+     * @param patterns the codes of the colorings the game could give for the guess, from
+     * {@link ColoringEnumerator#getPatterns(char[])}. Only these are looked at.
+     * @param counts the number of targets for each coloring, indexed by code. The array is not copied.
+     * @param total the number of targets that were counted
+     * @param knownPattern the colors that are known already. Only the green ones matter.
+     */
+    public OutcomeHistogram(char[] guess, int[] patterns, int[] counts, int total, int knownPattern) {
+        this.guess = guess;
+        this.patterns = patterns;
+        this.counts = counts;
+        this.total = total;
+        this.knownPattern = knownPattern;
+    }
+
+    /**
+     * Counts the colorings of the guess against each target, in one pass over the targets.
+     */
+    public static OutcomeHistogram count(ColoringEnumerator coloringEnumerator, char[] guess, List<char[]> answers,
+            int knownPattern) {
+        PatternCalculator patternCalculator = coloringEnumerator.getPatternCalculator();
+        int[] counts = new int[patternCalculator.getNumPatterns()];
+        for (char[] answer : answers) {
+            counts[patternCalculator.calculate(guess, answer)]++;
+        }
+        return new OutcomeHistogram(guess, coloringEnumerator.getPatterns(guess), counts, answers.size(),
+                knownPattern);
+    }
+
+    public char[] getGuess() {
+        return guess;
+    }
+
+    /**
+     * @return the codes of every coloring the guess could get, in ascending order. The array is shared, so it must
+     * not be modified.
+     */
+    public int[] getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * @return the number of targets that give the coloring
+     */
+    public int getCount(int pattern) {
+        return counts[pattern];
+    }
+
+    /**
+     * @return the number of targets for each coloring, indexed by code. The array is shared, so it must not be
+     * modified.
+     */
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getKnownPattern() {
+        return knownPattern;
+    }
+}
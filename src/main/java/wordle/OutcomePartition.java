@@ -0,0 +1,94 @@
+package wordle;
+
+/**
+ * The remaining words, split up by the coloring each one gives against a guess. The words are put in order of
+ * coloring with a counting sort: one pass works out each word's coloring and counts them, and a second places each
+ * word in the run for its coloring. The words for any coloring are then a contiguous slice, so once the game reports
+ * the coloring, the words that are left can be taken straight from the slice instead of checking every word again.
+ * <p/>
+ * The runs are counted in an array with an entry for every coloring, so this only works for words of up to 10
+ * letters. That is the same limit as a {@link PatternTable}.
+ */
+public final class OutcomePartition {
+
+    /**
+     * The most colorings there can be. 3^10 is just under this.
+     */
+    public static final int MAX_PATTERNS = 1 << 16;
+
+    private final String guess;
+    private final int universe;
+    // the words that give coloring p are indexes[starts[p]] until indexes[starts[p + 1]], in ascending order
+    private final int[] starts;
+    private final int[] indexes;
+
+    private OutcomePartition(String guess, int universe, int[] starts, int[] indexes) {
+        this.guess = guess;
+        this.universe = universe;
+        this.starts = starts;
+        this.indexes = indexes;
+    }
+
+    /**
+     * @param guess the word that was played
+     * @param wordList the words that the candidates are indexes into
+     * @param candidates the words that could still be the answer
+     * @throws IllegalArgumentException if there are more than {@link #MAX_PATTERNS} colorings
+     */
+    public static OutcomePartition of(PatternCalculator patternCalculator, String guess, WordList wordList,
+            CandidateSet candidates) {
+        int numPatterns = patternCalculator.getNumPatterns();
+        if (numPatterns > MAX_PATTERNS) {
+            throw new IllegalArgumentException("Words of length " + patternCalculator.getWordLength()
+                    + " have too many colorings to partition");
+        }
+        char[] letters = guess.toCharArray();
+        int[] words = candidates.toArray();
+        int[] patterns = new int[words.length];
+        // counted one place along, so that the running total leaves each run's start in place
+        int[] starts = new int[numPatterns + 1];
+        for (int i = 0; i < words.length; i++) {
+            patterns[i] = patternCalculator.calculate(letters, wordList.getLetters(words[i]));
+            starts[patterns[i] + 1]++;
+        }
+        for (int pattern = 0; pattern < numPatterns; pattern++) {
+            starts[pattern + 1] += starts[pattern];
+        }
+
+        // the words go in ascending order, so each run comes out in ascending order too
+        int[] next = new int[numPatterns];
+        System.arraycopy(starts, 0, next, 0, numPatterns);
+        int[] indexes = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            indexes[next[patterns[i]]++] = words[i];
+        }
+        return new OutcomePartition(guess, candidates.getUniverse(), starts, indexes);
+    }
+
+    /**
+     * @return whether words of the length have few enough colorings to partition
+     */
+    public static boolean supports(int wordLength) {
+        return wordLength >= 1 && Math.pow(3, wordLength) <= MAX_PATTERNS;
+    }
+
+    public String getGuess() {
+        return guess;
+    }
+
+    /**
+     * @return how many of the words give the coloring
+     */
+    public int getCount(int pattern) {
+        PatternCode.checkCode(pattern, guess.length());
+        return starts[pattern + 1] - starts[pattern];
+    }
+
+    /**
+     * @return the words that give the coloring
+     */
+    public CandidateSet slice(int pattern) {
+        PatternCode.checkCode(pattern, guess.length());
+        return CandidateSet.ofRange(universe, indexes, starts[pattern], starts[pattern + 1]);
+    }
+}
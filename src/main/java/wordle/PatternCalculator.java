@@ -0,0 +1,109 @@
+package wordle;
+
+/**
+ * Calculates the coloring that the game would give for a guess against a target word, and converts colorings to and
+ * from a compact integer code.
+ * <p/>
+ * The coloring is the canonical one that {@link WordMatcher} expects: greens are assigned first, then the remaining
+ * occurrences of a letter are colored yellow from left to right, and anything left over is gray.
+ * <p/>
+ * The code is a base-3 number with one digit per position (gray = 0, yellow = 1, green = 2), where position 0 is the
+ * least significant digit. Every code is in the range [0, 3^wordLength).
+ */
+public class PatternCalculator {
+
+    private static final int YELLOW = 1;
+    private static final int GREEN = 2;
+
+    private final int wordLength;
+    private final int numPatterns;
+    private final int[] powers;
+
+    public PatternCalculator(int wordLength) {
+        if (wordLength < 1 || wordLength > 19) {
+            // 3^20 doesn't fit in an int
+            throw new IllegalArgumentException("Word length must be between 1 and 19");
+        }
+        this.wordLength = wordLength;
+        this.powers = new int[wordLength + 1];
+        powers[0] = 1;
+        for (int i = 1; i <= wordLength; i++) {
+            powers[i] = powers[i - 1] * 3;
+        }
+        this.numPatterns = powers[wordLength];
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    /**
+     * @return the number of distinct codes, some of which can never be produced by the game
+     */
+    public int getNumPatterns() {
+        return numPatterns;
+    }
+
+    /**
+     * @return the code for the all-green coloring
+     */
+    public int getSolvedPattern() {
+        return numPatterns - 1;
+    }
+
+    public int calculate(String guess, String answer) {
+        return calculate(guess.toCharArray(), answer.toCharArray());
+    }
+
+    /**
+     * Calculates the coloring of a guess for the given target word.
+     *
+     * @param guess the letters of the guess
+     * @param answer the letters of the target word
+     * @return the code of the coloring
+     */
+    public int calculate(char[] guess, char[] answer) {
+        if (guess.length != wordLength || answer.length != wordLength) {
+            throw new IllegalArgumentException("Words must have " + wordLength + " letters");
+        }
+
+        // positions of the answer that are already spoken for, by a green or by an earlier yellow. Words are short, so
+        // searching for a match is cheaper than allocating a table of letter counts on every call.
+        int used = 0;
+        int code = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (guess[i] == answer[i]) {
+                code += GREEN * powers[i];
+                used |= 1 << i;
+            }
+        }
+
+        for (int i = 0; i < wordLength; i++) {
+            if (guess[i] == answer[i]) {
+                continue;
+            }
+            for (int j = 0; j < wordLength; j++) {
+                if ((used & (1 << j)) == 0 && answer[j] == guess[i]) {
+                    used |= 1 << j;
+                    code += YELLOW * powers[i];
+                    break;
+                }
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Same as {@link PatternCode#of}, but checks the length.
+     */
+    public int encode(Color[] colors) {
+        if (colors.length != wordLength) {
+            throw new IllegalArgumentException("exactly " + wordLength + " colors are required");
+        }
+        return PatternCode.of(colors);
+    }
+
+    public Color[] decode(int code) {
+        return PatternCode.toColors(code, wordLength);
+    }
+}
@@ -0,0 +1,157 @@
+package wordle;
+
+/**
+ * Works with colorings packed into a single int, the same codes that {@link PatternCalculator} produces: a base-3
+ * number with one digit per position (gray = 0, yellow = 1, green = 2), where position 0 is the least significant
+ * digit. A code is just an int, so colorings can be compared with ==, used as array indexes and used as cache keys
+ * without allocating anything. The {@link Color} arrays are still accepted everywhere for convenience.
+ * <p/>
+ * The text form is the one players type in: G for green, Y for yellow and - for gray, such as "--Y-G".
+ */
+public final class PatternCode {
+
+    /**
+     * The longest coloring that fits in an int.
+     */
+    public static final int MAX_LENGTH = 19;
+
+    private static final int GRAY = 0;
+    private static final int YELLOW = 1;
+    private static final int GREEN = 2;
+
+    private static final int[] POWERS = new int[MAX_LENGTH + 1];
+
+    static {
+        POWERS[0] = 1;
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            POWERS[i] = POWERS[i - 1] * 3;
+        }
+    }
+
+    private PatternCode() {
+    }
+
+    /**
+     * @return the number of codes for colorings of the given length, which are 0 up to but not including this
+     */
+    public static int countPatterns(int length) {
+        checkLength(length);
+        return POWERS[length];
+    }
+
+    /**
+     * @return the code for the all-green coloring
+     */
+    public static int solved(int length) {
+        return countPatterns(length) - 1;
+    }
+
+    public static boolean isSolved(int code, int length) {
+        return code == solved(length);
+    }
+
+    /**
+     * @param colors a color for every position
+     * @return the code of the coloring
+     */
+    public static int of(Color... colors) {
+        checkLength(colors.length);
+        int code = 0;
+        for (int i = 0; i < colors.length; i++) {
+            code += toDigit(colors[i]) * POWERS[i];
+        }
+        return code;
+    }
+
+    /**
+     * @param text a color for every position, as G, Y or - (upper or lower case)
+     * @return the code of the coloring
+     * @throws IllegalArgumentException if a character is not a color
+     */
+    public static int parse(String text) {
+        checkLength(text.length());
+        int code = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == 'G' || c == 'g') {
+                code += GREEN * POWERS[i];
+            } else if (c == 'Y' || c == 'y') {
+                code += YELLOW * POWERS[i];
+            } else if (c != '-') {
+                throw new IllegalArgumentException("'" + c + "' is not a valid color");
+            }
+        }
+        return code;
+    }
+
+    /**
+     * @return the coloring in the text form, such as "--Y-G"
+     */
+    public static String format(int code, int length) {
+        checkCode(code, length);
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            int digit = code / POWERS[i] % 3;
+            text[i] = digit == GREEN ? 'G' : digit == YELLOW ? 'Y' : '-';
+        }
+        return new String(text);
+    }
+
+    /**
+     * @return the color at the position
+     */
+    public static Color getColor(int code, int position) {
+        int digit = code / POWERS[position] % 3;
+        return digit == GREEN ? Color.GREEN : digit == YELLOW ? Color.YELLOW : Color.GRAY;
+    }
+
+    public static boolean isGreen(int code, int position) {
+        return code / POWERS[position] % 3 == GREEN;
+    }
+
+    /**
+     * @return the code with the position changed to the given color
+     */
+    public static int withColor(int code, int position, Color color) {
+        int digit = code / POWERS[position] % 3;
+        return code + (toDigit(color) - digit) * POWERS[position];
+    }
+
+    /**
+     * @return the colors of the coloring, one per position
+     */
+    public static Color[] toColors(int code, int length) {
+        checkCode(code, length);
+        Color[] colors = new Color[length];
+        for (int i = 0; i < length; i++) {
+            colors[i] = getColor(code, i);
+        }
+        return colors;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the code is not a coloring of the given length
+     */
+    public static void checkCode(int code, int length) {
+        if (code < 0 || code >= countPatterns(length)) {
+            throw new IllegalArgumentException(code + " is not a coloring of " + length + " letters");
+        }
+    }
+
+    private static void checkLength(int length) {
+        if (length < 1 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Colorings must have between 1 and " + MAX_LENGTH + " colors");
+        }
+    }
+
+    private static int toDigit(Color color) {
+        if (color == Color.GREEN) {
+            return GREEN;
+        } else if (color == Color.YELLOW) {
+            return YELLOW;
+        } else if (color == Color.GRAY) {
+            return GRAY;
+        }
+        throw new IllegalArgumentException("Every position needs a color");
+    }
+}
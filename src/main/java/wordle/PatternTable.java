@@ -0,0 +1,144 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A precomputed table of the coloring of every word in a dictionary when guessed against every other word. Looking
+ * up an outcome is then just an array read, which is what makes deep searches over the dictionary affordable.
+ * <p/>
+ * The table takes words^2 entries, which is fine for a dictionary of a few thousand words.
+ */
+public class PatternTable {
+
+    /**
+     * The most words a table can hold, with words^2 entries in one array.
+     */
+    public static final int MAX_WORDS = (int) Math.sqrt(Integer.MAX_VALUE - 8);
+
+    private final List<String> words;
+    private final Map<String, Integer> indexes;
+    private final PatternCalculator calculator;
+
+    // only one of these is used, depending on whether the codes fit in a byte
+    private final byte[] smallPatterns;
+    private final short[] largePatterns;
+
+    public PatternTable(List<String> words, PatternCalculator calculator) {
+        this(words, calculator, null);
+    }
+
+    /**
+     * @param previous an older table with the same calculator, whose colorings are copied for the words in both
+     */
+    private PatternTable(List<String> words, PatternCalculator calculator, PatternTable previous) {
+        if (calculator.getNumPatterns() > 1 << 16) {
+            throw new IllegalArgumentException("Words of length " + calculator.getWordLength() + " are too long");
+        }
+        if (words.size() > MAX_WORDS) {
+            throw new IllegalArgumentException("A table of " + words.size() + " words would need "
+                    + (long) words.size() * words.size() + " entries, so it can hold at most " + MAX_WORDS + " words");
+        }
+        this.words = Collections.unmodifiableList(new ArrayList<>(words));
+        this.calculator = calculator;
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            indexes.put(words.get(i), i);
+        }
+
+        int n = words.size();
+        char[][] letters = new char[n][];
+        // where each word was in the previous table, or -1 if it is new
+        int[] previousIndexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            letters[i] = words.get(i).toCharArray();
+            previousIndexes[i] = previous == null ? -1 : previous.indexOf(words.get(i));
+        }
+
+        if (calculator.getNumPatterns() <= 1 << 8) {
+            smallPatterns = new byte[n * n];
+            largePatterns = null;
+            IntStream.range(0, n).parallel().forEach(guess -> {
+                for (int answer = 0; answer < n; answer++) {
+                    smallPatterns[guess * n + answer] = (byte) calculate(letters, previousIndexes, previous, guess,
+                            answer);
+                }
+            });
+        } else {
+            smallPatterns = null;
+            largePatterns = new short[n * n];
+            IntStream.range(0, n).parallel().forEach(guess -> {
+                for (int answer = 0; answer < n; answer++) {
+                    largePatterns[guess * n + answer] = (short) calculate(letters, previousIndexes, previous, guess,
+                            answer);
+                }
+            });
+        }
+    }
+
+    private int calculate(char[][] letters, int[] previousIndexes, PatternTable previous, int guess, int answer) {
+        if (previousIndexes[guess] >= 0 && previousIndexes[answer] >= 0) {
+            return previous.get(previousIndexes[guess], previousIndexes[answer]);
+        }
+        return calculator.calculate(letters[guess], letters[answer]);
+    }
+
+    /**
+     * Builds the table for a changed word list. The colorings between words that were already in this table are
+     * copied over rather than worked out again, so only the rows and columns of the added words are calculated.
+     *
+     * @param words the new word list
+     * @return a new table. This one is left as it is, for anyone still using it.
+     */
+    public PatternTable update(List<String> words) {
+        return new PatternTable(words, calculator, this);
+    }
+
+    /**
+     * @return the code of the coloring when guessing the word at index guess, if the word at index answer is the target
+     */
+    public int get(int guess, int answer) {
+        int idx = guess * words.size() + answer;
+        if (smallPatterns != null) {
+            return smallPatterns[idx] & 0xFF;
+        }
+        return largePatterns[idx] & 0xFFFF;
+    }
+
+    /**
+     * @return the index of the word, or -1 if it is not in the table
+     */
+    public int indexOf(String word) {
+        Integer idx = indexes.get(word);
+        return idx == null ? -1 : idx;
+    }
+
+    public String getWord(int index) {
+        return words.get(index);
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    public PatternCalculator getCalculator() {
+        return calculator;
+    }
+
+    /**
+     * @return roughly how many bytes the table takes up, which is mostly the colorings
+     */
+    long estimateBytes() {
+        long entries = (long) words.size() * words.size();
+        // plus an entry in the index for each word
+        return (smallPatterns != null ? entries : 2 * entries) + 64L * words.size();
+    }
+}
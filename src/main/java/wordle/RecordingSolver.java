@@ -0,0 +1,54 @@
+package wordle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Wraps the {@link Solver} of one game and records each of its turns with a {@link TraceRecorder}: the guess and the
+ * colors it got, how many words were possible before and after, the word the solver picked and how long that took.
+ * <p/>
+ * Only the turns that narrow down the words are recorded. The first word doesn't depend on anything the player does,
+ * so it is passed straight through.
+ */
+public class RecordingSolver {
+
+    private final Solver solver;
+    private final TraceRecorder recorder;
+    private final long game;
+
+    public RecordingSolver(Solver solver, TraceRecorder recorder) {
+        this.solver = solver;
+        this.recorder = recorder;
+        this.game = recorder.newGame();
+    }
+
+    public long getGame() {
+        return game;
+    }
+
+    public String findFirstWord(Duration budget, Consumer<SearchProgress> listener) {
+        return solver.findFirstWord(budget, listener);
+    }
+
+    /**
+     * See {@link Solver#findNextWord(String, int)}.
+     *
+     * @throws UncheckedIOException if the turn could not be recorded. The solver has still moved on to the next turn.
+     */
+    public String findNextWord(String previousGuess, int outcome) {
+        int before = solver.countRemainingWords();
+        long start = System.nanoTime();
+        String word = solver.findNextWord(previousGuess, outcome);
+        long latency = System.nanoTime() - start;
+
+        try {
+            recorder.record(new TraceTurn(game, previousGuess, outcome, before, solver.countRemainingWords(), word,
+                    latency));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not record the turn", e);
+        }
+        return word;
+    }
+}
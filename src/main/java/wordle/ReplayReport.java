@@ -0,0 +1,113 @@
+package wordle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * What a {@link TraceReplay} found: how long the turns took when they were recorded and when they were replayed, and
+ * every turn where the solver picked a different word than it did before.
+ */
+public final class ReplayReport {
+
+    private final int games;
+    private final int threads;
+    private final Duration elapsed;
+    private final LatencySummary recorded;
+    private final LatencySummary replayed;
+    private final List<Difference> differences;
+
+    public ReplayReport(int games, int threads, Duration elapsed, LatencySummary recorded, LatencySummary replayed,
+            List<Difference> differences) {
+        this.games = games;
+        this.threads = threads;
+        this.elapsed = elapsed;
+        this.recorded = recorded;
+        this.replayed = replayed;
+        this.differences = differences;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getTurns() {
+        return replayed.getCount();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return how long the whole replay took
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public LatencySummary getRecordedLatency() {
+        return recorded;
+    }
+
+    public LatencySummary getReplayedLatency() {
+        return replayed;
+    }
+
+    /**
+     * @return the turns where the solver picked a different word, in the order they were recorded within each game
+     */
+    public List<Difference> getDifferences() {
+        return differences;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Replayed %d games on %d thread(s) in %d ms%n", games, threads,
+                elapsed.toMillis()));
+        report.append("Recorded: ").append(recorded).append(System.lineSeparator());
+        report.append("Replayed: ").append(replayed).append(System.lineSeparator());
+        report.append(differences.size()).append(" turn(s) chose a different word").append(System.lineSeparator());
+        for (Difference difference : differences) {
+            report.append("    ").append(difference).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * A turn where the replayed solver picked a different word than the recorded one.
+     */
+    public static final class Difference {
+        private final TraceTurn turn;
+        private final int turnInGame;
+        private final String replayedWord;
+
+        public Difference(TraceTurn turn, int turnInGame, String replayedWord) {
+            this.turn = turn;
+            this.turnInGame = turnInGame;
+            this.replayedWord = replayedWord;
+        }
+
+        public TraceTurn getTurn() {
+            return turn;
+        }
+
+        /**
+         * @return which of the game's recorded turns this was, starting from 0
+         */
+        public int getTurnInGame() {
+            return turnInGame;
+        }
+
+        public String getReplayedWord() {
+            return replayedWord;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("game %d turn %d, after %s %s: recorded %s, replayed %s", turn.getGame(),
+                    turnInGame, turn.getGuess(), PatternCode.format(turn.getPattern(), turn.getGuess().length()),
+                    turn.getChosenWord(), replayedWord);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the best guess by estimating scores from samples of the answers (see
+ * {@link GoodnessCalculator#estimateGoodness}), for when there are too many answers to compare every guess against
+ * every one of them.
+ * <p/>
+ * Every guess is first scored from a small sample. Guesses that are clearly worse than the leader, meaning their
+ * confidence interval lies below the leader's, are dropped. The rest are scored again from a sample twice the size,
+ * and so on until only one guess is left or the sample is every answer. When there are only a few answers to begin
+ * with, every guess is scored exactly.
+ * <p/>
+ * The samples are drawn with a fixed seed, so the same guesses and answers always give the same word.
+ */
+public class SampledSearch {
+
+    public static final int DEFAULT_SAMPLE_SIZE = 256;
+    public static final int DEFAULT_EXACT_THRESHOLD = 1024;
+    public static final long DEFAULT_SEED = 2022;
+
+    private final GoodnessCalculator goodnessCalculator;
+    private final int initialSampleSize;
+    private final int exactThreshold;
+    private final long seed;
+
+    public SampledSearch(GoodnessCalculator goodnessCalculator) {
+        this(goodnessCalculator, DEFAULT_SAMPLE_SIZE, DEFAULT_EXACT_THRESHOLD, DEFAULT_SEED);
+    }
+
+    /**
+     * @param initialSampleSize the number of answers to score every guess against at first
+     * @param exactThreshold score exactly when there are at most this many answers
+     * @param seed the seed for drawing the samples
+     */
+    public SampledSearch(GoodnessCalculator goodnessCalculator, int initialSampleSize, int exactThreshold,
+            long seed) {
+        if (initialSampleSize < 2) {
+            throw new IllegalArgumentException("The sample needs at least 2 answers");
+        }
+        this.goodnessCalculator = goodnessCalculator;
+        this.initialSampleSize = initialSampleSize;
+        this.exactThreshold = exactThreshold;
+        this.seed = seed;
+    }
+
+    /**
+     * @param guesses the words that may be played
+     * @param answers the words that may be the answer
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @return the best guess, or null if there are no guesses
+     */
+    public Result search(List<String> guesses, List<String> answers, Color[] knownColors) {
+        StratifiedSampler sampler = new StratifiedSampler(answers, seed);
+        int sampleSize = answers.size() <= exactThreshold ? answers.size() : initialSampleSize;
+
+        List<char[]> contenders = new ArrayList<>(guesses.size());
+        for (String guess : guesses) {
+            contenders.add(guess.toCharArray());
+        }
+        int rounds = 0;
+        long comparisons = 0;
+        while (true) {
+            AnswerSample sample = sampler.sample(sampleSize);
+            rounds++;
+            comparisons += (long) contenders.size() * sample.size();
+
+            GoodnessEstimate[] estimates = new GoodnessEstimate[contenders.size()];
+            int leader = -1;
+            for (int i = 0; i < estimates.length; i++) {
+                estimates[i] = goodnessCalculator.estimateGoodness(contenders.get(i), sample, knownColors);
+                if (leader < 0 || estimates[i].getScore() > estimates[leader].getScore()) {
+                    leader = i;
+                }
+            }
+            if (leader < 0) {
+                return new Result(null, null, rounds, comparisons);
+            }
+
+            // keep the leader and anything that could still turn out better than it
+            List<char[]> stillContending = new ArrayList<>();
+            stillContending.add(contenders.get(leader));
+            for (int i = 0; i < estimates.length; i++) {
+                if (i != leader && estimates[i].getUpperBound() >= estimates[leader].getLowerBound()) {
+                    stillContending.add(contenders.get(i));
+                }
+            }
+            if (stillContending.size() == 1 || sample.isComplete()) {
+                return new Result(new String(contenders.get(leader)), estimates[leader], rounds, comparisons);
+            }
+            contenders = stillContending;
+            sampleSize = (int) Math.min(2L * sample.size(), answers.size());
+        }
+    }
+
+    /**
+     * The guess a {@link SampledSearch} settled on, and how much work it took.
+     */
+    public static final class Result {
+        private final String bestWord;
+        private final GoodnessEstimate estimate;
+        private final int rounds;
+        private final long comparisons;
+
+        public Result(String bestWord, GoodnessEstimate estimate, int rounds, long comparisons) {
+            this.bestWord = bestWord;
+            this.estimate = estimate;
+            this.rounds = rounds;
+            this.comparisons = comparisons;
+        }
+
+        public String getBestWord() {
+            return bestWord;
+        }
+
+        /**
+         * @return the best word's score, from the last sample it was scored against
+         */
+        public GoodnessEstimate getEstimate() {
+            return estimate;
+        }
+
+        /**
+         * @return the number of times the remaining guesses were scored against a bigger sample
+         */
+        public int getRounds() {
+            return rounds;
+        }
+
+        /**
+         * @return the number of guess and answer pairs that were compared, over every round
+         */
+        public long getComparisons() {
+            return comparisons;
+        }
+
+        @Override
+        public String toString() {
+            return bestWord + " " + estimate + " after " + rounds + " round(s) and " + comparisons + " comparisons";
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package wordle;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A way of judging a guess by how it splits up the remaining target words. Higher scores are better, so objectives
+ * that measure something to keep small, like the size of the biggest group, score it as a negative.
+ * <p/>
+ * Objectives only look at the {@link OutcomeHistogram}, so any number of them can be worked out from one count of the
+ * colorings. See {@link ObjectiveTournament} for playing them against each other.
+ */
+public interface ScoringObjective {
+
+    String getName();
+
+    double score(OutcomeHistogram histogram);
+
+    static ScoringObjective of(String name, ToDoubleFunction<OutcomeHistogram> score) {
+        return new ScoringObjective() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public double score(OutcomeHistogram histogram) {
+                return score.applyAsDouble(histogram);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * The score the {@link Solver} plays by: the entropy of each coloring against the rest, averaged over the
+     * colorings. See {@link GoodnessCalculator}.
+     */
+    static ScoringObjective averageEntropy(GoodnessCalculator goodnessCalculator) {
+        return of("average entropy", histogram -> goodnessCalculator.calculateGoodness(histogram.getGuess(),
+                histogram.getCounts(), histogram.getKnownPattern(), histogram.getTotal()));
+    }
+
+    /**
+     * The Shannon entropy of the split, in bits: how much the coloring is expected to tell us.
+     */
+    static ScoringObjective entropy() {
+        return of("entropy", histogram -> {
+            double total = histogram.getTotal();
+            double entropy = 0.0;
+            for (int pattern : histogram.getPatterns()) {
+                int count = histogram.getCount(pattern);
+                if (count > 0) {
+                    double p = count / total;
+                    entropy -= p * Math.log(p);
+                }
+            }
+            return entropy / Math.log(2);
+        });
+    }
+
+    /**
+     * How many words are expected to be left after the guess, the sum of the squared group sizes over the total. Scored
+     * as a negative, so fewer is better.
+     */
+    static ScoringObjective expectedRemaining() {
+        return of("expected remaining", histogram -> {
+            double sumOfSquares = 0.0;
+            for (int pattern : histogram.getPatterns()) {
+                double count = histogram.getCount(pattern);
+                sumOfSquares += count * count;
+            }
+            return -sumOfSquares / histogram.getTotal();
+        });
+    }
+
+    /**
+     * The size of the biggest group, which is how many words could be left in the worst case. Scored as a negative,
+     * so smaller is better.
+     */
+    static ScoringObjective worstCase() {
+        return of("worst case", histogram -> {
+            int largest = 0;
+            for (int pattern : histogram.getPatterns()) {
+                largest = Math.max(largest, histogram.getCount(pattern));
+            }
+            return -largest;
+        });
+    }
+
+    /**
+     * The number of colorings that some target gives, so the number of groups the words are split into.
+     */
+    static ScoringObjective distinctOutcomes() {
+        return of("distinct outcomes", histogram -> {
+            int groups = 0;
+            for (int pattern : histogram.getPatterns()) {
+                if (histogram.getCount(pattern) > 0) {
+                    groups++;
+                }
+            }
+            return groups;
+        });
+    }
+}
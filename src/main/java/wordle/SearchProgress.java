@@ -0,0 +1,58 @@
+package wordle;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of a search for the next word: the best word found so far, and how far along the search is.
+ */
+public final class SearchProgress {
+
+    private final String bestWord;
+    private final double bestScore;
+    private final int wordsScored;
+    private final int totalWords;
+    private final Duration elapsed;
+
+    public SearchProgress(String bestWord, double bestScore, int wordsScored, int totalWords, Duration elapsed) {
+        this.bestWord = bestWord;
+        this.bestScore = bestScore;
+        this.wordsScored = wordsScored;
+        this.totalWords = totalWords;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the best word found so far, or null if nothing has been scored yet
+     */
+    public String getBestWord() {
+        return bestWord;
+    }
+
+    public double getBestScore() {
+        return bestScore;
+    }
+
+    public int getWordsScored() {
+        return wordsScored;
+    }
+
+    public int getTotalWords() {
+        return totalWords;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return whether every word was scored, so that the best word is the same one a full search would find
+     */
+    public boolean isComplete() {
+        return wordsScored == totalWords;
+    }
+
+    @Override
+    public String toString() {
+        return bestWord + " (" + wordsScored + "/" + totalWords + " words scored in " + elapsed.toMillis() + " ms)";
+    }
+}
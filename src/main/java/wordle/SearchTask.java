@@ -0,0 +1,78 @@
+package wordle;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An {@link AnytimeSearch} running in the background. It publishes the best word so far to its subscribers as the
+ * search goes, and completes its result with the best word found once the budget runs out or it is cancelled.
+ * <p/>
+ * Progress updates are dropped for subscribers that can't keep up, so a slow subscriber never holds up the search.
+ * The final answer is always available from {@link #getResult()}.
+ */
+public class SearchTask implements Flow.Publisher<SearchProgress> {
+
+    private final AnytimeSearch search;
+    private final Color[] knownColors;
+    private final Duration budget;
+    private final SubmissionPublisher<SearchProgress> publisher = new SubmissionPublisher<>();
+    private final CompletableFuture<SearchProgress> result = new CompletableFuture<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean cancelled;
+
+    SearchTask(AnytimeSearch search, Color[] knownColors, Duration budget) {
+        this.search = search;
+        this.knownColors = knownColors;
+        this.budget = budget;
+    }
+
+    /**
+     * Subscribers only see the progress published after they subscribe, so subscribe before starting.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SearchProgress> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Starts the search.
+     *
+     * @param executor runs the search
+     * @return the result, the same as {@link #getResult()}
+     */
+    public CompletableFuture<SearchProgress> start(Executor executor) {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The search was already started");
+        }
+        executor.execute(this::run);
+        return result;
+    }
+
+    /**
+     * Stops the search as soon as the word being scored is done. The result is still the best word found up to then.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public CompletableFuture<SearchProgress> getResult() {
+        return result;
+    }
+
+    private void run() {
+        try {
+            SearchProgress progress = search.search(knownColors, budget, p -> publisher.offer(p, null),
+                    () -> cancelled || result.isDone() || Thread.currentThread().isInterrupted());
+            result.complete(progress);
+            publisher.close();
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            publisher.closeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package wordle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The results of one shard of a {@link SimulationJob}: how many guesses each game took, one byte per game. The answers
+ * are a contiguous block of the word list, so the games don't need to be labelled.
+ */
+public final class ShardResult {
+
+    // "WRDL", so that a stray file in the job directory is rejected rather than misread
+    private static final int MAGIC = 0x5752444c;
+    private static final int VERSION = 1;
+
+    private final int shard;
+    private final int firstWordIndex;
+    private final int firstAnswer;
+    private final byte[] guesses;
+
+    /**
+     * @param guesses the number of guesses for each answer in the shard, in word list order, or 0 for a lost game
+     */
+    public ShardResult(int shard, int firstWordIndex, int firstAnswer, byte[] guesses) {
+        this.shard = shard;
+        this.firstWordIndex = firstWordIndex;
+        this.firstAnswer = firstAnswer;
+        this.guesses = guesses;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public int getFirstWordIndex() {
+        return firstWordIndex;
+    }
+
+    public int getFirstAnswer() {
+        return firstAnswer;
+    }
+
+    public int size() {
+        return guesses.length;
+    }
+
+    /**
+     * @return the number of guesses the game took, or 0 if it was lost
+     */
+    public int getGuesses(int game) {
+        return guesses[game];
+    }
+
+    /**
+     * Writes the results to a temporary file first and then moves it into place, so that anyone reading the file
+     * either sees all of it or none of it, even if the worker dies halfway.
+     */
+    public void write(Path file, String workerId) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + "." + workerId + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(shard);
+            data.writeInt(firstWordIndex);
+            data.writeInt(firstAnswer);
+            data.writeInt(guesses.length);
+            data.write(guesses);
+        }
+        // shards are deterministic, so if two workers both ran this one, either copy will do
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static ShardResult read(Path file) throws IOException {
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+                throw new IOException("Not a shard result: " + file);
+            }
+            int shard = data.readInt();
+            int firstWordIndex = data.readInt();
+            int firstAnswer = data.readInt();
+            byte[] guesses = new byte[data.readInt()];
+            data.readFully(guesses);
+            return new ShardResult(shard, firstWordIndex, firstAnswer, guesses);
+        }
+    }
+}
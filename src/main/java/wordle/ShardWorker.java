@@ -0,0 +1,140 @@
+package wordle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Runs the shards of a {@link SimulationJob} that nobody else has done, one at a time. Any number of workers can share
+ * a job, on one machine or several.
+ * <p/>
+ * A worker claims a shard by creating its claim file, which fails if another worker got there first. When the shard
+ * is done, its results are moved into place and the claim is removed. If a worker dies, its claims are left behind:
+ * restarting a worker with the same id picks its own claims back up, and any worker takes over a claim that is older
+ * than the claim timeout. Shards are deterministic, so a shard that ends up run twice does no harm.
+ * <p/>
+ * While a shard runs, the worker touches its claim every quarter of the timeout, so a slow shard isn't mistaken for an
+ * abandoned one. A worker only touches or removes a claim that still has its id in it, so a worker whose claim was
+ * taken over leaves the new owner's claim alone.
+ */
+public class ShardWorker {
+
+    public static final Duration DEFAULT_CLAIM_TIMEOUT = Duration.ofMinutes(30);
+
+    private final SimulationJob job;
+    private final String workerId;
+    private final Duration claimTimeout;
+    private final GameSimulator simulator;
+
+    /**
+     * @param workerId names the worker in its claims. Letters, digits, dots, dashes and underscores only.
+     * @param claimTimeout how long before another worker's claim is assumed to be abandoned
+     */
+    public ShardWorker(SimulationJob job, String workerId, Duration claimTimeout) {
+        if (!workerId.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("Invalid worker id: " + workerId);
+        }
+        this.job = job;
+        this.workerId = workerId;
+        this.claimTimeout = claimTimeout;
+        this.simulator = new GameSimulator(job.getWordList(), job.getMaxGuesses());
+    }
+
+    /**
+     * Runs every shard that isn't done or claimed by another worker.
+     *
+     * @return the number of shards this worker ran
+     */
+    public int run() throws IOException {
+        int ran = 0;
+        for (int shard = 0; shard < job.getNumShards(); shard++) {
+            if (Files.exists(job.getResultFile(shard)) || !claim(shard)) {
+                continue;
+            }
+            // another worker may have finished it between the check and the claim
+            if (!Files.exists(job.getResultFile(shard))) {
+                runShard(shard).write(job.getResultFile(shard), workerId);
+                ran++;
+            }
+            if (ownsClaim(shard)) {
+                Files.deleteIfExists(job.getClaimFile(shard));
+            }
+        }
+        return ran;
+    }
+
+    ShardResult runShard(int shard) throws IOException {
+        String firstWord = job.getFirstWords().get(job.getFirstWordIndex(shard));
+        int firstAnswer = job.getFirstAnswer(shard);
+        byte[] guesses = new byte[job.getShardSize(shard)];
+        long refreshNanos = claimTimeout.toNanos() / 4;
+        long lastRefresh = System.nanoTime();
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = (byte) simulator.play(firstWord, job.getWordList().get(firstAnswer + i));
+            if (System.nanoTime() - lastRefresh >= refreshNanos) {
+                refreshClaim(shard);
+                lastRefresh = System.nanoTime();
+            }
+        }
+        return new ShardResult(shard, job.getFirstWordIndex(shard), firstAnswer, guesses);
+    }
+
+    /**
+     * Marks the claim as still in use, if this worker still owns it.
+     *
+     * @return whether it does
+     */
+    boolean refreshClaim(int shard) throws IOException {
+        if (!ownsClaim(shard)) {
+            return false;
+        }
+        try {
+            Files.setLastModifiedTime(job.getClaimFile(shard), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private boolean ownsClaim(int shard) throws IOException {
+        try {
+            byte[] owner = Files.readAllBytes(job.getClaimFile(shard));
+            return new String(owner, StandardCharsets.UTF_8).equals(workerId);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private boolean claim(int shard) throws IOException {
+        Path claimFile = job.getClaimFile(shard);
+        byte[] id = workerId.getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(claimFile, id, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            try {
+                String owner = new String(Files.readAllBytes(claimFile), StandardCharsets.UTF_8);
+                if (owner.equals(workerId)) {
+                    // this worker died while running the shard, and has been restarted
+                    return true;
+                }
+                Instant claimed = Files.getLastModifiedTime(claimFile).toInstant();
+                if (claimed.plus(claimTimeout).isBefore(Instant.now())) {
+                    Files.write(claimFile, id);
+                    return true;
+                }
+                return false;
+            } catch (NoSuchFileException finished) {
+                // the other worker finished the shard in the meantime
+                return false;
+            }
+        }
+    }
+}
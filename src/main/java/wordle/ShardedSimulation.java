@@ -0,0 +1,104 @@
+package wordle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line for running a {@link SimulationJob} across several processes:
+ * <pre>
+ *   create &lt;dir&gt; &lt;shard size&gt; &lt;first word&gt;...   sets up a job over the bundled dictionary
+ *   work &lt;dir&gt; &lt;worker id&gt;                      runs shards in this process, e.g. on another host
+ *   local &lt;dir&gt; &lt;workers&gt;                        runs shards in that many new processes on this host, then merges
+ *   merge &lt;dir&gt;                                  writes the report for the shards done so far
+ * </pre>
+ * Running the same command again after a crash carries on where it left off.
+ */
+public class ShardedSimulation {
+
+    private static final int MAX_GUESSES = 6;
+    private static final String REPORT_FILE = "report.txt";
+
+    /**
+     * Starts the workers as new JVMs on this machine, with the same classpath as this one, and waits for them. Each
+     * worker logs to its own file in the job directory.
+     *
+     * @return the number of workers that failed
+     */
+    public static int runLocal(SimulationJob job, int workers) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+
+        List<Process> processes = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            String workerId = "local-" + i;
+            Path log = job.getDirectory().resolve(workerId + ".log");
+            processes.add(new ProcessBuilder(java, "-cp", classpath, ShardedSimulation.class.getName(), "work",
+                    job.getDirectory().toString(), workerId)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start());
+        }
+
+        int failed = 0;
+        for (Process process : processes) {
+            if (process.waitFor() != 0) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Merges the shards done so far and writes the report next to them.
+     */
+    public static SimulationReport merge(SimulationJob job) throws IOException {
+        SimulationReport report = SimulationReport.merge(job);
+        Files.write(job.getDirectory().resolve(REPORT_FILE), report.toString().getBytes(StandardCharsets.UTF_8));
+        return report;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.out.println("Usage: ShardedSimulation create <dir> <shard size> <first word>...");
+            System.out.println("       ShardedSimulation work <dir> <worker id>");
+            System.out.println("       ShardedSimulation local <dir> <workers>");
+            System.out.println("       ShardedSimulation merge <dir>");
+            return;
+        }
+        Path directory = Paths.get(args[1]);
+
+        switch (args[0]) {
+            case "create":
+                List<String> words = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords();
+                SimulationJob created = SimulationJob.create(directory, words,
+                        Arrays.asList(args).subList(3, args.length), Integer.parseInt(args[2]), MAX_GUESSES);
+                System.out.println("Created " + created.getNumShards() + " shards in " + directory);
+                break;
+            case "work":
+                SimulationJob job = SimulationJob.load(directory);
+                int ran = new ShardWorker(job, args[2], ShardWorker.DEFAULT_CLAIM_TIMEOUT).run();
+                System.out.println("Worker " + args[2] + " ran " + ran + " shard(s)");
+                break;
+            case "local":
+                SimulationJob localJob = SimulationJob.load(directory);
+                int failed = runLocal(localJob, Integer.parseInt(args[2]));
+                if (failed > 0) {
+                    System.out.println(failed + " worker(s) failed, see the logs in " + directory + File.separator);
+                }
+                System.out.print(merge(localJob));
+                break;
+            case "merge":
+                System.out.print(merge(SimulationJob.load(directory)));
+                break;
+            default:
+                System.out.println("Unknown command: " + args[0]);
+        }
+    }
+}
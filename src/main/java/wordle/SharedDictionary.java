@@ -0,0 +1,113 @@
+package wordle;
+
+/**
+ * Everything about a dictionary that doesn't change during a game, loaded once and shared by every game played on it:
+ * the {@link WordList}, the {@link ColoringEnumerator} and its cache of colorings, and the
+ * {@link LetterFrequencyRanker} for its alphabet. The bigger indexes, the {@link WordTrie} and the
+ * {@link PatternTable}, are only built the first time they are asked for, since most games never need them.
+ * <p/>
+ * Each game gets its own {@link Dictionary} view and {@link Solver} from {@link #newSolver()}, which is cheap. See
+ * {@link DictionaryRegistry} for keeping several of these loaded at once.
+ */
+public class SharedDictionary {
+
+    private final String name;
+    private final int wordLength;
+    private final WordList wordList;
+    private final ColoringEnumerator coloringEnumerator;
+    private final LetterFrequencyRanker ranker;
+
+    // built on first use
+    private WordTrie trie;
+    private PatternTable patternTable;
+
+    /**
+     * @param wordList the words, which must all be the same length
+     */
+    public SharedDictionary(String name, WordList wordList) {
+        if (wordList.size() == 0) {
+            throw new IllegalArgumentException("Dictionary " + name + " has no words");
+        }
+        this.name = name;
+        this.wordLength = wordList.get(0).length();
+        this.wordList = wordList;
+        this.coloringEnumerator = new ColoringEnumerator(new PatternCalculator(wordLength));
+        this.ranker = new LetterFrequencyRanker(wordLength, wordList.getAlphabet());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWordLength() {
+        return wordLength;
+    }
+
+    public WordList getWordList() {
+        return wordList;
+    }
+
+    public ColoringEnumerator getColoringEnumerator() {
+        return coloringEnumerator;
+    }
+
+    public LetterFrequencyRanker getRanker() {
+        return ranker;
+    }
+
+    /**
+     * @return a new game, with every word possible
+     */
+    public Dictionary newDictionary() {
+        return new Dictionary(wordList);
+    }
+
+    /**
+     * Starts a new game. The solver narrows down its own dictionary, and shares everything else.
+     */
+    public Solver newSolver() {
+        Dictionary dictionary = newDictionary();
+        WordMatcher matcher = new WordMatcher(dictionary);
+        GoodnessCalculator goodnessCalculator = new GoodnessCalculator(wordLength, matcher, new EntropyCalculator(),
+                coloringEnumerator);
+        return new Solver(wordLength, dictionary, matcher, goodnessCalculator, ranker);
+    }
+
+    public synchronized WordTrie getTrie() {
+        if (trie == null) {
+            trie = new WordTrie(wordList);
+        }
+        return trie;
+    }
+
+    /**
+     * The table takes words^2 entries, so for a large dictionary this can be most of the memory it uses.
+     */
+    public synchronized PatternTable getPatternTable() {
+        if (patternTable == null) {
+            patternTable = new PatternTable(wordList.getWords(), coloringEnumerator.getPatternCalculator());
+        }
+        return patternTable;
+    }
+
+    /**
+     * @return roughly how many bytes the word list and whichever indexes have been built take up. The colorings
+     * cached by the {@link ColoringEnumerator} only depend on where a word repeats letters, so there are few of them,
+     * and they aren't counted.
+     */
+    synchronized long estimateBytes() {
+        long bytes = wordList.estimateBytes();
+        if (trie != null) {
+            bytes += trie.estimateBytes();
+        }
+        if (patternTable != null) {
+            bytes += patternTable.estimateBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + wordList.size() + " " + wordLength + "-letter words)";
+    }
+}
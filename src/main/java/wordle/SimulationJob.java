@@ -0,0 +1,160 @@
+package wordle;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * A simulation of every answer in a word list against each of a few first words, split into shards that workers can
+ * run independently (see {@link ShardWorker}). The job lives in a directory that every worker can see, whether the
+ * workers are processes on one machine or hosts sharing a network drive. The directory holds the word list, so every
+ * worker plays exactly the same games, and the partial results as the shards finish.
+ * <p/>
+ * Each shard is one first word against a contiguous block of answers. The shards only depend on the job, so any worker
+ * can tell what a shard holds from its number.
+ */
+public final class SimulationJob {
+
+    private static final String JOB_FILE = "job.properties";
+    private static final String WORDS_FILE = "words.txt";
+
+    private final Path directory;
+    private final WordList wordList;
+    private final List<String> firstWords;
+    private final int shardSize;
+    private final int maxGuesses;
+
+    private SimulationJob(Path directory, WordList wordList, List<String> firstWords, int shardSize, int maxGuesses) {
+        this.directory = directory;
+        this.wordList = wordList;
+        this.firstWords = List.copyOf(firstWords);
+        this.shardSize = shardSize;
+        this.maxGuesses = maxGuesses;
+    }
+
+    /**
+     * Sets up a new job in the directory.
+     *
+     * @param directory where the job and its results go. It is created if needed.
+     * @param words the words the solver picks from, which are also the answers
+     * @param firstWords the words to open with, each one simulated against every answer
+     * @param shardSize the number of answers in each shard
+     * @param maxGuesses how many guesses the solver gets per game
+     */
+    public static SimulationJob create(Path directory, List<String> words, List<String> firstWords, int shardSize,
+            int maxGuesses) throws IOException {
+        if (words.isEmpty() || firstWords.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one word and one first word");
+        }
+        if (shardSize < 1) {
+            throw new IllegalArgumentException("The shard size must be positive");
+        }
+        // the results keep the number of guesses in a byte
+        if (maxGuesses < 1 || maxGuesses > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("The number of guesses must be between 1 and " + Byte.MAX_VALUE);
+        }
+        int wordLength = words.get(0).length();
+        for (String word : firstWords) {
+            if (word.length() != wordLength || word.indexOf(',') >= 0) {
+                throw new IllegalArgumentException("Not a " + wordLength + "-letter word: " + word);
+            }
+        }
+        if (Files.exists(directory.resolve(JOB_FILE))) {
+            throw new IllegalStateException("There is already a job in " + directory);
+        }
+
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(WORDS_FILE), words, StandardCharsets.UTF_8);
+        Properties properties = new Properties();
+        properties.setProperty("firstWords", String.join(",", firstWords));
+        properties.setProperty("shardSize", Integer.toString(shardSize));
+        properties.setProperty("maxGuesses", Integer.toString(maxGuesses));
+        // written last, so a job that is only half set up is never picked up by a worker
+        Path temp = directory.resolve(JOB_FILE + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "wordle simulation job");
+        }
+        Files.move(temp, directory.resolve(JOB_FILE));
+        return new SimulationJob(directory, new WordList(words), firstWords, shardSize, maxGuesses);
+    }
+
+    /**
+     * Loads a job that was set up with {@link #create}.
+     */
+    public static SimulationJob load(Path directory) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve(JOB_FILE), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        List<String> words = Files.readAllLines(directory.resolve(WORDS_FILE), StandardCharsets.UTF_8);
+        return new SimulationJob(directory, new WordList(words),
+                Arrays.asList(properties.getProperty("firstWords").split(",")),
+                Integer.parseInt(properties.getProperty("shardSize")),
+                Integer.parseInt(properties.getProperty("maxGuesses")));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public WordList getWordList() {
+        return wordList;
+    }
+
+    public List<String> getFirstWords() {
+        return firstWords;
+    }
+
+    public int getMaxGuesses() {
+        return maxGuesses;
+    }
+
+    public int getNumShards() {
+        return firstWords.size() * shardsPerFirstWord();
+    }
+
+    /**
+     * @return the index of the first word the shard opens with
+     */
+    public int getFirstWordIndex(int shard) {
+        return shard / shardsPerFirstWord();
+    }
+
+    /**
+     * @return the index in the word list of the first answer in the shard
+     */
+    public int getFirstAnswer(int shard) {
+        return (shard % shardsPerFirstWord()) * shardSize;
+    }
+
+    /**
+     * @return the number of answers in the shard
+     */
+    public int getShardSize(int shard) {
+        return Math.min(shardSize, wordList.size() - getFirstAnswer(shard));
+    }
+
+    /**
+     * @return where the shard's results go once it is done
+     */
+    public Path getResultFile(int shard) {
+        return directory.resolve(String.format("shard-%06d.result", shard));
+    }
+
+    /**
+     * @return where a worker records that it is running the shard
+     */
+    public Path getClaimFile(int shard) {
+        return directory.resolve(String.format("shard-%06d.claim", shard));
+    }
+
+    private int shardsPerFirstWord() {
+        return (wordList.size() + shardSize - 1) / shardSize;
+    }
+}
@@ -0,0 +1,115 @@
+package wordle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The merged results of a {@link SimulationJob}: for each first word, how many guesses the games took. Shards that
+ * aren't done yet are left out and counted, so a report can be made while the workers are still going.
+ */
+public final class SimulationReport {
+
+    private final List<String> firstWords;
+    private final int maxGuesses;
+    // the number of games for each first word that took each number of guesses, with lost games at 0
+    private final int[][] distributions;
+    private final int missingShards;
+
+    private SimulationReport(List<String> firstWords, int maxGuesses, int[][] distributions, int missingShards) {
+        this.firstWords = firstWords;
+        this.maxGuesses = maxGuesses;
+        this.distributions = distributions;
+        this.missingShards = missingShards;
+    }
+
+    /**
+     * Reads every finished shard of the job.
+     */
+    public static SimulationReport merge(SimulationJob job) throws IOException {
+        int[][] distributions = new int[job.getFirstWords().size()][job.getMaxGuesses() + 1];
+        int missing = 0;
+        for (int shard = 0; shard < job.getNumShards(); shard++) {
+            Path file = job.getResultFile(shard);
+            if (!Files.exists(file)) {
+                missing++;
+                continue;
+            }
+            ShardResult result = ShardResult.read(file);
+            if (result.getShard() != shard || result.size() != job.getShardSize(shard)) {
+                throw new IOException("The results in " + file + " don't belong to shard " + shard);
+            }
+            for (int game = 0; game < result.size(); game++) {
+                distributions[result.getFirstWordIndex()][result.getGuesses(game)]++;
+            }
+        }
+        return new SimulationReport(job.getFirstWords(), job.getMaxGuesses(), distributions, missing);
+    }
+
+    public List<String> getFirstWords() {
+        return firstWords;
+    }
+
+    /**
+     * @return the number of shards that had no results yet
+     */
+    public int getMissingShards() {
+        return missingShards;
+    }
+
+    public boolean isComplete() {
+        return missingShards == 0;
+    }
+
+    /**
+     * @return the number of games played with the first word
+     */
+    public int getGames(int firstWord) {
+        int games = 0;
+        for (int count : distributions[firstWord]) {
+            games += count;
+        }
+        return games;
+    }
+
+    /**
+     * @return the number of games with the first word that took the given number of guesses, or that were lost if
+     * guesses is 0
+     */
+    public int getGames(int firstWord, int guesses) {
+        return distributions[firstWord][guesses];
+    }
+
+    /**
+     * @return the average number of guesses in the games that were won with the first word
+     */
+    public double getAverageGuesses(int firstWord) {
+        long total = 0;
+        int won = 0;
+        for (int guesses = 1; guesses <= maxGuesses; guesses++) {
+            total += (long) guesses * distributions[firstWord][guesses];
+            won += distributions[firstWord][guesses];
+        }
+        return won == 0 ? 0.0 : (double) total / won;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-10s %7s %7s %6s  guesses 1..%d%n", "first", "games", "average", "lost",
+                maxGuesses));
+        for (int i = 0; i < firstWords.size(); i++) {
+            report.append(String.format("%-10s %7d %7.4f %6d ", firstWords.get(i), getGames(i), getAverageGuesses(i),
+                    getGames(i, 0)));
+            for (int guesses = 1; guesses <= maxGuesses; guesses++) {
+                report.append(' ').append(distributions[i][guesses]);
+            }
+            report.append(System.lineSeparator());
+        }
+        if (missingShards > 0) {
+            report.append(missingShards).append(" shard(s) not done yet").append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+}
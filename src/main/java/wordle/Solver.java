@@ -1,45 +1,225 @@
 package wordle;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
 public class Solver {
 
     private final int wordLength;
     private final Dictionary dictionary;
     private final WordMatcher matcher;
     private final GoodnessCalculator goodnessCalculator;
+    private final AnytimeSearch anytimeSearch;
+    private final ApproximateSearch approximateSearch;
+
+    // null if the words are too long to partition
+    private final PatternCalculator patternCalculator;
+
+    // where the game is in the strategy being followed, or null if there is none or the game has left it
+    private StrategyTree.Node strategy;
+    // the remaining words split up by coloring against the last word this recommended, or null if there isn't one
+    private OutcomePartition partition;
 
     public Solver(int wordLength, Dictionary dictionary, WordMatcher wordMatcher,
             GoodnessCalculator goodnessCalculator) {
+        this(wordLength, dictionary, wordMatcher, goodnessCalculator, new LetterFrequencyRanker(wordLength));
+    }
+
+    /**
+     * @param ranker picks the words worth scoring when there isn't time to score them all. It holds no game state, so
+     * it can be shared with other solvers.
+     */
+    public Solver(int wordLength, Dictionary dictionary, WordMatcher wordMatcher,
+            GoodnessCalculator goodnessCalculator, LetterFrequencyRanker ranker) {
         this.wordLength = wordLength;
         this.dictionary = dictionary;
         this.matcher = wordMatcher;
         this.goodnessCalculator = goodnessCalculator;
+        this.anytimeSearch = new AnytimeSearch(dictionary, goodnessCalculator, ranker);
+        this.approximateSearch = new ApproximateSearch(dictionary, goodnessCalculator, ranker);
+        this.patternCalculator = OutcomePartition.supports(wordLength) ? new PatternCalculator(wordLength) : null;
+    }
+
+    /**
+     * Plays from a precomputed strategy, such as one from {@link OptimalStrategySearch}, instead of scoring words.
+     * Once the game leaves the strategy, by playing a different word or getting a coloring it doesn't cover, the
+     * solver goes back to scoring words for the rest of the game. Only {@link #findFirstWord()} and the
+     * findNextWord methods follow the strategy.
+     */
+    public void followStrategy(StrategyTree strategy) {
+        this.strategy = strategy.getRoot();
     }
 
     /**
      * Calculate an optimal first word to play.
      */
     public String findFirstWord() {
-        return findNextWord(new Color[wordLength]);
+        if (strategy != null) {
+            return recommend(strategy.getGuess());
+        }
+        return recommend(findNextWord(new Color[wordLength]));
+    }
+
+    /**
+     * Finds a good first word to play within a time budget. See {@link AnytimeSearch}.
+     *
+     * @param budget how long to search for
+     * @param listener told about the best word so far as the search goes
+     */
+    public String findFirstWord(Duration budget, Consumer<SearchProgress> listener) {
+        return recommend(anytimeSearch.search(new Color[wordLength], budget, listener).getBestWord());
     }
 
     /**
      * Calculates an optimal next word to play. Before picking a word, it filters the dictionary to match the outcome
-     * of the previous round. This will actually modify the dictionary.
+     * of the previous round. This will actually modify the dictionary, though not the word list it shares with other
+     * games.
+     * <p/>
+     * When the previous guess is the word this solver recommended, the remaining words were already split up by the
+     * coloring they give against it (see {@link OutcomePartition}), so the words that match are looked up rather than
+     * filtered.
      *
      * @param outcome the colors that the game provided.
      */
     public String findNextWord(String previousGuess, Color[] outcome) {
-        dictionary.intersect(matcher.getMatchingWords(previousGuess.toCharArray(), outcome));
+        narrow(previousGuess, outcome);
+        String planned = followStrategy(previousGuess, outcome);
+        return recommend(planned != null ? planned : findNextWord(outcome));
+    }
+
+    /**
+     * Same as {@link #findNextWord(String, Color[])}, with the outcome as a {@link PatternCode}.
+     *
+     * @param outcome the colors that the game provided.
+     */
+    public String findNextWord(String previousGuess, int outcome) {
+        PatternCode.checkCode(outcome, wordLength);
+        narrow(previousGuess, outcome);
+        String planned = followStrategy(previousGuess, outcome);
+        if (planned != null) {
+            return recommend(planned);
+        }
+        return recommend(findBestWord(word -> goodnessCalculator.calculateGoodness(word, outcome,
+                dictionary.size())));
+    }
+
+    /**
+     * Same as {@link #findNextWord(String, Color[])}, but gives up after a time budget and plays the best word found
+     * so far. See {@link AnytimeSearch}.
+     *
+     * @param outcome the colors that the game provided.
+     * @param budget how long to search for
+     * @param listener told about the best word so far as the search goes
+     */
+    public String findNextWord(String previousGuess, Color[] outcome, Duration budget,
+            Consumer<SearchProgress> listener) {
+        narrow(previousGuess, outcome);
+        String planned = followStrategy(previousGuess, outcome);
+        return recommend(planned != null ? planned : anytimeSearch.search(outcome, budget, listener).getBestWord());
+    }
+
+    /**
+     * Same as {@link #findNextWord(String, Color[])}, but only scores the most promising few words. See
+     * {@link ApproximateSearch}.
+     *
+     * @param outcome the colors that the game provided.
+     * @param maxWords how many words to score
+     */
+    public String findNextWord(String previousGuess, Color[] outcome, int maxWords) {
+        narrow(previousGuess, outcome);
+        String planned = followStrategy(previousGuess, outcome);
+        return recommend(planned != null ? planned : approximateSearch.search(outcome, maxWords).getBestWord());
+    }
+
+    /**
+     * @return how many words are still possible answers, after narrowing on every outcome so far
+     */
+    public int countRemainingWords() {
+        return dictionary.size();
+    }
+
+    /**
+     * @return the words that are still possible answers, after narrowing on every outcome so far
+     */
+    public List<String> getRemainingWords() {
+        return dictionary.getWords();
+    }
+
+    private String followStrategy(String previousGuess, Color[] outcome) {
+        if (strategy != null && !isComplete(outcome)) {
+            // a strategy only covers colorings the game can give
+            strategy = null;
+        }
+        return strategy == null ? null : followStrategy(previousGuess, PatternCode.of(outcome));
+    }
+
+    /**
+     * Moves along the strategy to the word it plays after the outcome.
+     *
+     * @return the word, or null if the game isn't following the strategy
+     */
+    private String followStrategy(String previousGuess, int outcome) {
+        if (strategy != null && strategy.getGuess().equals(previousGuess)) {
+            strategy = strategy.getChild(outcome);
+        } else {
+            strategy = null;
+        }
+        return strategy == null ? null : strategy.getGuess();
+    }
 
-        System.out.println("Getting close! Only " + dictionary.size() + " possible word(s) remaining:");
-        if (dictionary.size() <= 10) {
-            System.out.println("    " + dictionary.getWords());
+    private void narrow(String previousGuess, Color[] outcome) {
+        // the matcher complains about an outcome of the wrong length, and only it can leave out a missing color
+        if (isPartitioned(previousGuess) && outcome.length == wordLength && isComplete(outcome)) {
+            narrow(partition.slice(PatternCode.of(outcome)));
+        } else {
+            narrow(matcher.getMatchingCandidates(previousGuess.toCharArray(), outcome));
         }
+    }
+
+    private void narrow(String previousGuess, int outcome) {
+        if (isPartitioned(previousGuess)) {
+            narrow(partition.slice(outcome));
+        } else {
+            narrow(matcher.getMatchingCandidates(previousGuess.toCharArray(), outcome));
+        }
+    }
+
+    private static boolean isComplete(Color[] outcome) {
+        for (Color color : outcome) {
+            if (color == null) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return findNextWord(outcome);
+    private boolean isPartitioned(String previousGuess) {
+        return partition != null && partition.getGuess().equals(previousGuess);
+    }
+
+    private void narrow(CandidateSet matching) {
+        dictionary.intersect(matching);
+    }
+
+    /**
+     * Splits the remaining words up by the coloring they give against the word about to be played, in one pass, so
+     * that narrowing on whatever coloring the game gives back is just a slice.
+     *
+     * @return the word
+     */
+    private String recommend(String word) {
+        partition = word == null || patternCalculator == null ? null
+                : OutcomePartition.of(patternCalculator, word, dictionary.getWordList(), dictionary.getCandidates());
+        return word;
     }
 
     private String findNextWord(Color[] knownColors) {
+        return findBestWord(word -> goodnessCalculator.calculateGoodness(word, knownColors, dictionary.size()));
+    }
+
+    private String findBestWord(ToDoubleFunction<String> goodness) {
         if (dictionary.size() == 1) {
             return dictionary.getWords().get(0);
         }
@@ -49,7 +229,7 @@ public class Solver {
 
         for (String word : dictionary.getWords()) {
 
-            double average = goodnessCalculator.calculateGoodness(word, knownColors, dictionary.size());
+            double average = goodness.applyAsDouble(word);
             if (average > bestAverage) {
                 bestAverage = average;
                 bestWord = word;
@@ -0,0 +1,153 @@
+package wordle;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A complete plan for playing the game: the word to open with, and for every coloring the game can answer with, the
+ * word to play next. {@link OptimalStrategySearch} builds these, and {@link Solver#followStrategy(StrategyTree)} plays
+ * from one.
+ * <p/>
+ * The text form has one line per word, indented two spaces for each guess before it. After the first line, each word
+ * is preceded by the coloring that leads to it:
+ * <pre>
+ * tares
+ *   ----- colin
+ *     G---- cough
+ *   ----Y ...
+ * </pre>
+ */
+public final class StrategyTree {
+
+    private final Node root;
+    private final int wordLength;
+
+    public StrategyTree(Node root) {
+        this.root = root;
+        this.wordLength = root.getGuess().length();
+    }
+
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Plays a game against the answer by following the tree.
+     *
+     * @return the number of guesses it took, or 0 if the tree runs out before finding the answer
+     */
+    public int play(String answer, PatternCalculator calculator) {
+        Node node = root;
+        for (int guesses = 1; node != null; guesses++) {
+            int pattern = calculator.calculate(node.getGuess(), answer);
+            if (pattern == calculator.getSolvedPattern()) {
+                return guesses;
+            }
+            node = node.getChild(pattern);
+        }
+        return 0;
+    }
+
+    public void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(root.getGuess());
+            writer.newLine();
+            write(writer, root, 1);
+        }
+    }
+
+    private void write(BufferedWriter writer, Node node, int depth) throws IOException {
+        for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+            for (int i = 0; i < depth; i++) {
+                writer.write("  ");
+            }
+            writer.write(PatternCode.format(child.getKey(), wordLength));
+            writer.write(' ');
+            writer.write(child.getValue().getGuess());
+            writer.newLine();
+            write(writer, child.getValue(), depth + 1);
+        }
+    }
+
+    public static StrategyTree read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || lines.get(0).trim().isEmpty()) {
+            throw new IOException("No strategy in " + file);
+        }
+        Node root = new Node(lines.get(0).trim());
+        // the nodes along the path to the current line, so that the top is the parent of the next line
+        Deque<Node> path = new ArrayDeque<>();
+        path.push(root);
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            int indent = 0;
+            while (indent < line.length() && line.charAt(indent) == ' ') {
+                indent++;
+            }
+            String[] parts = line.trim().split(" ");
+            int depth = indent / 2;
+            if (indent % 2 != 0 || depth < 1 || depth > path.size() || parts.length != 2) {
+                throw new IOException("Malformed strategy at line " + (i + 1) + " of " + file);
+            }
+            while (path.size() > depth) {
+                path.pop();
+            }
+            Node child = new Node(parts[1]);
+            try {
+                path.peek().addChild(PatternCode.parse(parts[0]), child);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Malformed strategy at line " + (i + 1) + " of " + file, e);
+            }
+            path.push(child);
+        }
+        return new StrategyTree(root);
+    }
+
+    /**
+     * A word to play, and what to play after it for each coloring.
+     */
+    public static final class Node {
+        private final String guess;
+        private final Map<Integer, Node> children = new TreeMap<>();
+
+        public Node(String guess) {
+            this.guess = guess;
+        }
+
+        public String getGuess() {
+            return guess;
+        }
+
+        /**
+         * @return what to play after the guess gets the coloring, or null if the plan doesn't cover it
+         */
+        public Node getChild(int pattern) {
+            return children.get(pattern);
+        }
+
+        /**
+         * @return the next words to play, by the coloring that leads to them
+         */
+        public Map<Integer, Node> getChildren() {
+            return Collections.unmodifiableMap(children);
+        }
+
+        void addChild(int pattern, Node child) {
+            if (children.putIfAbsent(pattern, child) != null) {
+                throw new IllegalArgumentException("The plan already has a word after " + guess + " for " + pattern);
+            }
+        }
+    }
+}
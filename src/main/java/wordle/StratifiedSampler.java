@@ -0,0 +1,105 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Draws random samples of the remaining answers, for estimating how good a guess is without comparing it against every
+ * answer (see {@link GoodnessCalculator#estimateGoodness}).
+ * <p/>
+ * The answers are split into strata by their first letter, and each sample takes from every stratum in proportion to
+ * its size. Words that start the same way tend to color the same way, so this gives steadier estimates than a plain
+ * random sample of the same size. The shuffling is seeded, so the same answers and seed always give the same samples,
+ * and a larger sample mostly contains the smaller ones.
+ */
+public class StratifiedSampler {
+
+    private final int populationSize;
+    // the answers in each stratum, in the order they are sampled
+    private final List<List<char[]>> strata = new ArrayList<>();
+
+    public StratifiedSampler(List<String> answers, long seed) {
+        this.populationSize = answers.size();
+
+        Map<Character, List<char[]>> byFirstLetter = new TreeMap<>();
+        for (String answer : answers) {
+            byFirstLetter.computeIfAbsent(answer.charAt(0), letter -> new ArrayList<>()).add(answer.toCharArray());
+        }
+        Random random = new Random(seed);
+        for (List<char[]> stratum : byFirstLetter.values()) {
+            Collections.shuffle(stratum, random);
+            strata.add(stratum);
+        }
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * @param size the number of answers to draw. It is capped at the number of answers.
+     * @return a sample of about that size. Each stratum gets its share rounded up or down, and every stratum gets at
+     * least one answer, so the sample can come out a little larger.
+     */
+    public AnswerSample sample(int size) {
+        size = Math.min(size, populationSize);
+        int numStrata = strata.size();
+        int[] stratumSizes = new int[numStrata];
+        int[] sampledSizes = allocate(size);
+
+        int total = 0;
+        for (int h = 0; h < numStrata; h++) {
+            stratumSizes[h] = strata.get(h).size();
+            total += sampledSizes[h];
+        }
+
+        char[][] answers = new char[total][];
+        int[] stratumOf = new int[total];
+        int next = 0;
+        for (int h = 0; h < numStrata; h++) {
+            for (int i = 0; i < sampledSizes[h]; i++) {
+                answers[next] = strata.get(h).get(i);
+                stratumOf[next] = h;
+                next++;
+            }
+        }
+        return new AnswerSample(answers, stratumOf, stratumSizes, sampledSizes, populationSize);
+    }
+
+    /**
+     * Splits the sample between the strata in proportion to their sizes, handing the leftover answers to the strata
+     * with the largest remainders.
+     */
+    private int[] allocate(int size) {
+        int numStrata = strata.size();
+        int[] sampledSizes = new int[numStrata];
+        double[] remainders = new double[numStrata];
+        int allocated = 0;
+        for (int h = 0; h < numStrata; h++) {
+            double share = (double) size * strata.get(h).size() / populationSize;
+            sampledSizes[h] = (int) share;
+            remainders[h] = share - sampledSizes[h];
+            allocated += sampledSizes[h];
+        }
+        while (allocated < size) {
+            int largest = -1;
+            for (int h = 0; h < numStrata; h++) {
+                if (sampledSizes[h] < strata.get(h).size() && (largest < 0 || remainders[h] > remainders[largest])) {
+                    largest = h;
+                }
+            }
+            sampledSizes[largest]++;
+            remainders[largest] = -1;
+            allocated++;
+        }
+        for (int h = 0; h < numStrata; h++) {
+            // a stratum with nothing sampled would go unrepresented in the estimate
+            sampledSizes[h] = Math.max(sampledSizes[h], Math.min(1, size));
+        }
+        return sampledSizes;
+    }
+}
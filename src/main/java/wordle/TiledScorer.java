@@ -0,0 +1,282 @@
+package wordle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Scores guesses against a set of target words within a fixed memory budget.
+ * <p/>
+ * A {@link PatternTable} holds the coloring of every guess against every target, which is fine for a few thousand
+ * words but runs to tens of gigabytes for a 100k word dictionary. Instead, this works on tiles: it computes the
+ * colorings for a block of guesses against a block of targets, counts them into a histogram per guess, and throws the
+ * tile away. Once a block of guesses has seen every target, their histograms are turned into scores and reused for the
+ * next block. The tiles and histograms are sized to fit in the budget.
+ * <p/>
+ * Optionally, the tiles can be written to a scratch file as they are computed. The file lives outside the heap, and
+ * scoring the same guesses and targets again reads the colorings back instead of computing them.
+ * <p/>
+ * This is not thread safe, but each tile is computed in parallel.
+ */
+public class TiledScorer {
+
+    // big enough that each row of a tile is a decent chunk of work, small enough to leave room for many rows
+    private static final int MAX_ANSWER_BLOCK = 16_384;
+
+    private final PatternCalculator patternCalculator;
+    private final GoodnessCalculator goodnessCalculator;
+    private final long memoryBudget;
+    private final Path scratchFile;
+    private final int numPatterns;
+    private final int bytesPerPattern;
+
+    // what the scratch file holds, if it has been completely written
+    private List<String> spilledGuesses;
+    private List<String> spilledAnswers;
+
+    public TiledScorer(PatternCalculator patternCalculator, GoodnessCalculator goodnessCalculator,
+            long memoryBudget) {
+        this(patternCalculator, goodnessCalculator, memoryBudget, null);
+    }
+
+    /**
+     * @param patternCalculator calculates the colorings
+     * @param goodnessCalculator turns each guess's histogram into a score
+     * @param memoryBudget the number of bytes the tiles and histograms may use
+     * @param scratchFile where to keep the computed colorings, or null to recompute them every time
+     */
+    public TiledScorer(PatternCalculator patternCalculator, GoodnessCalculator goodnessCalculator, long memoryBudget,
+            Path scratchFile) {
+        this.patternCalculator = patternCalculator;
+        this.goodnessCalculator = goodnessCalculator;
+        this.memoryBudget = memoryBudget;
+        this.scratchFile = scratchFile;
+        this.numPatterns = patternCalculator.getNumPatterns();
+        this.bytesPerPattern = numPatterns <= 1 << 8 ? 1 : 2;
+        if (numPatterns > 1 << 16) {
+            throw new IllegalArgumentException("Words of length " + patternCalculator.getWordLength()
+                    + " are too long");
+        }
+        if (memoryBudget < histogramBytes() + bytesPerPattern) {
+            throw new IllegalArgumentException("The memory budget must be at least "
+                    + (histogramBytes() + bytesPerPattern) + " bytes");
+        }
+    }
+
+    /**
+     * Finds the guess with the best score.
+     *
+     * @return the best guess, or null if there are no guesses
+     */
+    public String findBestGuess(List<String> guesses, List<String> answers, Color[] knownColors) {
+        double[] scores = score(guesses, answers, knownColors);
+        String bestWord = null;
+        double bestScore = 0.0;
+        for (int i = 0; i < scores.length; i++) {
+            if (bestWord == null || scores[i] > bestScore) {
+                bestScore = scores[i];
+                bestWord = guesses.get(i);
+            }
+        }
+        return bestWord;
+    }
+
+    /**
+     * Scores every guess against the target words, as {@link GoodnessCalculator} would.
+     *
+     * @param guesses the words to score
+     * @param answers the words that could be the target
+     * @param knownColors the colors that are known already. Only the green ones matter.
+     * @return the score of each guess, in the same order as the guesses
+     */
+    public double[] score(List<String> guesses, List<String> answers, Color[] knownColors) {
+        char[][] guessLetters = toLetters(guesses);
+        char[][] answerLetters = toLetters(answers);
+        int numGuesses = guessLetters.length;
+        int numAnswers = answerLetters.length;
+        double[] scores = new double[numGuesses];
+        if (numGuesses == 0 || numAnswers == 0) {
+            return scores;
+        }
+
+        int answerBlock = answerBlockSize(numAnswers);
+        int guessBlock = guessBlockSize(numGuesses, answerBlock);
+
+        boolean readSpill = scratchFile != null && guesses.equals(spilledGuesses) && answers.equals(spilledAnswers);
+        boolean writeSpill = scratchFile != null && !readSpill;
+        spilledGuesses = null;
+        spilledAnswers = null;
+
+        byte[] tile = new byte[guessBlock * answerBlock * bytesPerPattern];
+        int[][] histograms = new int[guessBlock][numPatterns];
+
+        try (FileChannel spill = openScratchFile(readSpill, writeSpill)) {
+            for (int g0 = 0; g0 < numGuesses; g0 += guessBlock) {
+                int guessStart = g0;
+                int guessEnd = Math.min(numGuesses, g0 + guessBlock);
+                for (int[] histogram : histograms) {
+                    Arrays.fill(histogram, 0);
+                }
+
+                for (int a0 = 0; a0 < numAnswers; a0 += answerBlock) {
+                    int answerStart = a0;
+                    int answerEnd = Math.min(numAnswers, a0 + answerBlock);
+                    int rowBytes = (answerEnd - answerStart) * bytesPerPattern;
+
+                    IntStream.range(guessStart, guessEnd).parallel().forEach(guess -> {
+                        int row = guess - guessStart;
+                        int offset = row * answerBlock * bytesPerPattern;
+                        long filePosition = ((long) guess * numAnswers + answerStart) * bytesPerPattern;
+                        if (readSpill) {
+                            read(spill, tile, offset, rowBytes, filePosition);
+                        } else {
+                            for (int answer = answerStart; answer < answerEnd; answer++) {
+                                putPattern(tile, offset, answer - answerStart,
+                                        patternCalculator.calculate(guessLetters[guess], answerLetters[answer]));
+                            }
+                            if (writeSpill) {
+                                write(spill, tile, offset, rowBytes, filePosition);
+                            }
+                        }
+
+                        int[] histogram = histograms[row];
+                        for (int i = 0; i < answerEnd - answerStart; i++) {
+                            histogram[getPattern(tile, offset, i)]++;
+                        }
+                    });
+                }
+
+                IntStream.range(guessStart, guessEnd).parallel().forEach(guess ->
+                        scores[guess] = goodnessCalculator.calculateGoodness(guessLetters[guess],
+                                histograms[guess - guessStart], knownColors, numAnswers));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not use scratch file " + scratchFile, e);
+        }
+
+        if (scratchFile != null) {
+            spilledGuesses = new ArrayList<>(guesses);
+            spilledAnswers = new ArrayList<>(answers);
+        }
+        return scores;
+    }
+
+    private int answerBlockSize(int numAnswers) {
+        // at the very least, one guess's histogram and a row of one tile has to fit
+        long maxRow = (memoryBudget - histogramBytes()) / bytesPerPattern;
+        return (int) Math.min(Math.min(numAnswers, MAX_ANSWER_BLOCK), maxRow);
+    }
+
+    private int guessBlockSize(int numGuesses, int answerBlock) {
+        long bytesPerGuess = histogramBytes() + (long) answerBlock * bytesPerPattern;
+        // a tile is a single array, so it can't be larger than an array can be
+        long maxGuesses = Math.min(memoryBudget / bytesPerGuess,
+                Integer.MAX_VALUE / ((long) answerBlock * bytesPerPattern));
+        return (int) Math.max(1, Math.min(numGuesses, maxGuesses));
+    }
+
+    private long histogramBytes() {
+        return (long) numPatterns * Integer.BYTES;
+    }
+
+    private void putPattern(byte[] tile, int offset, int index, int pattern) {
+        if (bytesPerPattern == 1) {
+            tile[offset + index] = (byte) pattern;
+        } else {
+            tile[offset + 2 * index] = (byte) (pattern >>> 8);
+            tile[offset + 2 * index + 1] = (byte) pattern;
+        }
+    }
+
+    private int getPattern(byte[] tile, int offset, int index) {
+        if (bytesPerPattern == 1) {
+            return tile[offset + index] & 0xFF;
+        }
+        return ((tile[offset + 2 * index] & 0xFF) << 8) | (tile[offset + 2 * index + 1] & 0xFF);
+    }
+
+    private FileChannel openScratchFile(boolean read, boolean write) throws IOException {
+        if (read) {
+            return FileChannel.open(scratchFile, StandardOpenOption.READ);
+        } else if (write) {
+            return FileChannel.open(scratchFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        return null;
+    }
+
+    private void read(FileChannel channel, byte[] tile, int offset, int length, long position) {
+        ByteBuffer buffer = ByteBuffer.wrap(tile, offset, length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position() - offset) < 0) {
+                    throw new IOException("Scratch file is truncated");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(FileChannel channel, byte[] tile, int offset, int length, long position) {
+        ByteBuffer buffer = ByteBuffer.wrap(tile, offset, length);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position() - offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private char[][] toLetters(List<String> words) {
+        char[][] letters = new char[words.size()][];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = words.get(i).toCharArray();
+        }
+        return letters;
+    }
+
+    /**
+     * Finds the best first word for a large dictionary file.
+     * <p/>
+     * Arguments: the dictionary file, prepared with {@link DictionaryPreparer}; the memory budget in megabytes; and
+     * optionally a scratch file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: TiledScorer <dictionary file> <memory budget in MB> [scratch file]");
+            return;
+        }
+        List<String> lines = Files.readAllLines(Paths.get(args[0]));
+        int wordLength = lines.get(0).length();
+        List<String> words = lines.stream()
+                .map(String::toLowerCase)
+                .filter(word -> word.length() == wordLength)
+                .distinct()
+                .collect(Collectors.toList());
+        long budget = Long.parseLong(args[1]) * 1024 * 1024;
+        Path scratchFile = args.length > 2 ? Paths.get(args[2]) : null;
+
+        PatternCalculator patternCalculator = new PatternCalculator(wordLength);
+        GoodnessCalculator goodnessCalculator = new GoodnessCalculator(wordLength,
+                new WordMatcher(new Dictionary(words)), new EntropyCalculator(),
+                new ColoringEnumerator(patternCalculator));
+        TiledScorer scorer = new TiledScorer(patternCalculator, goodnessCalculator, budget, scratchFile);
+
+        System.out.println("Scoring " + words.size() + " " + wordLength + "-letter words...");
+        long start = System.nanoTime();
+        String best = scorer.findBestGuess(words, words, new Color[wordLength]);
+        System.out.println("Best first word: " + best + " (" + (System.nanoTime() - start) / 1_000_000 + " ms)");
+    }
+}
@@ -0,0 +1,161 @@
+package wordle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends the turns of real games to a trace file, so they can be replayed later with {@link TraceReplay}. Wrap each
+ * game's {@link Solver} in a {@link RecordingSolver} to record it. Any number of games can record to the same recorder
+ * at once; their turns are interleaved in the file and told apart by game.
+ * <p/>
+ * Every number is written as a {@link VarInts} and every word as its length and UTF-8 bytes, so a turn takes
+ * around 20 bytes. Each turn is flushed as soon as it is written, and if the process dies halfway through one, the
+ * partial turn is ignored when reading and dropped when the file is opened again.
+ */
+public final class TraceRecorder implements Closeable {
+
+    // "WTRC", so that some other file is rejected rather than misread
+    private static final int MAGIC = 0x57545243;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    private final DataOutputStream out;
+    private final AtomicLong nextGame;
+
+    private TraceRecorder(DataOutputStream out, long nextGame) {
+        this.out = out;
+        this.nextGame = new AtomicLong(nextGame);
+    }
+
+    /**
+     * Opens a trace file for appending, creating it if needed. The games already in the file keep their numbers, and
+     * new games are numbered after them.
+     */
+    public static TraceRecorder open(Path file) throws IOException {
+        long nextGame = 0;
+        boolean empty = !Files.exists(file) || Files.size(file) == 0;
+        if (!empty) {
+            List<TraceTurn> turns = new ArrayList<>();
+            int end = parse(Files.readAllBytes(file), file, turns);
+            for (TraceTurn turn : turns) {
+                nextGame = Math.max(nextGame, turn.getGame() + 1);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)));
+        if (empty) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.flush();
+        }
+        return new TraceRecorder(out, nextGame);
+    }
+
+    /**
+     * @return a number for a new game, to label its turns with
+     */
+    public long newGame() {
+        return nextGame.getAndIncrement();
+    }
+
+    public synchronized void record(TraceTurn turn) throws IOException {
+        VarInts.write(out, turn.getGame());
+        writeWord(out, turn.getGuess());
+        VarInts.write(out, turn.getPattern());
+        VarInts.write(out, turn.getCandidatesBefore());
+        VarInts.write(out, turn.getCandidatesAfter());
+        writeWord(out, turn.getChosenWord());
+        VarInts.write(out, turn.getLatencyNanos());
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Reads every complete turn in a trace file, in the order they were recorded.
+     */
+    public static List<TraceTurn> read(Path file) throws IOException {
+        List<TraceTurn> turns = new ArrayList<>();
+        parse(Files.readAllBytes(file), file, turns);
+        return turns;
+    }
+
+    /**
+     * @return the length of the file up to the end of the last complete turn
+     */
+    private static int parse(byte[] bytes, Path file, List<TraceTurn> turns) throws IOException {
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(buffer);
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a game trace: " + file);
+            }
+        } catch (EOFException e) {
+            throw new IOException("Not a game trace: " + file, e);
+        }
+
+        int end = HEADER_SIZE;
+        while (buffer.available() > 0) {
+            try {
+                long game = VarInts.read(in);
+                String guess = readWord(in);
+                int pattern = VarInts.readInt(in);
+                int before = VarInts.readInt(in);
+                int after = VarInts.readInt(in);
+                String chosenWord = readWord(in);
+                long latency = VarInts.read(in);
+                turns.add(new TraceTurn(game, guess, pattern, before, after, chosenWord, latency));
+                end = bytes.length - buffer.available();
+            } catch (EOFException e) {
+                // the recorder stopped partway through this turn
+                break;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Writes the word as its length and UTF-8 bytes. No word is empty, so a length of 0 stands for null.
+     */
+    private static void writeWord(DataOutput out, String word) throws IOException {
+        if (word == null) {
+            VarInts.write(out, 0);
+            return;
+        }
+        byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+        VarInts.write(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readWord(DataInput in) throws IOException {
+        int length = VarInts.readInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package wordle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Feeds the games in a trace from a {@link TraceRecorder} back through the {@link Solver} as fast as it will go, to
+ * measure how long the turns take and to check that the solver still picks the same words. Each game gets a fresh
+ * solver and is told the recorded guesses and colors, so a game stays on its recorded path even where this solver
+ * would have played differently.
+ * <p/>
+ * Games can be replayed on several threads at once, to see how the turns hold up when games compete for the CPU and
+ * the memory bandwidth.
+ */
+public class TraceReplay {
+
+    private final WordList wordList;
+    private final int wordLength;
+    private final EntropyCalculator entropyCalculator = new EntropyCalculator();
+    private final ColoringEnumerator coloringEnumerator;
+
+    /**
+     * @param wordList the words the games were played with. Replaying against a different list is allowed, but the
+     * solver will likely pick different words.
+     */
+    public TraceReplay(WordList wordList) {
+        if (wordList.size() == 0) {
+            throw new IllegalArgumentException("The word list is empty");
+        }
+        this.wordList = wordList;
+        this.wordLength = wordList.get(0).length();
+        this.coloringEnumerator = new ColoringEnumerator(new PatternCalculator(wordLength));
+    }
+
+    /**
+     * @param turns the recorded turns, in the order they were recorded
+     * @param threads how many games to replay at once
+     */
+    public ReplayReport replay(List<TraceTurn> turns, int threads) throws InterruptedException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        Map<Long, List<TraceTurn>> games = new LinkedHashMap<>();
+        for (TraceTurn turn : turns) {
+            games.computeIfAbsent(turn.getGame(), game -> new ArrayList<>()).add(turn);
+        }
+
+        List<Callable<GameReplay>> tasks = new ArrayList<>(games.size());
+        for (List<TraceTurn> game : games.values()) {
+            tasks.add(() -> replayGame(game));
+        }
+
+        long start = System.nanoTime();
+        List<GameReplay> replays = new ArrayList<>(tasks.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<GameReplay> future : executor.invokeAll(tasks)) {
+                replays.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("A game could not be replayed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long[] recorded = new long[turns.size()];
+        long[] replayed = new long[turns.size()];
+        List<ReplayReport.Difference> differences = new ArrayList<>();
+        int next = 0;
+        for (GameReplay replay : replays) {
+            for (int i = 0; i < replay.turns.size(); i++) {
+                recorded[next] = replay.turns.get(i).getLatencyNanos();
+                replayed[next] = replay.latencies[i];
+                next++;
+            }
+            differences.addAll(replay.differences);
+        }
+        return new ReplayReport(games.size(), threads, elapsed, new LatencySummary(recorded),
+                new LatencySummary(replayed), differences);
+    }
+
+    private GameReplay replayGame(List<TraceTurn> turns) {
+        Dictionary dictionary = new Dictionary(wordList);
+        WordMatcher matcher = new WordMatcher(dictionary);
+        Solver solver = new Solver(wordLength, dictionary, matcher,
+                new GoodnessCalculator(wordLength, matcher, entropyCalculator, coloringEnumerator));
+
+        GameReplay replay = new GameReplay(turns);
+        for (int i = 0; i < turns.size(); i++) {
+            TraceTurn turn = turns.get(i);
+            long start = System.nanoTime();
+            String word = solver.findNextWord(turn.getGuess(), turn.getPattern());
+            replay.latencies[i] = System.nanoTime() - start;
+            if (!Objects.equals(word, turn.getChosenWord())) {
+                replay.differences.add(new ReplayReport.Difference(turn, i, word));
+            }
+        }
+        return replay;
+    }
+
+    private static final class GameReplay {
+        private final List<TraceTurn> turns;
+        private final long[] latencies;
+        private final List<ReplayReport.Difference> differences = new ArrayList<>();
+
+        private GameReplay(List<TraceTurn> turns) {
+            this.turns = turns;
+            this.latencies = new long[turns.size()];
+        }
+    }
+
+    /**
+     * Replays a trace file against the bundled dictionary and prints the report.
+     * <p/>
+     * Arguments: the trace file, then optionally how many games to replay at once, 1 by default.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.out.println("Usage: TraceReplay <trace file> [threads]");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        List<TraceTurn> turns = TraceRecorder.read(file);
+        WordList wordList = new DictionaryFileLoader("/dictionary.txt").buildWordList();
+        System.out.println("Replaying " + turns.size() + " turns from " + file + " on " + threads + " thread(s)...");
+        System.out.println(new TraceReplay(wordList).replay(turns, threads));
+    }
+}
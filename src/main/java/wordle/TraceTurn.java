@@ -0,0 +1,73 @@
+package wordle;
+
+/**
+ * One recorded turn of a game: what the {@link Solver} was told, and what it did with it. See {@link TraceRecorder}.
+ */
+public final class TraceTurn {
+
+    private final long game;
+    private final String guess;
+    private final int pattern;
+    private final int candidatesBefore;
+    private final int candidatesAfter;
+    private final String chosenWord;
+    private final long latencyNanos;
+
+    /**
+     * @param game the game the turn belongs to, unique within a trace file
+     * @param guess the word that was played
+     * @param pattern the colors the game gave for it, as a {@link PatternCode}
+     * @param candidatesBefore how many words were possible before the colors were known
+     * @param candidatesAfter how many words were possible after
+     * @param chosenWord the word the solver picked to play next, or null if it found none
+     * @param latencyNanos how long the solver took
+     */
+    public TraceTurn(long game, String guess, int pattern, int candidatesBefore, int candidatesAfter,
+            String chosenWord, long latencyNanos) {
+        this.game = game;
+        this.guess = guess;
+        this.pattern = pattern;
+        this.candidatesBefore = candidatesBefore;
+        this.candidatesAfter = candidatesAfter;
+        this.chosenWord = chosenWord;
+        this.latencyNanos = latencyNanos;
+    }
+
+    public long getGame() {
+        return game;
+    }
+
+    public String getGuess() {
+        return guess;
+    }
+
+    public int getPattern() {
+        return pattern;
+    }
+
+    public int getCandidatesBefore() {
+        return candidatesBefore;
+    }
+
+    public int getCandidatesAfter() {
+        return candidatesAfter;
+    }
+
+    /**
+     * @return the word the solver picked to play next, or null if it found none
+     */
+    public String getChosenWord() {
+        return chosenWord;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("game %d: %s %s, %d -> %d words, chose %s in %.3f ms", game, guess,
+                PatternCode.format(pattern, guess.length()), candidatesBefore, candidatesAfter, chosenWord,
+                latencyNanos / 1e6);
+    }
+}
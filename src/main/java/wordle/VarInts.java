@@ -0,0 +1,50 @@
+package wordle;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Reads and writes non-negative numbers in as few bytes as they need, for the binary files that mostly hold small
+ * numbers. The number is written 7 bits at a time, least significant first, with the high bit set on every byte but
+ * the last.
+ */
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    static void write(DataOutput out, long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Can't write a negative number: " + value);
+        }
+        while (value >= 0x80) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long read(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number");
+    }
+
+    /**
+     * @throws IOException if the number doesn't fit in an int
+     */
+    static int readInt(DataInput in) throws IOException {
+        long value = read(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Number out of range: " + value);
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,137 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The words loaded from a dictionary file, along with the indexes that are built from them. It never changes once it
+ * is built, so one copy can be shared by any number of games at once. Each game narrows down its own
+ * {@link Dictionary} view of it.
+ */
+public final class WordList {
+
+    // the string, letter array and map entry headers, plus the references to them
+    private static final int BYTES_PER_WORD = 136;
+    // one byte in the string, and two in the letter array
+    private static final int BYTES_PER_LETTER = 3;
+
+    private final List<String> words;
+    private final char[][] letters;
+    private final Map<String, Integer> indexes;
+    private final Alphabet alphabet;
+    private final CandidateSet everyWord;
+
+    public WordList(List<String> words) {
+        this.words = Collections.unmodifiableList(new ArrayList<>(words));
+        this.letters = new char[words.size()][];
+        this.indexes = new HashMap<>(words.size() * 2);
+        for (int i = 0; i < words.size(); i++) {
+            letters[i] = this.words.get(i).toCharArray();
+            indexes.putIfAbsent(this.words.get(i), i);
+        }
+        this.alphabet = Alphabet.of(this.words);
+        this.everyWord = CandidateSet.all(words.size());
+    }
+
+    private WordList(List<String> words, char[][] letters) {
+        this.words = Collections.unmodifiableList(words);
+        this.letters = letters;
+        this.indexes = new HashMap<>(words.size() * 2);
+        for (int i = 0; i < words.size(); i++) {
+            indexes.putIfAbsent(words.get(i), i);
+        }
+        this.alphabet = Alphabet.of(words);
+        this.everyWord = CandidateSet.all(words.size());
+    }
+
+    /**
+     * Makes a new list with some words added and some removed. The words that stay keep their order, and the added
+     * ones go at the end. The letters of the words that stay are shared with this list rather than worked out again.
+     * This list is left as it is, so games that are using it aren't affected.
+     *
+     * @param added the words to add. Words that are already in the list are skipped.
+     * @param removed the words to remove
+     */
+    public WordList update(Collection<String> added, Collection<String> removed) {
+        Set<String> toRemove = new HashSet<>(removed);
+        List<String> updated = new ArrayList<>(words.size() + added.size());
+        List<char[]> updatedLetters = new ArrayList<>(words.size() + added.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            if (!toRemove.contains(word) && seen.add(word)) {
+                updated.add(word);
+                updatedLetters.add(letters[i]);
+            }
+        }
+        for (String word : added) {
+            if (seen.add(word)) {
+                updated.add(word);
+                updatedLetters.add(word.toCharArray());
+            }
+        }
+        return new WordList(updated, updatedLetters.toArray(new char[0][]));
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    public String get(int index) {
+        return words.get(index);
+    }
+
+    /**
+     * @return the letters of the word at the given index. The array is shared, so it must not be modified.
+     */
+    public char[] getLetters(int index) {
+        return letters[index];
+    }
+
+    /**
+     * @return the index of the word, or -1 if it is not in the list
+     */
+    public int indexOf(String word) {
+        Integer index = indexes.get(word);
+        return index == null ? -1 : index;
+    }
+
+    public boolean contains(String word) {
+        return indexes.containsKey(word);
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * @return the letters the words are spelled with
+     */
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * @return the set of every word in the list, which new games start from
+     */
+    public CandidateSet getEveryWord() {
+        return everyWord;
+    }
+
+    /**
+     * @return roughly how many bytes the list takes up: each word's string, its letters, and its entry in the index
+     */
+    long estimateBytes() {
+        long bytes = 0;
+        for (String word : words) {
+            bytes += BYTES_PER_WORD + BYTES_PER_LETTER * word.length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,69 @@
+package wordle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The words added to and removed from a {@link WordList} when its source changes.
+ */
+public final class WordListDiff {
+
+    private final List<String> added;
+    private final List<String> removed;
+
+    private WordListDiff(List<String> added, List<String> removed) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * @param current the words in use now
+     * @param words the new words
+     * @return the difference, with the added words in their new order and the removed words in their old order
+     */
+    public static WordListDiff between(WordList current, List<String> words) {
+        Set<String> updated = new LinkedHashSet<>(words);
+        List<String> added = new ArrayList<>();
+        for (String word : updated) {
+            if (!current.contains(word)) {
+                added.add(word);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String word : current.getWords()) {
+            if (!updated.contains(word) && seen.add(word)) {
+                removed.add(word);
+            }
+        }
+        return new WordListDiff(added, removed);
+    }
+
+    public List<String> getAdded() {
+        return added;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * @return a new list with the changes made to the given one
+     */
+    public WordList applyTo(WordList wordList) {
+        return wordList.update(added, removed);
+    }
+
+    @Override
+    public String toString() {
+        return "+" + added.size() + " -" + removed.size();
+    }
+}
@@ -0,0 +1,165 @@
+package wordle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a {@link WordList} in step with a dictionary file, so the words can be changed without a restart. When the
+ * file changes, the new words are compared with the current ones, the list is updated with just the differences (see
+ * {@link WordList#update}), and the new list replaces the old one in a single step.
+ * <p/>
+ * A word list never changes once built, so a game that started on the old list keeps playing on it: each game should
+ * get its {@link Dictionary} from {@link #newDictionary()} when it starts. Anything built from the words, such as a
+ * {@link PatternTable}, can be brought up to date in a {@link Listener} (see {@link PatternTable#update}).
+ * <p/>
+ * The file is read whenever it changes, so a half-written file could be picked up for a moment. Write the new file
+ * next to the old one and move it into place instead.
+ */
+public class WordListWatcher implements Closeable {
+
+    /**
+     * Told about each new word list once it is in use.
+     */
+    public interface Listener {
+        void onReload(WordList previous, WordList current, WordListDiff diff);
+
+        /**
+         * Told when the file changed but could not be read, once started. The current words stay in use, and the
+         * file is read again on its next change. Does nothing unless overridden.
+         */
+        default void onReloadFailed(Path file, IOException e) {
+        }
+    }
+
+    private final Path file;
+    private final AtomicReference<WordList> current;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private WatchService watchService;
+
+    /**
+     * Loads the words from the file. Call {@link #start()} to pick up changes to it.
+     */
+    public WordListWatcher(Path file) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.current = new AtomicReference<>(new WordList(readWords(this.file)));
+    }
+
+    /**
+     * @return the words as of the latest change to the file
+     */
+    public WordList getWordList() {
+        return current.get();
+    }
+
+    /**
+     * Starts a game on the current words. Later changes to the file don't affect it.
+     */
+    public Dictionary newDictionary() {
+        return new Dictionary(current.get());
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Reads the file again and swaps in the new words if they changed. This is done automatically once started, but
+     * can also be called directly.
+     *
+     * @return whether the words changed
+     */
+    public synchronized boolean reload() throws IOException {
+        WordList previous = current.get();
+        WordListDiff diff = WordListDiff.between(previous, readWords(file));
+        if (diff.isEmpty()) {
+            return false;
+        }
+        WordList updated = diff.applyTo(previous);
+        current.set(updated);
+        for (Listener listener : listeners) {
+            listener.onReload(previous, updated, diff);
+        }
+        return true;
+    }
+
+    /**
+     * Starts watching the file for changes, on a background thread.
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            throw new IllegalStateException("Already watching " + file);
+        }
+        WatchService service = file.getFileSystem().newWatchService();
+        // a file can't be watched by itself, only the directory it is in
+        file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        watchService = service;
+
+        Thread thread = new Thread(() -> watch(service), "word-list-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching the file. The current words stay available.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    // an overflow means events were lost, so the file may have changed
+                    changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (IOException e) {
+                        // keep the words we have, and try again on the next change
+                        for (Listener listener : listeners) {
+                            listener.onReloadFailed(file, e);
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    /**
+     * Reads the words from the file, one per line, skipping blank lines.
+     */
+    static List<String> readWords(Path file) throws IOException {
+        List<String> words = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String word = line.trim();
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -1,12 +1,17 @@
 package wordle;
 
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 public class WordMatcher {
 
+    private static final int GRAY = 0;
+    private static final int YELLOW = 1;
+    private static final int GREEN = 2;
+    // only from a Color[] with a null in it, which says nothing about that position
+    private static final int ANY = 3;
+
     private final Dictionary dictionary;
 
     public WordMatcher(Dictionary dictionary) {
@@ -14,7 +19,30 @@ public class WordMatcher {
     }
 
     public int countMatchingWords(char[] letters, Color[] outcome) {
-        return getMatchingWords(letters, outcome).size();
+        return countMatchingWords(letters, unpack(letters, outcome));
+    }
+
+    /**
+     * Same as {@link #getMatchingWords(char[], int)}, but only counts the words. This is called for every coloring of
+     * every guess, so it checks the words one at a time rather than building a set.
+     */
+    public int countMatchingWords(char[] letters, int pattern) {
+        return countMatchingWords(letters, unpack(letters, pattern));
+    }
+
+    private int countMatchingWords(char[] letters, long digits) {
+        if (!isCanonical(letters, digits)) {
+            return 0;
+        }
+
+        List<String> words = dictionary.getWords();
+        int count = 0;
+        for (int i = 0; i < words.size(); i++) {
+            if (matches(words.get(i), letters, digits)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -22,114 +50,186 @@ public class WordMatcher {
      * There can be more than one way to express the colors for a guess. This expects the colors as Wordle would
      * output them, in terms of handling double letters.
      *
-     * TODO: am I sure this is how Wordle outputs the colors? It wouldn't be hard to support a more generalized scheme
-     *       that could accept any color order. Somewhere there needs to be a notion of the canonical scheme in order
-     *       to avoid filtering the dictionary for many equivalent colorings.
+     * Colorings that aren't in the canonical form match nothing. Use {@link ColoringEnumerator} to list only the
+     * canonical colorings of a guess, or to rewrite a coloring into the canonical form.
      *
      * @param letters the letters of the guessed word
-     * @param outcome the colors to apply to the guess
+     * @param outcome the colors to apply to the guess. A null color leaves its position unconstrained: it says
+     * nothing about that letter, either there or in the rest of the word.
      * @return the list of words matching the given coloring
      */
     public Set<String> getMatchingWords(char[] letters, Color[] outcome) {
-        if (letters.length != outcome.length) {
-            throw new IllegalArgumentException("Word length must be the same size as the color pattern");
-        }
+        return getMatchingWords(letters, unpack(letters, outcome));
+    }
 
-        // tally the occurrences of each letter as it is processed
-        // if we see a gray:
-        //      freeze the count so that a future yellow doesn't increase it
-        //      eliminate only the words with more than occur[letter] occurrences
-        // if we see a yellow, add one to the occurrences, and filter the set to the words with that many
-        // if we see a green, increase the count, even if it's frozen.
+    /**
+     * Same as {@link #getMatchingWords(char[], Color[])}, with the coloring as a {@link PatternCode}.
+     */
+    public Set<String> getMatchingWords(char[] letters, int pattern) {
+        return getMatchingWords(letters, unpack(letters, pattern));
+    }
 
-        int[] occur = new int[26];
-        boolean[] frozen = new boolean[26];
-        for (int i = 0; i < letters.length; i++) {
-            Color c = outcome[i];
-            int letterIdx = letters[i] - 'a';
-
-            if (c == Color.GRAY) {
-                frozen[letterIdx] = true;
-            } else if (c == Color.YELLOW) {
-                // if we see a letter yellow after seeing it gray, then this is an invalid
-                // coloring. We will see the canonical form of this coloring eventually.
-                if (frozen[letterIdx]) {
-                    return Set.of();
-                } else {
-                    occur[letterIdx]++;
-                }
-            } else if (c == Color.GREEN) {
-                occur[letterIdx]++;
+    private Set<String> getMatchingWords(char[] letters, long digits) {
+        if (!isCanonical(letters, digits)) {
+            return Set.of();
+        }
+
+        Set<String> possible = new HashSet<>();
+        for (String word : dictionary.getWords()) {
+            if (matches(word, letters, digits)) {
+                possible.add(word);
             }
         }
+        return possible;
+    }
 
-        Set<String> possible = new HashSet<>(dictionary.getWords());
+    /**
+     * Same as {@link #getMatchingWords(char[], Color[])}, but as indexes into the dictionary's word list, which is
+     * cheaper to build and to narrow the dictionary with.
+     */
+    public CandidateSet getMatchingCandidates(char[] letters, Color[] outcome) {
+        return getMatchingCandidates(letters, unpack(letters, outcome));
+    }
 
-        for (int i = 0; i < occur.length; i++) {
-            char letter = (char) (i + 'a');
+    /**
+     * Same as {@link #getMatchingCandidates(char[], Color[])}, with the coloring as a {@link PatternCode}.
+     */
+    public CandidateSet getMatchingCandidates(char[] letters, int pattern) {
+        return getMatchingCandidates(letters, unpack(letters, pattern));
+    }
 
-            if (occur[i] == 0) {
-                // if we know a letter doesn't appear (vs. not having any info about it), we will have seen a gray
-                if (frozen[i]) {
-                    removeWordsWithLetter(letter, possible);
-                }
-            } else if (frozen[i]) {
-                // The letter is in the word. Worry about where it is later.
-                //removeWordsWithoutLetter(letter, possible);
-                keepWordsWithExactlyNOccurrences(letter, occur[i], possible);
-            } else {
-                keepWordsWithAtLeastNOccurrences(letter, occur[i], possible);
-            }
+    private CandidateSet getMatchingCandidates(char[] letters, long digits) {
+        CandidateSet candidates = dictionary.getCandidates();
+        if (!isCanonical(letters, digits)) {
+            return CandidateSet.none(candidates.getUniverse());
         }
+        WordList wordList = dictionary.getWordList();
+        return candidates.retain(i -> matches(wordList.get(i), letters, digits));
+    }
 
-        // filter for positions
-        for (int i = 0; i < letters.length; i++) {
-            if (outcome[i] == Color.GRAY || outcome[i] == Color.YELLOW) {
-                removeWordsWithExactLetter(letters[i], i, possible);
-            } else if (outcome[i] == Color.GREEN) {
-                keepWordsWithExactLetter(letters[i], i, possible);
-            }
+    /**
+     * Same as {@link #unpack(char[], int)} for colors, where a null becomes {@link #ANY}. A code has no way to leave
+     * a position out, so this doesn't go through one.
+     */
+    private long unpack(char[] letters, Color[] outcome) {
+        if (letters.length != outcome.length) {
+            throw new IllegalArgumentException("Word length must be the same size as the color pattern");
         }
-
-        return possible;
+        long digits = 0;
+        for (int i = 0; i < outcome.length; i++) {
+            digits |= (long) toDigit(outcome[i]) << (2 * i);
+        }
+        return digits;
     }
 
-
-    private void removeWordsWithExactLetter(char letter, int position, Set<String> words) {
-        words.removeIf(word -> word.charAt(position) == letter);
+    private int toDigit(Color color) {
+        if (color == null) {
+            return ANY;
+        }
+        switch (color) {
+            case GREEN:
+                return GREEN;
+            case YELLOW:
+                return YELLOW;
+            default:
+                return GRAY;
+        }
     }
 
-    private void keepWordsWithExactLetter(char letter, int position, Set<String> words) {
-        words.removeIf(word -> word.charAt(position) != letter);
+    /**
+     * Spreads the code out to two bits per position, so that the color of each position is a shift away rather than
+     * a division.
+     */
+    private long unpack(char[] letters, int pattern) {
+        PatternCode.checkCode(pattern, letters.length);
+        long digits = 0;
+        for (int i = 0; i < letters.length; i++) {
+            digits |= (long) (pattern % 3) << (2 * i);
+            pattern /= 3;
+        }
+        return digits;
     }
 
-    private void keepWordsWithExactlyNOccurrences(char letter, int occurrences, Set<String> words) {
-        removeLetterCountMatchingPredicate(letter, words, actualCount -> actualCount != occurrences);
+    private int colorAt(long digits, int position) {
+        return (int) (digits >>> (2 * position)) & 3;
     }
 
-    private void keepWordsWithAtLeastNOccurrences(char letter, int occurrences,
-            Set<String> words) {
-        removeLetterCountMatchingPredicate(letter, words, actualCount -> actualCount < occurrences);
+    /**
+     * If we see a letter yellow after seeing it gray, then this is an invalid coloring. We will see the canonical form
+     * of this coloring eventually.
+     */
+    private boolean isCanonical(char[] letters, long digits) {
+        for (int i = 0; i < letters.length; i++) {
+            if (colorAt(digits, i) == YELLOW) {
+                for (int j = 0; j < i; j++) {
+                    if (letters[j] == letters[i] && colorAt(digits, j) == GRAY) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
     }
 
-    private void removeLetterCountMatchingPredicate(char letter, Set<String> words,
-            Predicate<Integer> removeIf) {
-        Iterator<String> it = words.iterator();
-        while (it.hasNext()) {
-            char[] chars = it.next().toCharArray();
-            int count = 0;
-            for (char c : chars) {
-                if (c == letter) {
-                    count++;
+    /**
+     * Checks one word against the coloring. For each letter of the guess, the yellows and greens say how many times
+     * it occurs in the word at least. If it was also gray somewhere, that is exactly how many times it occurs (and if
+     * it was only gray, it doesn't occur at all). Then a green letter must be in its spot, and a gray or yellow one
+     * must not. A position with {@link #ANY} is left out of all of this.
+     * <p/>
+     * Nothing is allocated here, since this runs for every word in the dictionary for every coloring that is scored.
+     */
+    private boolean matches(String word, char[] letters, long digits) {
+        for (int i = 0; i < letters.length; i++) {
+            char letter = letters[i];
+            if (colorAt(digits, i) == ANY) {
+                continue;
+            }
+            if ((colorAt(digits, i) == GREEN) != (word.charAt(i) == letter)) {
+                return false;
+            }
+
+            if (isFirstOccurrence(letters, digits, i)) {
+                // tally the occurrences of the letter in the guess, freezing the count if we see a gray
+                int occurrences = 0;
+                boolean frozen = false;
+                for (int j = i; j < letters.length; j++) {
+                    if (letters[j] == letter && colorAt(digits, j) != ANY) {
+                        if (colorAt(digits, j) == GRAY) {
+                            frozen = true;
+                        } else {
+                            occurrences++;
+                        }
+                    }
+                }
+                int actual = countLetter(word, letter);
+                if (frozen ? actual != occurrences : actual < occurrences) {
+                    return false;
                 }
             }
-            if (removeIf.test(count)) {
-                it.remove();
+        }
+        return true;
+    }
+
+    /**
+     * @return whether no earlier copy of the letter has a color, so the letter is tallied here
+     */
+    private boolean isFirstOccurrence(char[] letters, long digits, int position) {
+        for (int j = 0; j < position; j++) {
+            if (letters[j] == letters[position] && colorAt(digits, j) != ANY) {
+                return false;
             }
         }
+        return true;
     }
 
-    private void removeWordsWithLetter(char letter, Set<String> words) {
-        words.removeIf(word -> word.contains(Character.toString(letter)));
+    private int countLetter(String word, char letter) {
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == letter) {
+                count++;
+            }
+        }
+        return count;
     }
 }
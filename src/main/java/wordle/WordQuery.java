@@ -0,0 +1,162 @@
+package wordle;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A lookup such as "words matching cr_n_ that contain an e but no a or s", answered by a {@link WordTrie}. Unlike a
+ * guess and its colors (see {@link WordMatcher}), a query can say anything about the letters, so it is the way to
+ * look words up for a person rather than for the solver.
+ * <p/>
+ * Queries never change; each method returns a new query with the extra constraint. Letter counts are over the whole
+ * word, including the letters fixed by the pattern.
+ */
+public final class WordQuery {
+
+    /**
+     * The letter in a pattern that stands for any letter. A period works too.
+     */
+    public static final char WILDCARD = '_';
+
+    // the letter in each spot, or 0 for a wildcard
+    private final char[] pattern;
+    // the least and most times each constrained letter may occur, in the order they were constrained
+    private final Map<Character, int[]> counts;
+
+    private WordQuery(char[] pattern, Map<Character, int[]> counts) {
+        this.pattern = pattern;
+        this.counts = counts;
+    }
+
+    /**
+     * @param pattern the letters of the word, with {@link #WILDCARD} for the unknown ones
+     */
+    public static WordQuery pattern(String pattern) {
+        char[] letters = new char[pattern.length()];
+        for (int i = 0; i < letters.length; i++) {
+            char c = pattern.charAt(i);
+            letters[i] = c == WILDCARD || c == '.' ? 0 : c;
+        }
+        return new WordQuery(letters, new LinkedHashMap<>());
+    }
+
+    /**
+     * @return a query for words of the given length, with no other constraints
+     */
+    public static WordQuery anyWord(int length) {
+        return new WordQuery(new char[length], new LinkedHashMap<>());
+    }
+
+    /**
+     * @param letters letters that must each occur at least once
+     */
+    public WordQuery requiring(String letters) {
+        WordQuery query = this;
+        for (char letter : letters.toCharArray()) {
+            int[] bounds = getCount(letter);
+            query = query.withCount(letter, Math.max(bounds[0], 1), bounds[1]);
+        }
+        return query;
+    }
+
+    /**
+     * @param letters letters that must not occur at all
+     */
+    public WordQuery excluding(String letters) {
+        WordQuery query = this;
+        for (char letter : letters.toCharArray()) {
+            query = query.withCount(letter, 0, 0);
+        }
+        return query;
+    }
+
+    /**
+     * @param letter the letter to count
+     * @param min the least number of times it may occur
+     * @param max the most number of times it may occur
+     */
+    public WordQuery withCount(char letter, int min, int max) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Invalid bounds for " + letter + ": " + min + ".." + max);
+        }
+        Map<Character, int[]> updated = new LinkedHashMap<>(counts);
+        updated.put(letter, new int[] {min, max});
+        return new WordQuery(pattern, updated);
+    }
+
+    public int getLength() {
+        return pattern.length;
+    }
+
+    /**
+     * @return the letter fixed in the spot, or 0 if it can be anything
+     */
+    char getLetter(int position) {
+        return pattern[position];
+    }
+
+    /**
+     * @return the letters with count constraints, in a fixed order that the bounds arrays follow
+     */
+    char[] getCountedLetters() {
+        char[] letters = new char[counts.size()];
+        int i = 0;
+        for (char letter : counts.keySet()) {
+            letters[i++] = letter;
+        }
+        return letters;
+    }
+
+    int[] getMinCounts() {
+        return counts.values().stream().mapToInt(bounds -> bounds[0]).toArray();
+    }
+
+    int[] getMaxCounts() {
+        return counts.values().stream().mapToInt(bounds -> bounds[1]).toArray();
+    }
+
+    /**
+     * Checks a word against the query directly. {@link WordTrie} gives the same answers without looking at every word.
+     */
+    public boolean matches(String word) {
+        if (word.length() != pattern.length) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length; i++) {
+            if (pattern[i] != 0 && word.charAt(i) != pattern[i]) {
+                return false;
+            }
+        }
+        for (Map.Entry<Character, int[]> entry : counts.entrySet()) {
+            int count = 0;
+            for (int i = 0; i < word.length(); i++) {
+                if (word.charAt(i) == entry.getKey()) {
+                    count++;
+                }
+            }
+            if (count < entry.getValue()[0] || count > entry.getValue()[1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] getCount(char letter) {
+        int[] bounds = counts.get(letter);
+        return bounds == null ? new int[] {0, Integer.MAX_VALUE} : bounds;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder query = new StringBuilder();
+        for (char letter : pattern) {
+            query.append(letter == 0 ? WILDCARD : letter);
+        }
+        for (Map.Entry<Character, int[]> entry : counts.entrySet()) {
+            int[] bounds = entry.getValue();
+            query.append(' ').append(entry.getKey()).append(':').append(bounds[0]).append("..")
+                    .append(bounds[1] == Integer.MAX_VALUE ? "" : Integer.toString(bounds[1]));
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,273 @@
+package wordle;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A trie over the words in a {@link WordList}, one level per letter position, for answering {@link WordQuery}
+ * lookups. A fixed letter in the query's pattern follows a single branch, and an excluded letter skips its branches
+ * entirely, so most of the trie is never visited. Letter counts are tallied on the way down, and a branch is dropped
+ * as soon as it has too many of a letter or too few spots left for the letters it still needs.
+ * <p/>
+ * The trie is stored as flat arrays: each node's children are a contiguous, sorted run of edges, labelled with the
+ * letter's code in the word list's {@link Alphabet}. Like the word list, it never changes once built, so one trie can
+ * serve every game over the same list.
+ */
+public class WordTrie {
+
+    private final WordList wordList;
+    private final Alphabet alphabet;
+    private final int wordLength;
+
+    // the edges out of node n are edgeStart[n] until edgeStart[n + 1]
+    private final int[] edgeStart;
+    // the code of each edge's letter, read as unsigned
+    private final byte[] edgeLetter;
+    private final int[] edgeTarget;
+    // the index in the word list of the word that ends at each node, for the nodes at the bottom level
+    private final int[] wordAt;
+
+    /**
+     * @param wordList the words to index. Words that are a different length from the first are left out.
+     */
+    public WordTrie(WordList wordList) {
+        this.wordList = wordList;
+        this.alphabet = wordList.getAlphabet();
+        this.wordLength = wordList.size() == 0 ? 0 : wordList.get(0).length();
+
+        Integer[] sorted = IntStream.range(0, wordList.size())
+                .filter(i -> wordList.get(i).length() == wordLength)
+                .boxed()
+                .toArray(Integer[]::new);
+        Arrays.sort(sorted, Comparator.comparing(wordList::get));
+
+        // built breadth first, so that each node's children are numbered, and their edges stored, together
+        int maxNodes = sorted.length * wordLength + 1;
+        int[] starts = new int[maxNodes + 1];
+        byte[] letters = new byte[maxNodes];
+        int[] targets = new int[maxNodes];
+        int[] words = new int[maxNodes];
+        Arrays.fill(words, -1);
+
+        // each pending node covers the range [lo, hi) of sorted words, which share the first depth letters
+        Deque<int[]> pending = new ArrayDeque<>();
+        pending.add(new int[] {0, sorted.length, 0});
+        int nodes = 1;
+        int edges = 0;
+        for (int node = 0; !pending.isEmpty(); node++) {
+            int[] range = pending.poll();
+            int lo = range[0];
+            int hi = range[1];
+            int depth = range[2];
+            starts[node] = edges;
+            if (depth == wordLength) {
+                // the list may repeat a word, in which case the first copy is the one found
+                words[node] = hi > lo ? sorted[lo] : -1;
+                continue;
+            }
+            while (lo < hi) {
+                char letter = wordList.get(sorted[lo]).charAt(depth);
+                int end = lo;
+                while (end < hi && wordList.get(sorted[end]).charAt(depth) == letter) {
+                    end++;
+                }
+                letters[edges] = (byte) alphabet.code(letter);
+                targets[edges] = nodes++;
+                edges++;
+                pending.add(new int[] {lo, end, depth + 1});
+                lo = end;
+            }
+        }
+        starts[nodes] = edges;
+
+        this.edgeStart = Arrays.copyOf(starts, nodes + 1);
+        this.edgeLetter = Arrays.copyOf(letters, edges);
+        this.edgeTarget = Arrays.copyOf(targets, edges);
+        this.wordAt = Arrays.copyOf(words, nodes);
+    }
+
+    public WordList getWordList() {
+        return wordList;
+    }
+
+    /**
+     * @return roughly how many bytes the trie's arrays take up, not counting the word list
+     */
+    long estimateBytes() {
+        return 4L * edgeStart.length + edgeLetter.length + 4L * edgeTarget.length + 4L * wordAt.length;
+    }
+
+    /**
+     * Finds the words that match the query, in alphabetical order. The trie is searched as the stream is consumed,
+     * so {@code find(query).limit(10)} stops after the first ten.
+     */
+    public Stream<String> find(WordQuery query) {
+        return find(query, null);
+    }
+
+    /**
+     * Same as {@link #find(WordQuery)}, but only finds the words that are still possible in a game.
+     *
+     * @param dictionary a dictionary over the same word list as this trie
+     */
+    public Stream<String> find(WordQuery query, Dictionary dictionary) {
+        if (dictionary != null && dictionary.getWordList() != wordList) {
+            throw new IllegalArgumentException("The dictionary is over a different word list");
+        }
+        if (query.getLength() != wordLength || wordList.size() == 0) {
+            return Stream.empty();
+        }
+        Iterator<String> matches = new Search(query, dictionary);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(matches,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * A depth-first walk of the trie that stops at each match. The path down is kept in arrays, one entry per level,
+     * so walking doesn't allocate anything.
+     */
+    private final class Search implements Iterator<String> {
+        private final WordQuery query;
+        private final Dictionary dictionary;
+        // the code of each counted letter, or -1 if no word has it
+        private final int[] countedLetters;
+        private final int[] minCounts;
+        private final int[] maxCounts;
+
+        // for each level of the current path: the node, the next edge to try, and the letter counts so far
+        private final int[] nodeAt = new int[wordLength + 1];
+        private final int[] nextEdge = new int[wordLength + 1];
+        private final int[][] countsAt;
+        private int depth;
+        private String next;
+
+        private Search(WordQuery query, Dictionary dictionary) {
+            this.query = query;
+            this.dictionary = dictionary;
+            char[] letters = query.getCountedLetters();
+            this.countedLetters = new int[letters.length];
+            for (int k = 0; k < letters.length; k++) {
+                countedLetters[k] = alphabet.code(letters[k]);
+            }
+            this.minCounts = query.getMinCounts();
+            this.maxCounts = query.getMaxCounts();
+            this.countsAt = new int[wordLength + 1][countedLetters.length];
+            enter(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String word = next;
+            next = null;
+            return word;
+        }
+
+        private String advance() {
+            while (depth >= 0) {
+                int node = nodeAt[depth];
+                if (depth == wordLength) {
+                    depth--;
+                    int word = wordAt[node];
+                    if (word >= 0 && hasEnough(countsAt[wordLength])
+                            && (dictionary == null || dictionary.contains(word))) {
+                        return wordList.get(word);
+                    }
+                    continue;
+                }
+
+                int edge = nextEdge[depth];
+                int end = edgeStart[node + 1];
+                char fixed = query.getLetter(depth);
+                if (fixed != 0) {
+                    // only the one branch, if there is one
+                    int code = alphabet.code(fixed);
+                    edge = edge == edgeStart[node] && code >= 0 ? findEdge(edge, end, code) : end;
+                }
+                if (edge >= end) {
+                    depth--;
+                    continue;
+                }
+                nextEdge[depth] = edge + 1;
+
+                if (count(depth, edgeLetter[edge] & 0xff)) {
+                    nodeAt[depth + 1] = edgeTarget[edge];
+                    enter(depth + 1);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Moves down to the node already stored for the level.
+         */
+        private void enter(int level) {
+            depth = level;
+            nextEdge[level] = edgeStart[nodeAt[level]];
+        }
+
+        /**
+         * Works out the letter counts one level down, after taking the letter.
+         *
+         * @return whether the branch can still match
+         */
+        private boolean count(int level, int letter) {
+            int[] counts = countsAt[level + 1];
+            System.arraycopy(countsAt[level], 0, counts, 0, counts.length);
+            int missing = 0;
+            for (int k = 0; k < countedLetters.length; k++) {
+                if (countedLetters[k] == letter && ++counts[k] > maxCounts[k]) {
+                    return false;
+                }
+                missing += Math.max(0, minCounts[k] - counts[k]);
+            }
+            // each spot that is left can supply one of the missing letters at most
+            return missing <= wordLength - level - 1;
+        }
+
+        private boolean hasEnough(int[] counts) {
+            for (int k = 0; k < counts.length; k++) {
+                if (counts[k] < minCounts[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int findEdge(int from, int to, int letter) {
+            int lo = from;
+            int hi = to - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int midLetter = edgeLetter[mid] & 0xff;
+                if (midLetter < letter) {
+                    lo = mid + 1;
+                } else if (midLetter > letter) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return to;
+        }
+    }
+}
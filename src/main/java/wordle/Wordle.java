@@ -1,31 +1,69 @@
 package wordle;
 
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The entrypoint for the Wordle solver.
+ * <p/>
+ * To record the game for {@link TraceReplay}, set the system property wordle.trace to the trace file to append to.
+ * To play from a strategy made by {@link OptimalStrategySearch}, set wordle.strategy to the strategy file.
+ * To choose the first word within a time budget instead of scoring every word, set wordle.firstWordBudget to the
+ * number of seconds. See {@link AnytimeSearch}.
  */
 public class Wordle {
 
     private static final String DICTIONARY_PATH = "/dictionary.txt";
     private static final int WORD_LENGTH = 5;
     private static final int NUM_GUESSES = 6;
+    private static final String TRACE_PROPERTY = "wordle.trace";
+    private static final String STRATEGY_PROPERTY = "wordle.strategy";
+    private static final String FIRST_WORD_BUDGET_PROPERTY = "wordle.firstWordBudget";
 
     private final Scanner scanner;
     private final Solver solver;
-    private final Dictionary dictionary;
+    private final WordList wordList;
+    private final ColoringEnumerator coloringEnumerator;
+    private final boolean followingStrategy;
+    // null to score every word for the first guess
+    private final Duration firstWordBudget;
+    // only set when the game is being recorded
+    private final TraceRecorder recorder;
+    private final RecordingSolver recordingSolver;
 
     public Wordle() throws IOException {
         this.scanner = new Scanner(System.in);
 
-        dictionary = new DictionaryFileLoader(DICTIONARY_PATH).buildDictionary();
-        WordMatcher wordMatcher = new WordMatcher(dictionary);
-        GoodnessCalculator goodnessCalculator = new GoodnessCalculator(WORD_LENGTH, wordMatcher,
-                new EntropyCalculator());
-        this.solver = new Solver(WORD_LENGTH, dictionary, wordMatcher, goodnessCalculator);
+        SharedDictionary shared = new SharedDictionary(DICTIONARY_PATH,
+                new DictionaryFileLoader(DICTIONARY_PATH).buildWordList());
+        wordList = shared.getWordList();
+        coloringEnumerator = shared.getColoringEnumerator();
+        this.solver = shared.newSolver();
 
-        System.out.println("Dictionary has " + dictionary.size() + " " + WORD_LENGTH + "-letter words");
+        String strategy = System.getProperty(STRATEGY_PROPERTY);
+        followingStrategy = strategy != null;
+        if (followingStrategy) {
+            solver.followStrategy(StrategyTree.read(Paths.get(strategy)));
+        }
+
+        String budget = System.getProperty(FIRST_WORD_BUDGET_PROPERTY);
+        firstWordBudget = budget == null ? null : Duration.ofSeconds(Long.parseLong(budget));
+
+        String trace = System.getProperty(TRACE_PROPERTY);
+        if (trace != null) {
+            recorder = TraceRecorder.open(Paths.get(trace));
+            recordingSolver = new RecordingSolver(solver, recorder);
+        } else {
+            recorder = null;
+            recordingSolver = null;
+        }
+
+        System.out.println("Dictionary has " + wordList.size() + " " + WORD_LENGTH + "-letter words");
     }
 
     /**
@@ -33,7 +71,13 @@ public class Wordle {
      */
     public static void main(String[] args) throws IOException {
         Wordle wordle = new Wordle();
-        wordle.play();
+        try {
+            wordle.play();
+        } finally {
+            if (wordle.recorder != null) {
+                wordle.recorder.close();
+            }
+        }
     }
 
     private void play() {
@@ -41,38 +85,79 @@ public class Wordle {
         String nextWord = getFirstWord();
 
         int guessNumber = 1;
-        Color[] colors = new Color[WORD_LENGTH];
+        int pattern = 0;
         while (guessNumber <= NUM_GUESSES && nextWord != null) {
-            colors = askColorResult(nextWord);
-            if (isSolved(colors)) {
+            // players may mark a different copy of a repeated letter yellow than the game would
+            pattern = coloringEnumerator.canonicalize(nextWord.toCharArray(), askColorResult(nextWord));
+            if (PatternCode.isSolved(pattern, WORD_LENGTH)) {
                 break;
             }
-            nextWord = solver.findNextWord(nextWord.toLowerCase(), colors);
+            nextWord = findNextWord(nextWord.toLowerCase(Locale.ROOT), pattern);
 
             guessNumber++;
         }
 
         if (nextWord == null) {
             System.out.println("Something went wrong. I could not solve this puzzle.");
-        } else if (isSolved(colors)) {
+        } else if (PatternCode.isSolved(pattern, WORD_LENGTH)) {
             System.out.println("Nicely done!");
         } else {
             System.out.println("Better luck next time :(");
         }
     }
 
+    private String findNextWord(String previousGuess, int pattern) {
+        String word = recordingSolver != null ? recordingSolver.findNextWord(previousGuess, pattern)
+                : solver.findNextWord(previousGuess, pattern);
+        showRemainingWords();
+        return word;
+    }
+
+    private void showRemainingWords() {
+        int remaining = solver.countRemainingWords();
+        System.out.println("Getting close! Only " + remaining + " possible word(s) remaining:");
+        if (remaining <= 10) {
+            System.out.println("    " + solver.getRemainingWords());
+        }
+    }
+
     private String getFirstWord() {
-        if (shouldCalculateFirst()) {
+        if (followingStrategy) {
+            String word = solver.findFirstWord();
+            System.out.println("Opening with " + word + " from the strategy.");
+            return word;
+        } else if (!shouldCalculateFirst()) {
+            return promptFirstWord();
+        } else if (firstWordBudget == null) {
             System.out.println("Calculating first word. This may take a few minutes...");
             return solver.findFirstWord();
         } else {
-            return promptFirstWord();
+            System.out.println("Calculating first word. This will take up to " + firstWordBudget.getSeconds()
+                    + " seconds...");
+            AtomicReference<SearchProgress> last = new AtomicReference<>();
+            String word = solver.findFirstWord(firstWordBudget, progress -> {
+                if (last.get() == null || !Objects.equals(progress.getBestWord(), last.get().getBestWord())) {
+                    System.out.println("    Best so far: " + progress);
+                }
+                last.set(progress);
+            });
+            if (!last.get().isComplete()) {
+                System.out.println("    Ran out of time after checking " + last.get().getWordsScored() + " of "
+                        + last.get().getTotalWords() + " words.");
+            }
+            return word;
         }
     }
 
     private boolean shouldCalculateFirst() {
-        System.out.println("Do you want me to choose an optimal first word? This may take several minutes. (Y/N)");
-        System.out.println("    (Note: the optimal word will be consistent for a given dictionary, so if you know the word then skip this)");
+        if (firstWordBudget == null) {
+            System.out.println("Do you want me to choose an optimal first word? This may take several minutes. (Y/N)");
+            System.out.println("    (Note: the optimal word will be consistent for a given dictionary, so if you know the word then skip this)");
+        } else {
+            System.out.println("Do you want me to choose the best first word I can find in "
+                    + firstWordBudget.getSeconds() + " seconds? (Y/N)");
+            System.out.println("    (Note: it may not be the optimal word if time runs out, and may differ from run to run)");
+        }
         System.out.print("> ");
         String answer = scanner.nextLine();
         return answer.equals("Y") || answer.equals("y");
@@ -82,7 +167,7 @@ public class Wordle {
         while (true) {
             System.out.println("Enter your starting word");
             System.out.print("> ");
-            String word = scanner.nextLine().toLowerCase();
+            String word = scanner.nextLine().toLowerCase(Locale.ROOT);
             if (word.length() != WORD_LENGTH || !isValidWord(word)) {
                 System.out.println("Invalid word.");
             } else {
@@ -92,10 +177,10 @@ public class Wordle {
     }
 
     private boolean isValidWord(String word) {
-        return word.matches("^[a-z]*$") && dictionary.getWords().contains(word);
+        return wordList.contains(word);
     }
 
-    private Color[] askColorResult(String nextWord) {
+    private int askColorResult(String nextWord) {
         System.out.print("Enter the word ");
         if (nextWord != null) {
             System.out.print("'" + nextWord + "' ");
@@ -108,7 +193,7 @@ public class Wordle {
             System.out.print("> ");
             String input = scanner.nextLine();
             try {
-                return toColorArray(input);
+                return toPattern(input);
             } catch (IllegalArgumentException e) {
                 System.out.println("Sorry, " + e.getMessage() + ". Please enter the color output again.");
             }
@@ -116,42 +201,11 @@ public class Wordle {
 
     }
 
-    private boolean isSolved(Color[] colors) {
-        for (Color c : colors) {
-            if (c != Color.GREEN) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private Color[] toColorArray(String line) {
-        char[] entry = line.toCharArray();
-        if (entry.length != WORD_LENGTH) {
+    private int toPattern(String line) {
+        if (line.length() != WORD_LENGTH) {
             throw new IllegalArgumentException("exactly " + WORD_LENGTH + " colors are required");
         }
-
-        Color[] colors = new Color[WORD_LENGTH];
-        for (int i = 0; i < entry.length; i++) {
-            switch (entry[i]) {
-                case 'g':
-                    // fall through
-                case 'G':
-                    colors[i] = Color.GREEN;
-                    break;
-                case 'y':
-                    // fall through
-                case 'Y':
-                    colors[i] = Color.YELLOW;
-                    break;
-                case '-':
-                    colors[i] = Color.GRAY;
-                    break;
-                default:
-                    throw new IllegalArgumentException("'" + entry[i] + "' is not a valid color");
-            }
-        }
-        return colors;
+        return PatternCode.parse(line);
     }
 
     private void showBanner() {
@@ -0,0 +1,48 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdversarialGameTest {
+
+    private final PatternCalculator calculator = new PatternCalculator(3);
+
+    @Test
+    public void shouldAnswerWithLargestGroup() {
+        AdversarialGame game = new AdversarialGame(new Dictionary(List.of("cat", "bat", "hat", "dog")), calculator);
+
+        Color[] colors = game.guess("rat");
+
+        assertThat(colors).containsExactly(Color.GRAY, Color.GREEN, Color.GREEN);
+        assertThat(game.getRemainingWords()).containsExactly("cat", "bat", "hat");
+        assertThat(game.isSolved(colors)).isFalse();
+    }
+
+    @Test
+    public void shouldAvoidConfirmingGuess() {
+        AdversarialGame game = new AdversarialGame(new Dictionary(List.of("cat", "dog")), calculator);
+
+        // both groups have one word, so the game picks the one that isn't a win
+        Color[] colors = game.guess("cat");
+
+        assertThat(game.isSolved(colors)).isFalse();
+        assertThat(game.getRemainingWords()).containsExactly("dog");
+    }
+
+    @Test
+    public void shouldBeSolvedWhenOneWordIsLeft() {
+        AdversarialGame game = new AdversarialGame(new Dictionary(List.of("cat")), calculator);
+        assertThat(game.isSolved(game.guess("cat"))).isTrue();
+        assertThat(game.getRemainingCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFailWithNoWords() {
+        AdversarialGame game = new AdversarialGame(new Dictionary(List.of()), calculator);
+        assertThatThrownBy(() -> game.guess("cat")).isInstanceOf(IllegalStateException.class);
+    }
+}
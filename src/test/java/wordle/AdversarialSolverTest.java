@@ -0,0 +1,118 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdversarialSolverTest {
+
+    @Test
+    public void shouldMinimizeLargestGroup() {
+        // "cat" and "cab" split the others into groups of one, while "dog" and the other words ending in "at" can't
+        // tell "bat", "cat" and "hat" apart
+        PatternTable table = new PatternTable(List.of("dog", "bat", "cat", "hat", "cab"), new PatternCalculator(3));
+        AdversarialSolver solver = new AdversarialSolver(table, 1);
+
+        assertThat(solver.findFirstWord()).isIn("cat", "cab");
+        assertThat(solver.getWorstCase()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNarrowToOutcome() {
+        PatternTable table = new PatternTable(List.of("dog", "bat", "cat", "hat", "cab"), new PatternCalculator(3));
+        AdversarialSolver solver = new AdversarialSolver(table, 2);
+
+        String next = solver.findNextWord("hat", new Color[]{Color.GRAY, Color.GREEN, Color.GREEN});
+
+        assertThat(solver.getRemainingCount()).isEqualTo(2);
+        assertThat(next).isIn("bat", "cat");
+    }
+
+    @Test
+    public void shouldRejectUnknownGuess() {
+        PatternTable table = new PatternTable(List.of("dog", "cat"), new PatternCalculator(3));
+        AdversarialSolver solver = new AdversarialSolver(table, 1);
+
+        assertThatThrownBy(() -> solver.findNextWord("xyz", new Color[]{Color.GRAY, Color.GRAY, Color.GRAY}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldMatchExhaustiveSearch() throws IOException {
+        List<String> words = loadWords(250);
+        PatternTable table = new PatternTable(words, new PatternCalculator(5));
+
+        // pruning and memoization must not change the answer
+        AdversarialSolver solver = new AdversarialSolver(table, 2);
+        assertThat(solver.getWorstCase()).isEqualTo(exhaustiveWorstCase(table, allIndexes(words.size()), 2));
+    }
+
+    @Test
+    public void shouldBeatAdversarialGame() throws IOException {
+        List<String> words = loadWords(1000);
+        PatternCalculator calculator = new PatternCalculator(5);
+        AdversarialGame game = new AdversarialGame(new Dictionary(words), calculator);
+        AdversarialSolver solver = new AdversarialSolver(new PatternTable(words, calculator), 2, 100);
+
+        String guess = solver.findFirstWord();
+        int numGuesses = 1;
+        Color[] colors = game.guess(guess);
+        while (!game.isSolved(colors)) {
+            guess = solver.findNextWord(guess, colors);
+            assertThat(solver.getRemainingCount()).isEqualTo(game.getRemainingCount());
+            colors = game.guess(guess);
+            numGuesses++;
+        }
+        assertThat(numGuesses).isLessThanOrEqualTo(6);
+    }
+
+    private int exhaustiveWorstCase(PatternTable table, List<Integer> words, int guessesLeft) {
+        if (words.size() <= 1) {
+            return guessesLeft == 0 ? words.size() : 0;
+        } else if (guessesLeft == 0) {
+            return words.size();
+        }
+        int solved = table.getCalculator().getSolvedPattern();
+        int best = Integer.MAX_VALUE;
+        for (int guess = 0; guess < table.size(); guess++) {
+            Map<Integer, List<Integer>> buckets = new HashMap<>();
+            for (int word : words) {
+                int code = table.get(guess, word);
+                if (code != solved) {
+                    buckets.computeIfAbsent(code, c -> new ArrayList<>()).add(word);
+                }
+            }
+            int worst = 0;
+            for (List<Integer> bucket : buckets.values()) {
+                worst = Math.max(worst, exhaustiveWorstCase(table, bucket, guessesLeft - 1));
+            }
+            best = Math.min(best, worst);
+        }
+        return best;
+    }
+
+    private List<Integer> allIndexes(int size) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private List<String> loadWords(int count) throws IOException {
+        List<String> all = new DictionaryFileLoader("/dictionary.txt").buildDictionary().getWords();
+        // spread the sample across the alphabet
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            words.add(all.get(i * all.size() / count));
+        }
+        return words;
+    }
+}
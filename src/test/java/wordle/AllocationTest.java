@@ -0,0 +1,132 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Guards the hot paths against allocating more than they need to, such as a copy of the dictionary or boxed numbers in
+ * a loop. Each path runs until the JIT has settled, then the bytes it allocates per call are measured on this thread
+ * and checked against the budgets in allocation-budgets.properties.
+ */
+public class AllocationTest {
+
+    private static final int WARM_UP_CALLS = 2000;
+    private static final int MEASURED_CALLS = 200;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static Properties budgets;
+
+    private WordList wordList;
+    private Dictionary dictionary;
+    private WordMatcher matcher;
+    private ColoringEnumerator coloringEnumerator;
+    private GoodnessCalculator goodnessCalculator;
+    private Color[] outcome;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("Measuring allocations needs the com.sun.management extensions",
+                bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try (InputStream in = AllocationTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        wordList = new DictionaryFileLoader("/dictionary.txt").buildWordList();
+        dictionary = new Dictionary(wordList);
+        matcher = new WordMatcher(dictionary);
+        PatternCalculator patternCalculator = new PatternCalculator(5);
+        coloringEnumerator = new ColoringEnumerator(patternCalculator);
+        goodnessCalculator = new GoodnessCalculator(5, matcher, new EntropyCalculator(), coloringEnumerator);
+        // leaves about a hundred words
+        outcome = patternCalculator.decode(patternCalculator.calculate("tares", "pilot"));
+    }
+
+    @Test
+    public void countingMatchesShouldStayWithinBudget() {
+        char[] guess = "tares".toCharArray();
+        assertWithinBudget("matcher.count", () -> matcher.countMatchingWords(guess, outcome), WARM_UP_CALLS);
+    }
+
+    @Test
+    public void scoringShouldStayWithinBudget() {
+        Color[] known = new Color[5];
+        assertWithinBudget("goodness.calculate",
+                () -> goodnessCalculator.calculateGoodness("tares", known, dictionary.size()), WARM_UP_CALLS / 40);
+    }
+
+    @Test
+    public void gettingMatchesShouldStayWithinBudget() {
+        char[] guess = "tares".toCharArray();
+        assertWithinBudget("matcher.matching", () -> matcher.getMatchingWords(guess, outcome), WARM_UP_CALLS);
+    }
+
+    @Test
+    public void narrowingShouldStayWithinBudget() {
+        Set<String> matches = matcher.getMatchingWords("tares".toCharArray(), outcome);
+        assertWithinBudget("dictionary.narrow", () -> dictionary.copy().intersect(matches), WARM_UP_CALLS);
+    }
+
+    @Test
+    public void narrowingByCandidatesShouldStayWithinBudget() {
+        char[] guess = "tares".toCharArray();
+        assertWithinBudget("dictionary.narrowCandidates",
+                () -> dictionary.copy().intersect(matcher.getMatchingCandidates(guess, outcome)), WARM_UP_CALLS);
+    }
+
+    @Test
+    public void turnShouldStayWithinBudget() {
+        // a turn narrows the solver's words, so each warm-up turn needs a solver of its own
+        for (int i = 0; i < WARM_UP_CALLS / 100; i++) {
+            newSolver().findNextWord("tares", outcome);
+        }
+        Solver solver = newSolver();
+        assertWithinBudget("solver.turn", () -> solver.findNextWord("tares", outcome), 0);
+    }
+
+    private Solver newSolver() {
+        Dictionary game = new Dictionary(wordList);
+        WordMatcher gameMatcher = new WordMatcher(game);
+        return new Solver(5, game, gameMatcher,
+                new GoodnessCalculator(5, gameMatcher, new EntropyCalculator(), coloringEnumerator));
+    }
+
+    /**
+     * @param warmUpCalls how many times to call it before measuring. With none, only a single call is measured.
+     */
+    private void assertWithinBudget(String name, Runnable call, int warmUpCalls) {
+        long budget = Long.parseLong(budgets.getProperty(name));
+        for (int i = 0; i < warmUpCalls; i++) {
+            call.run();
+        }
+
+        int calls = Math.max(1, Math.min(MEASURED_CALLS, warmUpCalls));
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < calls; i++) {
+            call.run();
+        }
+        long perCall = (threads.getThreadAllocatedBytes(thread) - before) / calls;
+
+        assertThat(perCall).as("bytes allocated per call to " + name).isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,39 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AlphabetTest {
+
+    // Spanish "anos" has an n with a tilde, and Polish "malo" has an l with a stroke
+    private final Alphabet alphabet = Alphabet.of(List.of("a\u00f1os", "ma\u0142o", "sala"));
+
+    @Test
+    public void shouldNumberLettersInCharacterOrder() {
+        assertThat(alphabet.toString()).isEqualTo("almos\u00f1\u0142");
+        assertThat(alphabet.size()).isEqualTo(7);
+        assertThat(alphabet.code('a')).isEqualTo(0);
+        assertThat(alphabet.code('\u00f1')).isEqualTo(5);
+        assertThat(alphabet.code('\u0142')).isEqualTo(6);
+        assertThat(alphabet.letter(6)).isEqualTo('\u0142');
+    }
+
+    @Test
+    public void shouldNotHaveUnusedLetters() {
+        assertThat(alphabet.code('b')).isEqualTo(-1);
+        assertThat(alphabet.code('\u00e9')).isEqualTo(-1);
+        assertThat(alphabet.code('\u4e00')).isEqualTo(-1);
+        assertThat(alphabet.canSpell("ma\u0142a")).isTrue();
+        assertThat(alphabet.canSpell("malo\u00e9")).isFalse();
+    }
+
+    @Test
+    public void shouldCompareByLetters() {
+        assertThat(Alphabet.of(List.of("sala", "ma\u0142o", "a\u00f1os"))).isEqualTo(alphabet);
+        assertThat(Alphabet.of(List.of("sala"))).isNotEqualTo(alphabet);
+        assertThat(Alphabet.of(List.of()).size()).isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class AnytimeSearchTest {
+
+    private static final Duration FOREVER = Duration.ofDays(365 * 1000);
+
+    @Mock
+    private Dictionary dictionary;
+
+    @Mock
+    private GoodnessCalculator goodnessCalculator;
+
+    private AnytimeSearch search;
+
+    @Before
+    public void setUp() {
+        openMocks(this);
+        search = new AnytimeSearch(dictionary, goodnessCalculator, new LetterFrequencyRanker(5));
+        // "stamp" and "tramp" share the most letters with the others, so they are scored first
+        when(dictionary.getWords()).thenReturn(Arrays.asList("excel", "picks", "stamp", "tramp"));
+        when(goodnessCalculator.calculateGoodness(eq("excel"), any(Color[].class), eq(4))).thenReturn(0.9);
+        when(goodnessCalculator.calculateGoodness(eq("picks"), any(Color[].class), eq(4))).thenReturn(0.2);
+        when(goodnessCalculator.calculateGoodness(eq("stamp"), any(Color[].class), eq(4))).thenReturn(0.4);
+        when(goodnessCalculator.calculateGoodness(eq("tramp"), any(Color[].class), eq(4))).thenReturn(0.3);
+    }
+
+    @Test
+    public void shouldFindBestWordWithEnoughTime() {
+        List<SearchProgress> reported = new ArrayList<>();
+        SearchProgress result = search.search(new Color[5], FOREVER, reported::add);
+
+        assertThat(result.getBestWord()).isEqualTo("excel");
+        assertThat(result.getBestScore()).isEqualTo(0.9);
+        assertThat(result.isComplete()).isTrue();
+        // every improvement is reported, then the final result
+        assertThat(reported).extracting(SearchProgress::getBestWord).containsExactly("stamp", "excel", "excel");
+        assertThat(reported.get(reported.size() - 1)).isSameAs(result);
+    }
+
+    @Test
+    public void shouldScoreMostPromisingWordWithNoTime() {
+        SearchProgress result = search.search(new Color[5], Duration.ZERO, p -> { });
+
+        assertThat(result.getBestWord()).isEqualTo("stamp");
+        assertThat(result.getWordsScored()).isEqualTo(1);
+        assertThat(result.isComplete()).isFalse();
+        verify(goodnessCalculator, times(1)).calculateGoodness(any(), any(), anyInt());
+    }
+
+    @Test
+    public void shouldStopWhenInterrupted() {
+        Thread.currentThread().interrupt();
+        try {
+            SearchProgress result = search.search(new Color[5], FOREVER, p -> { });
+            assertThat(result.getWordsScored()).isEqualTo(1);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldNotScoreOnlyWord() {
+        when(dictionary.getWords()).thenReturn(List.of("pints"));
+
+        SearchProgress result = search.search(new Color[5], FOREVER, p -> { });
+
+        assertThat(result.getBestWord()).isEqualTo("pints");
+        assertThat(result.isComplete()).isTrue();
+        verifyNoInteractions(goodnessCalculator);
+    }
+
+    @Test
+    public void shouldPublishFromBackground() throws Exception {
+        SearchTask task = search.newTask(new Color[5], FOREVER);
+        List<SearchProgress> published = new ArrayList<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        task.subscribe(new Flow.Subscriber<SearchProgress>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(SearchProgress item) {
+                published.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                closed.countDown();
+            }
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SearchProgress result = task.start(executor).get(10, TimeUnit.SECONDS);
+            assertThat(result.getBestWord()).isEqualTo("excel");
+            assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(published).isNotEmpty();
+            assertThat(published.get(published.size() - 1).getBestWord()).isEqualTo("excel");
+
+            assertThatThrownBy(() -> task.start(executor)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldStopWhenCancelled() throws Exception {
+        SearchTask task = search.newTask(new Color[5], FOREVER);
+        task.cancel();
+
+        // run it on this thread
+        SearchProgress result = task.start(Runnable::run).get();
+
+        assertThat(result.getWordsScored()).isEqualTo(1);
+        assertThat(result.getBestWord()).isEqualTo("stamp");
+    }
+}
@@ -0,0 +1,87 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+public class ApproximateSearchTest {
+
+    @Mock
+    private Dictionary dictionary;
+
+    @Mock
+    private GoodnessCalculator goodnessCalculator;
+
+    private ApproximateSearch search;
+
+    @Before
+    public void setUp() {
+        openMocks(this);
+        search = new ApproximateSearch(dictionary, goodnessCalculator, new LetterFrequencyRanker(5));
+        // "stamp" and "tramp" share the most letters with the others, so they rank first
+        List<String> words = Arrays.asList("excel", "picks", "stamp", "tramp");
+        when(dictionary.getWords()).thenReturn(words);
+        when(dictionary.size()).thenReturn(words.size());
+        when(goodnessCalculator.calculateGoodness(eq("excel"), any(Color[].class), eq(4))).thenReturn(0.9);
+        when(goodnessCalculator.calculateGoodness(eq("picks"), any(Color[].class), eq(4))).thenReturn(0.2);
+        when(goodnessCalculator.calculateGoodness(eq("stamp"), any(Color[].class), eq(4))).thenReturn(0.3);
+        when(goodnessCalculator.calculateGoodness(eq("tramp"), any(Color[].class), eq(4))).thenReturn(0.4);
+    }
+
+    @Test
+    public void shouldOnlyScoreTopWords() {
+        SearchProgress result = search.search(new Color[5], 2);
+
+        assertThat(result.getBestWord()).isEqualTo("tramp");
+        assertThat(result.getBestScore()).isEqualTo(0.4);
+        assertThat(result.getWordsScored()).isEqualTo(2);
+        assertThat(result.isComplete()).isFalse();
+        verify(goodnessCalculator, never()).calculateGoodness(eq("excel"), any(), anyInt());
+    }
+
+    @Test
+    public void shouldFindBestWordWhenScoringEveryWord() {
+        SearchProgress result = search.search(new Color[5], 10);
+
+        assertThat(result.getBestWord()).isEqualTo("excel");
+        assertThat(result.isComplete()).isTrue();
+    }
+
+    @Test
+    public void shouldAlwaysScoreOneWord() {
+        assertThat(search.search(new Color[5], 0).getBestWord()).isEqualTo("stamp");
+        assertThat(search.search(new Color[5], Duration.ZERO).getBestWord()).isEqualTo("stamp");
+    }
+
+    @Test
+    public void shouldSizeSearchFromBudget() {
+        assertThat(search.estimateMaxWords(Duration.ofSeconds(1))).isEqualTo(1);
+
+        // plenty of time to score every word, once it knows how long one takes
+        SearchProgress result = search.search(new Color[5], Duration.ofDays(365 * 1000));
+
+        assertThat(result.getBestWord()).isEqualTo("excel");
+        assertThat(search.estimateMaxWords(Duration.ofDays(1))).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldNotScoreLastWord() {
+        when(dictionary.getWords()).thenReturn(List.of("pints"));
+        when(dictionary.size()).thenReturn(1);
+
+        assertThat(search.search(new Color[5], 5).getBestWord()).isEqualTo("pints");
+        verify(goodnessCalculator, never()).calculateGoodness(anyString(), any(), anyInt());
+    }
+}
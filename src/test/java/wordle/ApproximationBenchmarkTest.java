@@ -0,0 +1,31 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApproximationBenchmarkTest {
+
+    @Test
+    public void shouldLoseLessWithMoreWords() throws IOException {
+        List<String> words = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords().subList(0, 300);
+        PatternCalculator patternCalculator = new PatternCalculator(5);
+        GoodnessCalculator goodnessCalculator = new GoodnessCalculator(5, new WordMatcher(new Dictionary(words)),
+                new EntropyCalculator(), new ColoringEnumerator(patternCalculator));
+        ApproximationBenchmark benchmark = new ApproximationBenchmark(patternCalculator, goodnessCalculator,
+                new LetterFrequencyRanker(5));
+
+        List<ApproximationBenchmark.Result> results = benchmark.run(words, "tares", new int[] {1, 5, 300});
+
+        assertThat(results).extracting(ApproximationBenchmark.Result::getMaxWords).containsExactly(1, 5, 300);
+        assertThat(results.get(0).getTurns()).isPositive();
+        assertThat(results.get(0).getDifferences()).isGreaterThanOrEqualTo(results.get(1).getDifferences());
+        assertThat(results.get(0).getMeanLoss()).isGreaterThanOrEqualTo(results.get(1).getMeanLoss());
+        // scoring every word is the exact search
+        assertThat(results.get(2).getDifferences()).isZero();
+        assertThat(results.get(2).getWorstLoss()).isZero();
+    }
+}
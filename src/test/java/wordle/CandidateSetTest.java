@@ -0,0 +1,122 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CandidateSetTest {
+
+    @Test
+    public void shouldPickFormBySize() {
+        assertThat(CandidateSet.all(1000).getForm()).isEqualTo(CandidateSet.Form.DENSE);
+        // 32 bits an index is less than the 1000 bits of a full set
+        assertThat(CandidateSet.of(1000, range(0, 31)).getForm()).isEqualTo(CandidateSet.Form.SPARSE);
+        assertThat(CandidateSet.of(1000, range(0, 32)).getForm()).isEqualTo(CandidateSet.Form.DENSE);
+        assertThat(CandidateSet.of(1000, 3, 500, 999).getForm()).isEqualTo(CandidateSet.Form.TINY);
+        assertThat(CandidateSet.all(3).getForm()).isEqualTo(CandidateSet.Form.TINY);
+        assertThat(CandidateSet.none(1000).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldShrinkAsItNarrows() {
+        CandidateSet set = CandidateSet.all(1000);
+
+        CandidateSet sparse = set.retain(i -> i % 50 == 0);
+        assertThat(sparse.getForm()).isEqualTo(CandidateSet.Form.SPARSE);
+        assertThat(sparse.toArray()).containsExactly(range(0, 20, 50));
+
+        CandidateSet tiny = sparse.retain(i -> i >= 850);
+        assertThat(tiny.getForm()).isEqualTo(CandidateSet.Form.TINY);
+        assertThat(tiny.toArray()).containsExactly(850, 900, 950);
+        assertThat(tiny.next(0)).isEqualTo(850);
+        assertThat(tiny.next(851)).isEqualTo(900);
+        assertThat(tiny.next(951)).isEqualTo(-1);
+        assertThat(tiny.contains(900)).isTrue();
+        assertThat(tiny.contains(901)).isFalse();
+
+        // nothing removed, so nothing new is made
+        assertThat(tiny.retain(i -> true)).isSameAs(tiny);
+    }
+
+    @Test
+    public void shouldMatchTreeSet() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 300; trial++) {
+            int universe = 1 + random.nextInt(700);
+            TreeSet<Integer> expectedA = randomSet(random, universe);
+            TreeSet<Integer> expectedB = randomSet(random, universe);
+            CandidateSet a = toCandidateSet(universe, expectedA);
+            CandidateSet b = toCandidateSet(universe, expectedB);
+
+            assertSameAs(a, expectedA);
+            expectedA.retainAll(expectedB);
+            assertSameAs(a.intersect(b), expectedA);
+            assertSameAs(b.intersect(a), expectedA);
+            assertSameAs(a.retain(b::contains), expectedA);
+            assertThat(a.intersect(b)).isEqualTo(b.intersect(a)).hasSameHashCodeAs(b.intersect(a));
+        }
+    }
+
+    @Test
+    public void shouldBeEqualByIndexes() {
+        CandidateSet fromBits = CandidateSet.all(200).retain(i -> i % 3 == 0);
+        CandidateSet fromArray = CandidateSet.of(200, range(0, 67, 3));
+
+        assertThat(fromBits).isEqualTo(fromArray).hasSameHashCodeAs(fromArray);
+        assertThat(fromBits.hashCode()).isEqualTo(Arrays.hashCode(range(0, 67, 3)));
+        assertThat(fromBits).isNotEqualTo(CandidateSet.of(201, range(0, 67, 3)));
+        assertThat(CandidateSet.of(200, 1, 2)).isNotEqualTo(CandidateSet.of(200, 1, 3));
+    }
+
+    @Test
+    public void shouldRejectBadIndexes() {
+        assertThatThrownBy(() -> CandidateSet.of(10, 3, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CandidateSet.of(10, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CandidateSet.all(10).intersect(CandidateSet.all(11)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSameAs(CandidateSet actual, TreeSet<Integer> expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        assertThat(actual.toArray()).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        for (int i = 0; i < actual.getUniverse(); i++) {
+            assertThat(actual.contains(i)).isEqualTo(expected.contains(i));
+            Integer next = expected.ceiling(i);
+            assertThat(actual.next(i)).isEqualTo(next == null ? -1 : next);
+        }
+        assertThat(actual.hashCode()).isEqualTo(Arrays.hashCode(actual.toArray()));
+    }
+
+    private static TreeSet<Integer> randomSet(Random random, int universe) {
+        // anywhere from a few indexes to nearly all of them, to get every form
+        double density = Math.pow(random.nextDouble(), 3);
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int i = 0; i < universe; i++) {
+            if (random.nextDouble() < density) {
+                set.add(i);
+            }
+        }
+        return set;
+    }
+
+    private static CandidateSet toCandidateSet(int universe, TreeSet<Integer> set) {
+        return CandidateSet.of(universe, set.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static int[] range(int from, int count) {
+        return range(from, count, 1);
+    }
+
+    private static int[] range(int from, int count, int step) {
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = from + i * step;
+        }
+        return indexes;
+    }
+}
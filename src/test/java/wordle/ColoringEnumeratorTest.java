@@ -0,0 +1,114 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ColoringEnumeratorTest {
+
+    private final PatternCalculator calculator = new PatternCalculator(5);
+    private final ColoringEnumerator enumerator = new ColoringEnumerator(calculator);
+
+    @Test
+    public void testDistinctLetters() {
+        // 3^5 minus the 5 ways to have 4 greens and a yellow
+        assertThat(enumerator.getColorings("abcde".toCharArray())).hasSize(238);
+    }
+
+    @Test
+    public void shouldShareListsForSameSignature() {
+        assertThat(enumerator.getPatterns("speed".toCharArray()))
+                .isSameAs(enumerator.getPatterns("sweet".toCharArray()));
+        assertThat(enumerator.getPatterns("abcde".toCharArray()))
+                .isSameAs(enumerator.getPatterns("fghij".toCharArray()));
+    }
+
+    @Test
+    public void shouldSkipNonCanonicalColorings() {
+        char[] guess = "cca".toCharArray();
+        ColoringEnumerator threeLetters = new ColoringEnumerator(new PatternCalculator(3));
+
+        assertThat(threeLetters.isPossible(guess, new Color[]{Color.YELLOW, Color.GRAY, Color.YELLOW})).isTrue();
+        assertThat(threeLetters.isPossible(guess, new Color[]{Color.GRAY, Color.YELLOW, Color.YELLOW})).isFalse();
+        // both C's can't be yellow when the third spot is green
+        assertThat(threeLetters.isPossible(guess, new Color[]{Color.YELLOW, Color.YELLOW, Color.GREEN})).isFalse();
+    }
+
+    @Test
+    public void shouldMatchBruteForce() {
+        // every coloring that some target produces, using only the guess's letters and one other letter
+        for (String guess : List.of("abcde", "speed", "eerie", "mamma", "aaaaa")) {
+            Set<Integer> expected = new TreeSet<>();
+            char[] alphabet = (guess.chars().distinct()
+                    .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append) + "z")
+                    .toCharArray();
+            char[] target = new char[5];
+            collectPatterns(guess.toCharArray(), alphabet, target, 0, expected);
+
+            assertThat(enumerator.getPatterns(guess.toCharArray()))
+                    .as(guess)
+                    .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    @Test
+    public void shouldIncludeEveryRealOutcome() throws IOException {
+        List<String> words = new DictionaryFileLoader("/dictionary.txt").buildDictionary().getWords();
+        for (int g = 0; g < words.size(); g += 97) {
+            char[] guess = words.get(g).toCharArray();
+            for (String answer : words) {
+                assertThat(enumerator.getPatterns(guess)).contains(calculator.calculate(guess, answer.toCharArray()));
+            }
+        }
+    }
+
+    @Test
+    public void testCanonicalize() {
+        char[] guess = "speed".toCharArray();
+        assertThat(enumerator.canonicalize(guess,
+                new Color[]{Color.GRAY, Color.GRAY, Color.GRAY, Color.YELLOW, Color.GRAY}))
+                .containsExactly(Color.GRAY, Color.GRAY, Color.YELLOW, Color.GRAY, Color.GRAY);
+
+        // a green copy stays put, and the yellow moves to the leftmost copy that isn't green
+        guess = "eerie".toCharArray();
+        assertThat(enumerator.canonicalize(guess,
+                new Color[]{Color.GREEN, Color.GRAY, Color.GRAY, Color.GRAY, Color.YELLOW}))
+                .containsExactly(Color.GREEN, Color.YELLOW, Color.GRAY, Color.GRAY, Color.GRAY);
+
+        Color[] canonical = new Color[]{Color.YELLOW, Color.GRAY, Color.GREEN, Color.GRAY, Color.YELLOW};
+        assertThat(enumerator.canonicalize("abcde".toCharArray(), canonical)).containsExactly(canonical);
+    }
+
+    @Test
+    public void testCanonicalizePatternCode() {
+        char[] guess = "speed".toCharArray();
+        assertThat(enumerator.canonicalize(guess, PatternCode.parse("---Y-"))).isEqualTo(PatternCode.parse("--Y--"));
+        assertThat(enumerator.isPossible(guess, PatternCode.parse("--Y--"))).isTrue();
+        assertThat(enumerator.isPossible(guess, PatternCode.parse("GGGGY"))).isFalse();
+    }
+
+    @Test
+    public void testBadInputs() {
+        assertThatThrownBy(() -> enumerator.getColorings("abc".toCharArray()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> enumerator.canonicalize("abcde".toCharArray(), new Color[5]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void collectPatterns(char[] guess, char[] alphabet, char[] target, int index, Set<Integer> patterns) {
+        if (index == target.length) {
+            patterns.add(calculator.calculate(guess, target));
+            return;
+        }
+        for (char c : alphabet) {
+            target[index] = c;
+            collectPatterns(guess, alphabet, target, index + 1, patterns);
+        }
+    }
+}
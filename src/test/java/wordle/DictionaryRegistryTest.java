@@ -0,0 +1,110 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DictionaryRegistryTest {
+
+    private static final List<String> FIVES = List.of("crane", "crone", "pizza", "fuzzy", "heaps");
+    private static final List<String> FOURS = List.of("cats", "bats", "hats", "mats");
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void shouldShareOneLoadBetweenGames() throws IOException {
+        DictionaryRegistry registry = new DictionaryRegistry(Long.MAX_VALUE);
+        registry.register("fives", counting(FIVES));
+
+        SharedDictionary first = registry.get("fives");
+        SharedDictionary second = registry.get("fives");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        Solver one = registry.newSolver("fives");
+        Solver two = registry.newSolver("fives");
+        one.findNextWord("crane", PatternCode.parse("GG-GG"));
+        // narrowing one game leaves the other alone
+        assertThat(one.countRemainingWords()).isEqualTo(1);
+        assertThat(two.countRemainingWords()).isEqualTo(5);
+
+        DictionaryRegistry.Stats stats = registry.getStats().get(0);
+        assertThat(stats.isLoaded()).isTrue();
+        assertThat(stats.getHits()).isEqualTo(3);
+        assertThat(stats.getLoads()).isEqualTo(1);
+        assertThat(stats.getBytes()).isPositive().isEqualTo(registry.getMemoryUsed());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedOverBudget() throws IOException {
+        long fivesBytes = new SharedDictionary("fives", new WordList(FIVES)).estimateBytes();
+        long foursBytes = new SharedDictionary("fours", new WordList(FOURS)).estimateBytes();
+        // room for both lists, but not for either with its pattern table as well
+        DictionaryRegistry registry = new DictionaryRegistry(fivesBytes + foursBytes + 10);
+        registry.register("fives", counting(FIVES));
+        registry.register("fours", counting(FOURS));
+
+        SharedDictionary fives = registry.get("fives");
+        registry.get("fours");
+        assertThat(registry.getMemoryUsed()).isEqualTo(fivesBytes + foursBytes);
+
+        fives.getPatternTable();
+        registry.get("fives");
+        // fours was used less recently, so it goes even though fives is the one that grew
+        assertThat(registry.getStats()).extracting(DictionaryRegistry.Stats::isLoaded).containsExactly(true, false);
+
+        registry.get("fours");
+        assertThat(registry.getStats()).extracting(DictionaryRegistry.Stats::isLoaded).containsExactly(false, true);
+        assertThat(registry.getStats()).extracting(DictionaryRegistry.Stats::getEvictions).containsExactly(1L, 1L);
+
+        // the game that was already on fives still has it
+        assertThat(fives.newSolver().countRemainingWords()).isEqualTo(5);
+        assertThat(registry.get("fives")).isNotSameAs(fives);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    public void shouldKeepRequestedDictionaryOverBudget() throws IOException {
+        DictionaryRegistry registry = new DictionaryRegistry(0);
+        registry.register("fives", counting(FIVES));
+
+        assertThat(registry.get("fives")).isSameAs(registry.get("fives"));
+        assertThat(registry.evict("fives")).isTrue();
+        assertThat(registry.evict("fives")).isFalse();
+        assertThat(registry.getMemoryUsed()).isZero();
+    }
+
+    @Test
+    public void shouldRejectUnknownAndDuplicateNames() {
+        DictionaryRegistry registry = new DictionaryRegistry(Long.MAX_VALUE);
+        registry.register("fives", counting(FIVES));
+
+        assertThatThrownBy(() -> registry.register("fives", counting(FOURS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.get("sixes")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    public void shouldLoadFromResource() throws IOException {
+        DictionaryRegistry registry = new DictionaryRegistry(Long.MAX_VALUE);
+        registry.register("default", DictionaryRegistry.Source.resource("/dictionary.txt"));
+
+        SharedDictionary dictionary = registry.get("default");
+        assertThat(dictionary.getWordLength()).isEqualTo(5);
+        assertThat(dictionary.getTrie().find(WordQuery.pattern("cr_n_").requiring("e").excluding("as")))
+                .containsExactly("crone");
+    }
+
+    private DictionaryRegistry.Source counting(List<String> words) {
+        return () -> {
+            loads.incrementAndGet();
+            return new WordList(words);
+        };
+    }
+}
@@ -2,6 +2,7 @@ package wordle;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -23,4 +24,66 @@ public class DictionaryTest {
         d.addWord("fizzy");
         assertThat(d.getWords()).containsExactlyInAnyOrder("heaps", "fizzy");
     }
+
+    @Test
+    public void shouldNarrowViewsIndependently() {
+        WordList wordList = new WordList(List.of("heaps", "purge", "alarm", "fizzy"));
+        Dictionary first = new Dictionary(wordList);
+        Dictionary second = new Dictionary(wordList);
+
+        first.intersect(Set.of("purge", "fizzy"));
+        second.intersect(Set.of("heaps"));
+
+        assertThat(first.getWords()).containsExactly("purge", "fizzy");
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(second.getWords()).containsExactly("heaps");
+        assertThat(wordList.getWords()).containsExactly("heaps", "purge", "alarm", "fizzy");
+        assertThat(first.getWordList()).isSameAs(second.getWordList());
+    }
+
+    @Test
+    public void testCopy() {
+        Dictionary d = new Dictionary(List.of("heaps", "purge", "alarm"));
+        d.intersect(Set.of("heaps", "alarm"));
+
+        Dictionary copy = d.copy();
+        copy.intersect(Set.of("alarm"));
+
+        assertThat(d.getWords()).containsExactly("heaps", "alarm");
+        assertThat(copy.getWords()).containsExactly("alarm");
+    }
+
+    @Test
+    public void shouldNarrowByCandidates() {
+        WordList wordList = new WordList(List.of("heaps", "purge", "alarm", "fizzy"));
+        Dictionary d = new Dictionary(wordList);
+        Dictionary copy = d.copy();
+        assertThat(copy.getCandidates()).isSameAs(d.getCandidates()).isSameAs(wordList.getEveryWord());
+
+        d.intersect(CandidateSet.of(4, 0, 2, 3));
+        d.intersect(CandidateSet.of(4, 1, 2));
+
+        assertThat(d.getWords()).containsExactly("alarm");
+        assertThat(copy.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testCandidateIndexes() {
+        // more than one block of bits
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            words.add("w" + i);
+        }
+        Dictionary d = new Dictionary(words);
+        assertThat(d.size()).isEqualTo(150);
+
+        d.intersect(Set.of("w3", "w64", "w149"));
+
+        assertThat(d.contains(3)).isTrue();
+        assertThat(d.contains(4)).isFalse();
+        assertThat(d.nextCandidate(0)).isEqualTo(3);
+        assertThat(d.nextCandidate(4)).isEqualTo(64);
+        assertThat(d.nextCandidate(65)).isEqualTo(149);
+        assertThat(d.nextCandidate(150)).isEqualTo(-1);
+    }
 }
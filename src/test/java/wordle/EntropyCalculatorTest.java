@@ -39,4 +39,11 @@ public class EntropyCalculatorTest {
         // there can't be 10 possibilities from 3 words
         assertThat(calculator.calculateEntropy(10, 3)).isEqualTo(0.0);
     }
+
+    @Test
+    public void testEstimatedProbability() {
+        assertThat(calculator.calculateEntropy(0.1)).isEqualTo(0.4690, offset(0.000005));
+        assertThat(calculator.calculateEntropy(0.0)).isEqualTo(0.0);
+        assertThat(calculator.calculateEntropy(1.0)).isEqualTo(0.0);
+    }
 }
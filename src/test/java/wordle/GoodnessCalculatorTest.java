@@ -5,8 +5,11 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -71,6 +74,19 @@ public class GoodnessCalculatorTest {
         verify(entropyCalculator, times(238)).calculateEntropy(NUM_MATCHING, NUM_CHOICES);
     }
 
+    @Test
+    public void shouldSkipImpossibleColoringsForRepeatedLetters() {
+        when(matcher.countMatchingWords(any(), any())).thenReturn(NUM_MATCHING);
+        when(entropyCalculator.calculateEntropy(anyInt(), anyInt())).thenReturn(0.5);
+
+        GoodnessCalculator calculator = new GoodnessCalculator(2, matcher, entropyCalculator);
+        double goodness = calculator.calculateGoodness("aa", new Color[2], NUM_CHOICES);
+        // a repeated letter can only be green or gray, since there is nowhere else for it to go
+        verify(entropyCalculator, times(4)).calculateEntropy(NUM_MATCHING, NUM_CHOICES);
+        // the impossible colorings still count as outcomes with no information, so this is (0.5*4)/7
+        assertThat(goodness).isEqualTo(2.0 / 7, offset(0.0001));
+    }
+
     @Test
     public void shouldSkipKnownLetters() {
         when(matcher.countMatchingWords(any(), any())).thenReturn(NUM_MATCHING);
@@ -85,4 +101,29 @@ public class GoodnessCalculatorTest {
         verify(entropyCalculator, times(7)).calculateEntropy(NUM_MATCHING, NUM_CHOICES);
     }
 
+    @Test
+    public void shouldSkipKnownLettersInPatternCode() {
+        when(matcher.countMatchingWords(any(), anyInt())).thenReturn(NUM_MATCHING);
+        when(entropyCalculator.calculateEntropy(anyInt(), anyInt())).thenReturn(0.5);
+
+        GoodnessCalculator calculator = new GoodnessCalculator(5, matcher, entropyCalculator);
+        // the yellow on the end doesn't matter, only the greens do
+        double goodness = calculator.calculateGoodness("abcde", PatternCode.parse("-GGGY"), NUM_CHOICES);
+        verify(entropyCalculator, times(7)).calculateEntropy(NUM_MATCHING, NUM_CHOICES);
+        verify(matcher, never()).countMatchingWords(any(), any(Color[].class));
+        assertThat(goodness).isEqualTo(0.5);
+    }
+
+    @Test
+    public void shouldScorePatternCodesLikeColors() {
+        Dictionary dictionary = new Dictionary(new WordList(List.of(
+                "cigar", "rebut", "sissy", "humph", "awake", "blush", "focal", "evade", "naval", "serve")));
+        GoodnessCalculator calculator = new GoodnessCalculator(5, new WordMatcher(dictionary),
+                new EntropyCalculator());
+        Color[] known = new Color[]{Color.GRAY, Color.GREEN, Color.GRAY, Color.GRAY, Color.GRAY};
+        for (String guess : dictionary.getWords()) {
+            assertThat(calculator.calculateGoodness(guess, PatternCode.of(known), dictionary.size()))
+                    .isEqualTo(calculator.calculateGoodness(guess, known, dictionary.size()), offset(1e-12));
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package wordle;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LatencySummaryTest {
+
+    @Test
+    public void testPercentiles() {
+        long[] nanos = new long[100];
+        for (int i = 0; i < nanos.length; i++) {
+            // out of order, to make sure they get sorted
+            nanos[i] = (i * 37 % 100 + 1) * 1000L;
+        }
+        LatencySummary summary = new LatencySummary(nanos);
+
+        assertThat(summary.getCount()).isEqualTo(100);
+        assertThat(summary.getPercentileNanos(50)).isEqualTo(50_000);
+        assertThat(summary.getPercentileNanos(99)).isEqualTo(99_000);
+        assertThat(summary.getPercentileNanos(100)).isEqualTo(100_000);
+        assertThat(summary.getPercentileNanos(0)).isEqualTo(1_000);
+        assertThat(summary.getMaxNanos()).isEqualTo(100_000);
+        assertThat(summary.getMeanNanos()).isEqualTo(50_500.0);
+    }
+
+    @Test
+    public void testEmpty() {
+        LatencySummary summary = new LatencySummary(new long[0]);
+        assertThat(summary.getPercentileNanos(50)).isEqualTo(0);
+        assertThat(summary.getMaxNanos()).isEqualTo(0);
+        assertThat(summary.toString()).startsWith("0 turns");
+    }
+
+    @Test
+    public void testBadPercentile() {
+        assertThatThrownBy(() -> new LatencySummary(new long[]{1}).getPercentileNanos(101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
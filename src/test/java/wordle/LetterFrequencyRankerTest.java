@@ -0,0 +1,53 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LetterFrequencyRankerTest {
+
+    private final LetterFrequencyRanker ranker = new LetterFrequencyRanker(3);
+
+    @Test
+    public void shouldPreferCommonLetters() {
+        assertThat(ranker.rank(List.of("xyz", "cat", "bat", "hat")))
+                .containsExactly("cat", "bat", "hat", "xyz");
+    }
+
+    @Test
+    public void shouldPreferCommonPositions() {
+        // every word has the same letters, but "bat" has them in the most common spots
+        assertThat(ranker.rank(List.of("tab", "bat", "abt", "bta", "bat")).get(0)).isEqualTo("bat");
+    }
+
+    @Test
+    public void shouldCountRepeatedLettersOnce() {
+        assertThat(ranker.rank(List.of("aaa", "abc", "bcd", "cde")).get(0)).isNotEqualTo("aaa");
+    }
+
+    @Test
+    public void shouldPickTheSameWordsAsRanking() {
+        List<String> words = List.of("xyz", "cat", "bat", "hat", "tab", "act", "zzz", "cab");
+        List<String> ranked = ranker.rank(words);
+        for (int count = 0; count <= words.size() + 1; count++) {
+            assertThat(ranker.top(words, count)).isEqualTo(ranked.subList(0, Math.min(count, words.size())));
+        }
+    }
+
+    @Test
+    public void shouldRankWordsWithAccentedLetters() {
+        // the n with a tilde is in every word but one, so the words with it come first
+        assertThat(ranker.rank(List.of("pez", "a\u00f1o", "pa\u00f1", "\u00f1an")).get(3)).isEqualTo("pez");
+    }
+
+    @Test
+    public void shouldRejectLettersOutsideTheAlphabet() {
+        LetterFrequencyRanker english = new LetterFrequencyRanker(3, Alphabet.of(List.of("cat", "bat")));
+        assertThat(english.rank(List.of("bat", "cat", "tab"))).containsExactly("bat", "cat", "tab");
+        assertThatThrownBy(() -> english.rank(List.of("a\u00f1o")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
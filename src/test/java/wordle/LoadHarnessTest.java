@@ -0,0 +1,63 @@
+package wordle;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoadHarnessTest {
+
+    private static SharedDictionary dictionary;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        List<String> words = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords();
+        dictionary = new SharedDictionary("test", new WordList(words.subList(0, 300)));
+    }
+
+    @Test
+    public void shouldPlaySameGamesOnAnyNumberOfThreads() throws InterruptedException {
+        LoadHarness harness = new LoadHarness(dictionary, List.of("tares", "crane"), 6);
+
+        LoadReport one = harness.run(40, 1, 7, Duration.ofMillis(10));
+        LoadReport four = harness.run(40, 4, 7, Duration.ofMillis(10));
+
+        assertThat(one.getGames()).isEqualTo(40);
+        assertThat(one.getWon()).isEqualTo(40);
+        assertThat(one.getTurns()).isPositive();
+        assertThat(four.getTurns()).isEqualTo(one.getTurns());
+        assertThat(four.getWon()).isEqualTo(one.getWon());
+        assertThat(four.getThreads()).isEqualTo(4);
+        assertThat(one.getTurnsPerSecond()).isPositive();
+        assertThat(one.getLatency().getPercentileNanos(99.9)).isEqualTo(one.getLatency().getMaxNanos());
+    }
+
+    @Test
+    public void shouldSampleHeapUntilTheEnd() throws InterruptedException {
+        LoadReport report = new LoadHarness(dictionary, List.of("tares"), 6).run(20, 2, 3, Duration.ofMillis(1));
+
+        List<LoadReport.HeapSample> heap = report.getHeap();
+        assertThat(heap).isNotEmpty();
+        LoadReport.HeapSample last = heap.get(heap.size() - 1);
+        assertThat(last.getTurns()).isEqualTo(report.getTurns());
+        assertThat(last.getUsedBytes()).isPositive().isLessThanOrEqualTo(last.getCommittedBytes());
+        for (int i = 1; i < heap.size(); i++) {
+            assertThat(heap.get(i).getTurns()).isGreaterThanOrEqualTo(heap.get(i - 1).getTurns());
+        }
+        assertThat(report.getGcCount()).isNotNegative();
+        assertThat(report.toString()).contains("p99.9");
+    }
+
+    @Test
+    public void shouldRejectFirstWordsOfWrongLength() {
+        assertThatThrownBy(() -> new LoadHarness(dictionary, List.of("tare"), 6))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoadHarness(dictionary, List.of(), 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
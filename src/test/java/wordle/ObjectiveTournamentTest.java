@@ -0,0 +1,73 @@
+package wordle;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ObjectiveTournamentTest {
+
+    private static WordList wordList;
+    private static SharedDictionary dictionary;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        List<String> words = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords();
+        wordList = new WordList(words.subList(0, 250));
+        dictionary = new SharedDictionary("test", wordList);
+    }
+
+    @Test
+    public void shouldPlayLikeSolverWithAverageEntropy() {
+        GoodnessCalculator calculator = new GoodnessCalculator(5, new WordMatcher(dictionary.newDictionary()),
+                new EntropyCalculator(), dictionary.getColoringEnumerator());
+        ObjectiveTournament tournament = new ObjectiveTournament(dictionary.getPatternTable(),
+                dictionary.getColoringEnumerator(), List.of(ScoringObjective.averageEntropy(calculator)), 6);
+        String firstWord = wordList.get(0);
+
+        ObjectiveTournament.Result result = tournament.run(firstWord).get(0);
+
+        GameSimulator simulator = new GameSimulator(wordList, 6);
+        int[] expected = new int[7];
+        for (String answer : wordList.getWords()) {
+            expected[simulator.play(firstWord, answer)]++;
+        }
+        assertThat(result.getGames()).isEqualTo(wordList.size());
+        for (int guesses = 0; guesses <= 6; guesses++) {
+            assertThat(result.getGames(guesses)).as("games in " + guesses).isEqualTo(expected[guesses]);
+        }
+    }
+
+    @Test
+    public void shouldReportEachObjective() {
+        List<ScoringObjective> objectives = List.of(ScoringObjective.entropy(), ScoringObjective.worstCase(),
+                ScoringObjective.distinctOutcomes());
+        ObjectiveTournament tournament = new ObjectiveTournament(dictionary.getPatternTable(),
+                dictionary.getColoringEnumerator(), objectives, 6);
+
+        List<ObjectiveTournament.Result> results = tournament.run(wordList.get(10));
+
+        assertThat(results).extracting(ObjectiveTournament.Result::getName)
+                .containsExactly("entropy", "worst case", "distinct outcomes");
+        for (ObjectiveTournament.Result result : results) {
+            // a handful of words are too alike to always find in six guesses
+            assertThat(result.getWon()).as(result.getName()).isGreaterThan(wordList.size() - 5);
+            assertThat(result.getGames()).isEqualTo(wordList.size());
+            assertThat(result.getGames(1)).isEqualTo(1);
+            assertThat(result.getMeanGuesses()).isBetween(2.0, 4.0);
+            assertThat(result.getMaxGuesses()).isLessThanOrEqualTo(6);
+        }
+    }
+
+    @Test
+    public void shouldRejectUnknownFirstWord() {
+        ObjectiveTournament tournament = new ObjectiveTournament(dictionary.getPatternTable(),
+                dictionary.getColoringEnumerator(), List.of(ScoringObjective.entropy()), 6);
+
+        assertThatThrownBy(() -> tournament.run("zzzzz")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
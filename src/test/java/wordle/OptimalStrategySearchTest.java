@@ -0,0 +1,181 @@
+package wordle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OptimalStrategySearchTest {
+
+    // families of words that differ in one letter, which take several guesses to tell apart
+    private static final List<String> WORDS = List.of("fight", "light", "might", "night", "right", "sight", "bound",
+            "found", "hound", "mound", "pound", "round", "films", "north", "crane", "slate");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final PatternCalculator calculator = new PatternCalculator(5);
+    private final PatternTable table = new PatternTable(WORDS, calculator);
+
+    @Test
+    public void shouldMatchExhaustiveSearchOnAverage() throws IOException, InterruptedException {
+        StrategyTree strategy = new OptimalStrategySearch(table, OptimalStrategySearch.Objective.EXPECTED_GUESSES,
+                6, 1).solve();
+
+        int total = 0;
+        for (String answer : WORDS) {
+            int guesses = strategy.play(answer, calculator);
+            assertThat(guesses).as(answer).isBetween(1, 6);
+            total += guesses;
+        }
+        assertThat(total).isEqualTo(exhaustive(allWords(), 6, false));
+    }
+
+    @Test
+    public void shouldMatchExhaustiveSearchInWorstCase() throws IOException, InterruptedException {
+        OptimalStrategySearch search = new OptimalStrategySearch(table, OptimalStrategySearch.Objective.WORST_CASE,
+                6, 1);
+        StrategyTree strategy = search.solve();
+
+        int worst = 0;
+        for (String answer : WORDS) {
+            worst = Math.max(worst, strategy.play(answer, calculator));
+        }
+        assertThat(worst).isEqualTo(exhaustive(allWords(), 6, true));
+        assertThat(search.getBestCost()).isEqualTo(worst);
+    }
+
+    @Test
+    public void shouldRespectMaxGuesses() throws IOException, InterruptedException {
+        int unlimited = exhaustive(allWords(), 6, true);
+        StrategyTree strategy = new OptimalStrategySearch(table, OptimalStrategySearch.Objective.EXPECTED_GUESSES,
+                unlimited, 1).solve();
+        for (String answer : WORDS) {
+            assertThat(strategy.play(answer, calculator)).isBetween(1, unlimited);
+        }
+
+        assertThatThrownBy(() -> new OptimalStrategySearch(table, OptimalStrategySearch.Objective.EXPECTED_GUESSES,
+                unlimited - 1, 1).solve())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldFindSameCostOnSeveralThreads() throws IOException, InterruptedException {
+        OptimalStrategySearch single = new OptimalStrategySearch(table,
+                OptimalStrategySearch.Objective.EXPECTED_GUESSES, 6, 1);
+        single.solve();
+        OptimalStrategySearch parallel = new OptimalStrategySearch(table,
+                OptimalStrategySearch.Objective.EXPECTED_GUESSES, 6, 4);
+        StrategyTree strategy = parallel.solve();
+
+        assertThat(parallel.getBestCost()).isEqualTo(single.getBestCost());
+        int total = 0;
+        for (String answer : WORDS) {
+            total += strategy.play(answer, calculator);
+        }
+        assertThat(total).isEqualTo(parallel.getBestCost());
+    }
+
+    @Test
+    public void shouldBeatOrMatchGreedySolver() throws IOException, InterruptedException {
+        WordList wordList = new WordList(WORDS);
+        StrategyTree strategy = new OptimalStrategySearch(table, OptimalStrategySearch.Objective.EXPECTED_GUESSES,
+                6, 2).solve();
+
+        GameSimulator greedy = new GameSimulator(wordList, 10);
+        int optimalTotal = 0;
+        int greedyTotal = 0;
+        for (String answer : WORDS) {
+            optimalTotal += strategy.play(answer, calculator);
+            greedyTotal += greedy.play(strategy.getRoot().getGuess(), answer);
+        }
+        assertThat(optimalTotal).isLessThanOrEqualTo(greedyTotal);
+    }
+
+    @Test
+    public void shouldResumeFromCheckpoint() throws IOException, InterruptedException {
+        Path checkpoint = folder.getRoot().toPath().resolve("search.checkpoint");
+        OptimalStrategySearch first = new OptimalStrategySearch(table,
+                OptimalStrategySearch.Objective.EXPECTED_GUESSES, 6, 2, checkpoint, Duration.ZERO);
+        first.solve();
+        assertThat(checkpoint).exists();
+
+        OptimalStrategySearch resumed = new OptimalStrategySearch(table,
+                OptimalStrategySearch.Objective.EXPECTED_GUESSES, 6, 2, checkpoint, Duration.ofHours(1));
+        StrategyTree strategy = resumed.solve();
+        assertThat(resumed.getMemoSize()).isGreaterThan(0);
+        assertThat(resumed.getBestCost()).isEqualTo(first.getBestCost());
+        int total = 0;
+        for (String answer : WORDS) {
+            total += strategy.play(answer, calculator);
+        }
+        assertThat(total).isEqualTo(first.getBestCost());
+
+        // a checkpoint only fits the search that wrote it
+        assertThatThrownBy(() -> new OptimalStrategySearch(table, OptimalStrategySearch.Objective.WORST_CASE, 6, 1,
+                checkpoint, Duration.ZERO).solve())
+                .isInstanceOf(IOException.class);
+        Files.write(checkpoint, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThatThrownBy(() -> new OptimalStrategySearch(table, OptimalStrategySearch.Objective.EXPECTED_GUESSES,
+                6, 1, checkpoint, Duration.ZERO).solve())
+                .isInstanceOf(IOException.class);
+    }
+
+    /**
+     * Tries every guess at every step, with no bounds or memo.
+     *
+     * @return the total guesses over the words, or the most guesses for any word
+     */
+    private int exhaustive(List<Integer> words, int guessesLeft, boolean worstCase) {
+        if (guessesLeft == 0) {
+            return OptimalStrategySearch.INFEASIBLE;
+        } else if (words.size() == 1) {
+            return 1;
+        }
+        int best = OptimalStrategySearch.INFEASIBLE;
+        for (int guess = 0; guess < table.size(); guess++) {
+            List<List<Integer>> groups = new ArrayList<>();
+            for (int code = 0; code < calculator.getNumPatterns(); code++) {
+                groups.add(new ArrayList<>());
+            }
+            for (int word : words) {
+                groups.get(table.get(guess, word)).add(word);
+            }
+            groups.get(calculator.getSolvedPattern()).clear();
+            boolean splits = true;
+            for (List<Integer> group : groups) {
+                splits &= group.size() < words.size();
+            }
+            if (!splits) {
+                continue;
+            }
+
+            long cost = worstCase ? 1 : words.size();
+            for (List<Integer> group : groups) {
+                if (!group.isEmpty()) {
+                    int groupCost = exhaustive(group, guessesLeft - 1, worstCase);
+                    cost = worstCase ? Math.max(cost, 1 + groupCost) : cost + groupCost;
+                }
+            }
+            best = (int) Math.min(best, cost);
+        }
+        return best;
+    }
+
+    private List<Integer> allWords() {
+        List<Integer> words = new ArrayList<>();
+        for (int i = 0; i < WORDS.size(); i++) {
+            words.add(i);
+        }
+        return words;
+    }
+}
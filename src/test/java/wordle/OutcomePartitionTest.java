@@ -0,0 +1,72 @@
+package wordle;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OutcomePartitionTest {
+
+    private static final PatternCalculator PATTERNS = new PatternCalculator(5);
+
+    private static WordList wordList;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        wordList = new DictionaryFileLoader("/dictionary.txt").buildWordList();
+    }
+
+    @Test
+    public void shouldSliceTheSameWordsAsMatcher() {
+        Random random = new Random(42);
+        Dictionary dictionary = new Dictionary(wordList);
+        WordMatcher matcher = new WordMatcher(dictionary);
+        // narrowed down once, so that the partition starts from a part of the list
+        dictionary.intersect(matcher.getMatchingCandidates("tares".toCharArray(), PATTERNS.calculate("tares",
+                "pilot")));
+
+        for (int trial = 0; trial < 50; trial++) {
+            String guess = wordList.get(random.nextInt(wordList.size()));
+            OutcomePartition partition = OutcomePartition.of(PATTERNS, guess, wordList,
+                    dictionary.getCandidates());
+
+            int total = 0;
+            for (int pattern = 0; pattern < PATTERNS.getNumPatterns(); pattern++) {
+                CandidateSet slice = partition.slice(pattern);
+                assertThat(slice).as(guess + " " + PatternCode.format(pattern, 5))
+                        .isEqualTo(matcher.getMatchingCandidates(guess.toCharArray(), pattern));
+                assertThat(partition.getCount(pattern)).isEqualTo(slice.size());
+                total += slice.size();
+            }
+            assertThat(total).isEqualTo(dictionary.size());
+        }
+    }
+
+    @Test
+    public void shouldKeepEachSliceInOrder() {
+        OutcomePartition partition = OutcomePartition.of(PATTERNS, "tares", wordList, wordList.getEveryWord());
+
+        CandidateSet grays = partition.slice(0);
+        assertThat(grays.size()).isGreaterThan(CandidateSet.TINY_MAX);
+        assertThat(grays.toArray()).isSorted();
+        assertThat(partition.slice(PatternCode.solved(5)).toArray()).containsExactly(wordList.indexOf("tares"));
+        assertThat(partition.getGuess()).isEqualTo("tares");
+    }
+
+    @Test
+    public void shouldRejectTooManyColorings() {
+        assertThat(OutcomePartition.supports(10)).isTrue();
+        assertThat(OutcomePartition.supports(11)).isFalse();
+        assertThatThrownBy(() -> OutcomePartition.of(new PatternCalculator(11), "abcdefghijk",
+                new WordList(List.of("abcdefghijk")), CandidateSet.all(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        OutcomePartition partition = OutcomePartition.of(PATTERNS, "tares", wordList, wordList.getEveryWord());
+        assertThatThrownBy(() -> partition.slice(PATTERNS.getNumPatterns()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
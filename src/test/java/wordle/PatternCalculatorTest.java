@@ -0,0 +1,77 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PatternCalculatorTest {
+
+    private final PatternCalculator calculator = new PatternCalculator(3);
+
+    @Test
+    public void testAllGreen() {
+        assertThat(calculator.calculate("cat", "cat")).isEqualTo(calculator.getSolvedPattern());
+        assertThat(calculator.decode(calculator.getSolvedPattern()))
+                .containsExactly(Color.GREEN, Color.GREEN, Color.GREEN);
+    }
+
+    @Test
+    public void testAllGray() {
+        assertThat(calculator.calculate("dog", "cat")).isEqualTo(0);
+    }
+
+    @Test
+    public void testDoubleLetterInGuess() {
+        // only the leftmost C can be yellow
+        assertThat(calculator.decode(calculator.calculate("cca", "abc")))
+                .containsExactly(Color.YELLOW, Color.GRAY, Color.YELLOW);
+
+        // the green B uses up the only B
+        assertThat(calculator.decode(calculator.calculate("bba", "abc")))
+                .containsExactly(Color.GRAY, Color.GREEN, Color.YELLOW);
+    }
+
+    @Test
+    public void testDoubleLetterInTarget() {
+        assertThat(calculator.decode(calculator.calculate("aba", "bab")))
+                .containsExactly(Color.YELLOW, Color.YELLOW, Color.GRAY);
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        Color[] colors = new Color[]{Color.GRAY, Color.YELLOW, Color.GREEN};
+        assertThat(calculator.encode(colors)).isEqualTo(0 + 1 * 3 + 2 * 9);
+        assertThat(calculator.decode(calculator.encode(colors))).containsExactly(colors);
+        assertThat(calculator.getNumPatterns()).isEqualTo(27);
+    }
+
+    @Test
+    public void testBadInputs() {
+        assertThatThrownBy(() -> calculator.calculate("abcd", "abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calculator.encode(new Color[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldAgreeWithWordMatcher() throws IOException {
+        // the calculated coloring must be the canonical one, or the matcher would reject it
+        List<String> words = new DictionaryFileLoader("/dictionary.txt").buildDictionary().getWords()
+                .subList(0, 200);
+        WordMatcher matcher = new WordMatcher(new Dictionary(words));
+        PatternCalculator fiveLetters = new PatternCalculator(5);
+
+        for (String guess : words.subList(0, 20)) {
+            for (String answer : words) {
+                Color[] colors = fiveLetters.decode(fiveLetters.calculate(guess, answer));
+                assertThat(matcher.getMatchingWords(guess.toCharArray(), colors))
+                        .as("%s against %s", guess, answer)
+                        .contains(answer);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package wordle;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PatternCodeTest {
+
+    @Test
+    public void testSameCodesAsPatternCalculator() {
+        PatternCalculator calculator = new PatternCalculator(5);
+        int pattern = calculator.calculate("crane", "cater");
+        assertThat(PatternCode.of(calculator.decode(pattern))).isEqualTo(pattern);
+        assertThat(PatternCode.format(pattern, 5)).isEqualTo("GYY-Y");
+        assertThat(PatternCode.parse("GYY-Y")).isEqualTo(pattern);
+    }
+
+    @Test
+    public void testParseAndFormat() {
+        assertThat(PatternCode.parse("--Y-G")).isEqualTo(1 * 9 + 2 * 81);
+        assertThat(PatternCode.parse("--y-g")).isEqualTo(PatternCode.parse("--Y-G"));
+        assertThat(PatternCode.format(PatternCode.parse("-GY"), 3)).isEqualTo("-GY");
+        assertThat(PatternCode.format(0, 4)).isEqualTo("----");
+    }
+
+    @Test
+    public void testColors() {
+        int code = PatternCode.of(Color.GRAY, Color.YELLOW, Color.GREEN);
+        assertThat(PatternCode.getColor(code, 0)).isEqualTo(Color.GRAY);
+        assertThat(PatternCode.getColor(code, 1)).isEqualTo(Color.YELLOW);
+        assertThat(PatternCode.getColor(code, 2)).isEqualTo(Color.GREEN);
+        assertThat(PatternCode.isGreen(code, 2)).isTrue();
+        assertThat(PatternCode.isGreen(code, 1)).isFalse();
+        assertThat(PatternCode.toColors(code, 3)).containsExactly(Color.GRAY, Color.YELLOW, Color.GREEN);
+
+        int changed = PatternCode.withColor(code, 1, Color.GREEN);
+        assertThat(PatternCode.format(changed, 3)).isEqualTo("-GG");
+        assertThat(PatternCode.withColor(changed, 2, Color.GRAY)).isEqualTo(PatternCode.parse("-G-"));
+    }
+
+    @Test
+    public void testSolved() {
+        assertThat(PatternCode.countPatterns(5)).isEqualTo(243);
+        assertThat(PatternCode.solved(5)).isEqualTo(PatternCode.parse("GGGGG"));
+        assertThat(PatternCode.isSolved(242, 5)).isTrue();
+        assertThat(PatternCode.isSolved(PatternCode.parse("GGGGY"), 5)).isFalse();
+        // the longest coloring still fits
+        assertThat(PatternCode.solved(PatternCode.MAX_LENGTH)).isPositive();
+    }
+
+    @Test
+    public void testBadInputs() {
+        assertThatThrownBy(() -> PatternCode.parse("--X-G"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'X'");
+        assertThatThrownBy(() -> PatternCode.parse(""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PatternCode.of(Color.GREEN, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PatternCode.format(243, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PatternCode.toColors(-1, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PatternCode.countPatterns(PatternCode.MAX_LENGTH + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
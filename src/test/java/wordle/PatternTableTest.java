@@ -0,0 +1,32 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PatternTableTest {
+
+    @Test
+    public void shouldLookUpColorings() {
+        PatternCalculator calculator = new PatternCalculator(3);
+        PatternTable table = new PatternTable(List.of("dog", "bat", "cat"), calculator);
+
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.get(table.indexOf("bat"), table.indexOf("cat"))).isEqualTo(calculator.calculate("bat", "cat"));
+        assertThat(table.get(table.indexOf("cat"), table.indexOf("cat"))).isEqualTo(calculator.getSolvedPattern());
+    }
+
+    @Test
+    public void shouldRejectTooManyWords() {
+        // the size is checked before any word is looked at
+        List<String> words = Collections.nCopies(PatternTable.MAX_WORDS + 1, "cat");
+
+        assertThatThrownBy(() -> new PatternTable(words, new PatternCalculator(3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(Integer.toString(PatternTable.MAX_WORDS + 1));
+    }
+}
@@ -0,0 +1,105 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+public class SampledSearchTest {
+
+    private List<String> words;
+    private PatternCalculator patternCalculator;
+    private GoodnessCalculator goodnessCalculator;
+
+    @Before
+    public void setUp() throws IOException {
+        words = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords();
+        patternCalculator = new PatternCalculator(5);
+        goodnessCalculator = new GoodnessCalculator(5, new WordMatcher(new Dictionary(words)),
+                new EntropyCalculator(), new ColoringEnumerator(patternCalculator));
+    }
+
+    @Test
+    public void shouldFindSameWordAsExactSearch() {
+        SampledSearch search = new SampledSearch(goodnessCalculator, 256, 0, SampledSearch.DEFAULT_SEED);
+
+        SampledSearch.Result result = search.search(words, words, new Color[5]);
+
+        String exact = new TiledScorer(patternCalculator, goodnessCalculator, 1 << 26)
+                .findBestGuess(words, words, new Color[5]);
+        assertThat(result.getBestWord()).isEqualTo(exact);
+        // far fewer comparisons than scoring every guess against every answer
+        assertThat(result.getComparisons()).isLessThan((long) words.size() * words.size() / 4);
+    }
+
+    @Test
+    public void shouldBeReproducible() {
+        SampledSearch search = new SampledSearch(goodnessCalculator, 64, 0, 7);
+        List<String> guesses = words.subList(0, 200);
+
+        SampledSearch.Result first = search.search(guesses, words, new Color[5]);
+        SampledSearch.Result second = search.search(guesses, words, new Color[5]);
+
+        assertThat(second.getBestWord()).isEqualTo(first.getBestWord());
+        assertThat(second.getEstimate().getScore()).isEqualTo(first.getEstimate().getScore());
+        assertThat(second.getComparisons()).isEqualTo(first.getComparisons());
+    }
+
+    @Test
+    public void shouldScoreSmallSetsExactly() {
+        List<String> answers = words.subList(0, 500);
+        SampledSearch.Result result = new SampledSearch(goodnessCalculator).search(answers, answers, new Color[5]);
+
+        assertThat(result.getRounds()).isEqualTo(1);
+        assertThat(result.getEstimate().isExact()).isTrue();
+        assertThat(result.getEstimate().getMargin()).isZero();
+        String exact = new TiledScorer(patternCalculator, goodnessCalculator, 1 << 26)
+                .findBestGuess(answers, answers, new Color[5]);
+        assertThat(result.getBestWord()).isEqualTo(exact);
+    }
+
+    @Test
+    public void shouldMostlyCoverExactScore() {
+        AnswerSample sample = new StratifiedSampler(words, 11).sample(400);
+        Color[] known = new Color[5];
+        double[] exact = new TiledScorer(patternCalculator, goodnessCalculator, 1 << 26)
+                .score(words.subList(0, 400), words, known);
+
+        int covered = 0;
+        for (int i = 0; i < exact.length; i++) {
+            GoodnessEstimate estimate = goodnessCalculator.estimateGoodness(words.get(i).toCharArray(), sample, known);
+            assertThat(estimate.isExact()).isFalse();
+            assertThat(estimate.getScore()).isCloseTo(exact[i], offset(0.002));
+            if (estimate.getLowerBound() <= exact[i] && exact[i] <= estimate.getUpperBound()) {
+                covered++;
+            }
+        }
+        // 95% intervals, give or take
+        assertThat(covered).isGreaterThan(exact.length * 85 / 100);
+    }
+
+    @Test
+    public void shouldMatchExactScoreForWholeSample() {
+        List<String> answers = words.subList(0, 300);
+        AnswerSample sample = new StratifiedSampler(answers, 1).sample(1000);
+        double[] exact = new TiledScorer(patternCalculator, goodnessCalculator, 1 << 26)
+                .score(List.of("tares"), answers, new Color[5]);
+
+        GoodnessEstimate estimate = goodnessCalculator.estimateGoodness("tares".toCharArray(), sample, new Color[5]);
+
+        assertThat(sample.isComplete()).isTrue();
+        assertThat(estimate.isExact()).isTrue();
+        assertThat(estimate.getScore()).isEqualTo(exact[0]);
+    }
+
+    @Test
+    public void shouldRejectTinySample() {
+        assertThatThrownBy(() -> new SampledSearch(goodnessCalculator, 1, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ScoringObjectiveTest {
+
+    private final ColoringEnumerator enumerator = new ColoringEnumerator(new PatternCalculator(3));
+    private final List<char[]> answers = List.of("cat", "bat", "hat", "cot", "dog", "dig").stream()
+            .map(String::toCharArray).collect(Collectors.toList());
+
+    // against "hat": hat alone, cat and bat together, cot, and dog and dig together
+    private final OutcomeHistogram histogram = OutcomeHistogram.count(enumerator, "hat".toCharArray(), answers, 0);
+
+    @Test
+    public void shouldCountEachAnswerOnce() {
+        assertThat(histogram.getTotal()).isEqualTo(6);
+        assertThat(histogram.getCount(PatternCode.parse("GGG"))).isEqualTo(1);
+        assertThat(histogram.getCount(PatternCode.parse("-GG"))).isEqualTo(2);
+        assertThat(histogram.getCount(PatternCode.parse("---"))).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldScoreEachObjective() {
+        double expectedEntropy = -(2 * (1 / 6.0) * Math.log(1 / 6.0) + 2 * (2 / 6.0) * Math.log(2 / 6.0))
+                / Math.log(2);
+        assertThat(ScoringObjective.entropy().score(histogram)).isCloseTo(expectedEntropy, within(1e-9));
+        assertThat(ScoringObjective.expectedRemaining().score(histogram)).isCloseTo(-10 / 6.0, within(1e-9));
+        assertThat(ScoringObjective.worstCase().score(histogram)).isEqualTo(-2.0);
+        assertThat(ScoringObjective.distinctOutcomes().score(histogram)).isEqualTo(4.0);
+    }
+
+    @Test
+    public void shouldScoreAverageEntropyLikeGoodnessCalculator() {
+        Dictionary dictionary = new Dictionary(List.of("cat", "bat", "hat", "cot", "dog", "dig"));
+        GoodnessCalculator calculator = new GoodnessCalculator(3, new WordMatcher(dictionary),
+                new EntropyCalculator(), enumerator);
+
+        assertThat(ScoringObjective.averageEntropy(calculator).score(histogram))
+                .isEqualTo(calculator.calculateGoodness("hat", new Color[3], 6));
+    }
+
+    @Test
+    public void shouldPreferBetterSplits() {
+        // "cog" only leaves bat and hat together, and splits up the rest
+        OutcomeHistogram better = OutcomeHistogram.count(enumerator, "cog".toCharArray(), answers, 0);
+        for (ScoringObjective objective : List.of(ScoringObjective.entropy(), ScoringObjective.expectedRemaining(),
+                ScoringObjective.distinctOutcomes())) {
+            assertThat(objective.score(better)).as(objective.getName()).isGreaterThan(objective.score(histogram));
+        }
+    }
+}
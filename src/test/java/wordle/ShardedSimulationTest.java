@@ -0,0 +1,170 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ShardedSimulationTest {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<String> words;
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        List<String> all = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords();
+        words = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += 200) {
+            words.add(all.get(i));
+        }
+        directory = folder.getRoot().toPath().resolve("job");
+    }
+
+    @Test
+    public void shouldSplitIntoShards() throws IOException {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares", "pizza"), 10, 6);
+
+        // 23 words make 3 shards for each first word
+        assertThat(words).hasSize(23);
+        assertThat(job.getNumShards()).isEqualTo(6);
+        assertThat(job.getFirstWordIndex(4)).isEqualTo(1);
+        assertThat(job.getFirstAnswer(4)).isEqualTo(10);
+        assertThat(job.getShardSize(4)).isEqualTo(10);
+        assertThat(job.getShardSize(5)).isEqualTo(3);
+
+        SimulationJob loaded = SimulationJob.load(directory);
+        assertThat(loaded.getWordList().getWords()).isEqualTo(words);
+        assertThat(loaded.getFirstWords()).containsExactly("tares", "pizza");
+        assertThat(loaded.getNumShards()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldMergeSameResultsAsPlayingDirectly() throws IOException {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares", "pizza"), 10, 6);
+
+        assertThat(new ShardWorker(job, "a", TIMEOUT).run()).isEqualTo(6);
+        assertThat(new ShardWorker(job, "b", TIMEOUT).run()).isZero();
+        SimulationReport report = SimulationReport.merge(job);
+
+        GameSimulator simulator = new GameSimulator(new WordList(words), 6);
+        for (int i = 0; i < 2; i++) {
+            int[] expected = new int[7];
+            for (String answer : words) {
+                expected[simulator.play(job.getFirstWords().get(i), answer)]++;
+            }
+            for (int guesses = 0; guesses <= 6; guesses++) {
+                assertThat(report.getGames(i, guesses)).isEqualTo(expected[guesses]);
+            }
+            assertThat(report.getGames(i)).isEqualTo(words.size());
+        }
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getAverageGuesses(0)).isBetween(1.0, 6.0);
+        assertThat(directory.resolve("shard-000000.claim")).doesNotExist();
+    }
+
+    @Test
+    public void shouldResumeAfterCrash() throws IOException {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares"), 10, 6);
+        ShardWorker worker = new ShardWorker(job, "a", TIMEOUT);
+        // shard 0 was done, this worker died during shard 1, and another worker is busy with shard 2
+        worker.runShard(0).write(job.getResultFile(0), "a");
+        FileTime finished = Files.getLastModifiedTime(job.getResultFile(0));
+        Files.write(job.getClaimFile(1), "a".getBytes(StandardCharsets.UTF_8));
+        Files.write(job.getClaimFile(2), "b".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(worker.run()).isEqualTo(1);
+        assertThat(Files.getLastModifiedTime(job.getResultFile(0))).isEqualTo(finished);
+        assertThat(job.getResultFile(1)).exists();
+        assertThat(job.getResultFile(2)).doesNotExist();
+        assertThat(SimulationReport.merge(job).getMissingShards()).isEqualTo(1);
+
+        // once the other worker's claim is old enough, it is taken over
+        Files.setLastModifiedTime(job.getClaimFile(2), FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        assertThat(worker.run()).isEqualTo(1);
+        assertThat(SimulationReport.merge(job).isComplete()).isTrue();
+    }
+
+    @Test
+    public void shouldOnlyTouchOwnClaims() throws IOException {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares"), 10, 6);
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.write(job.getClaimFile(0), "a".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(job.getClaimFile(0), old);
+        Files.write(job.getClaimFile(1), "b".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(job.getClaimFile(1), old);
+
+        ShardWorker worker = new ShardWorker(job, "a", TIMEOUT);
+        assertThat(worker.refreshClaim(0)).isTrue();
+        assertThat(Files.getLastModifiedTime(job.getClaimFile(0))).isGreaterThan(old);
+        assertThat(worker.refreshClaim(1)).isFalse();
+        assertThat(Files.getLastModifiedTime(job.getClaimFile(1))).isEqualTo(old);
+        assertThat(worker.refreshClaim(2)).isFalse();
+    }
+
+    @Test
+    public void shouldLeaveClaimTakenOverWhileRunning() throws IOException {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares"), 10, 6);
+        // worker b takes shard 0 over while worker a is still running it
+        ShardWorker worker = new ShardWorker(job, "a", TIMEOUT) {
+            @Override
+            ShardResult runShard(int shard) throws IOException {
+                if (shard == 0) {
+                    Files.write(job.getClaimFile(shard), "b".getBytes(StandardCharsets.UTF_8));
+                }
+                return super.runShard(shard);
+            }
+        };
+
+        assertThat(worker.run()).isEqualTo(3);
+        assertThat(job.getResultFile(0)).exists();
+        assertThat(new String(Files.readAllBytes(job.getClaimFile(0)), StandardCharsets.UTF_8)).isEqualTo("b");
+        assertThat(job.getClaimFile(1)).doesNotExist();
+    }
+
+    @Test
+    public void shouldRunWorkersInSeparateProcesses() throws Exception {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares", "pizza"), 5, 6);
+
+        assertThat(ShardedSimulation.runLocal(job, 2)).isZero();
+        SimulationReport report = ShardedSimulation.merge(job);
+
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.getGames(0)).isEqualTo(words.size());
+        assertThat(report.getGames(1)).isEqualTo(words.size());
+        assertThat(directory.resolve("report.txt")).exists();
+    }
+
+    @Test
+    public void shouldRejectCorruptResults() throws IOException {
+        SimulationJob job = SimulationJob.create(directory, words, List.of("tares"), 10, 6);
+        Files.write(job.getResultFile(0), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> SimulationReport.merge(job)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void shouldNotOverwriteJob() throws IOException {
+        SimulationJob.create(directory, words, List.of("tares"), 10, 6);
+
+        assertThatThrownBy(() -> SimulationJob.create(directory, words, List.of("pizza"), 10, 6))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
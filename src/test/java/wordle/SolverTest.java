@@ -5,8 +5,8 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -54,8 +54,8 @@ public class SolverTest {
         String previousGuess = "squat";
         Color[] previousOutcome = new Color[]{ Color.YELLOW, Color.GRAY, Color.GRAY, Color.GRAY, Color.YELLOW };
 
-        Set<String> newMatches = Set.of("picks", "stamp");
-        when(matcher.getMatchingWords(previousGuess.toCharArray(), previousOutcome)).thenReturn(newMatches);
+        CandidateSet newMatches = CandidateSet.of(4, 1, 2);
+        when(matcher.getMatchingCandidates(previousGuess.toCharArray(), previousOutcome)).thenReturn(newMatches);
 
         ArgumentCaptor<String> wordCaptor = ArgumentCaptor.forClass(String.class);
         when(goodnessCalculator.calculateGoodness(wordCaptor.capture(), same(previousOutcome), eq(4)))
@@ -71,6 +71,89 @@ public class SolverTest {
         verify(dictionary).intersect(newMatches);
     }
 
+    @Test
+    public void testFindNextWordFromPatternCode() {
+        withDictionary("excel", "picks", "stamp", "tramp");
+        String previousGuess = "squat";
+        int previousOutcome = PatternCode.parse("Y---Y");
+
+        CandidateSet newMatches = CandidateSet.of(4, 1, 2);
+        when(matcher.getMatchingCandidates(previousGuess.toCharArray(), previousOutcome)).thenReturn(newMatches);
+        when(goodnessCalculator.calculateGoodness(anyString(), eq(previousOutcome), eq(4))).thenReturn(0.2);
+        when(goodnessCalculator.calculateGoodness(eq("stamp"), eq(previousOutcome), eq(4))).thenReturn(0.7);
+
+        assertThat(solver.findNextWord(previousGuess, previousOutcome)).isEqualTo("stamp");
+
+        verify(dictionary).intersect(newMatches);
+        verify(goodnessCalculator, never()).calculateGoodness(anyString(), any(Color[].class), anyInt());
+    }
+
+    @Test
+    public void testFindNextWordWithinBudget() {
+        withDictionary("excel", "picks", "stamp", "tramp");
+        String previousGuess = "squat";
+        Color[] previousOutcome = new Color[]{ Color.YELLOW, Color.GRAY, Color.GRAY, Color.GRAY, Color.YELLOW };
+        CandidateSet newMatches = CandidateSet.of(4, 1, 2);
+        when(matcher.getMatchingCandidates(previousGuess.toCharArray(), previousOutcome)).thenReturn(newMatches);
+        when(goodnessCalculator.calculateGoodness(anyString(), same(previousOutcome), eq(4))).thenReturn(0.5);
+
+        // with no time, only the most promising word is scored
+        assertThat(solver.findNextWord(previousGuess, previousOutcome, Duration.ZERO, progress -> { }))
+                .isEqualTo("stamp");
+
+        verify(dictionary).intersect(newMatches);
+        verify(goodnessCalculator, times(1)).calculateGoodness(anyString(), any(), anyInt());
+    }
+
+    @Test
+    public void testFindNextWordScoringTopWords() {
+        withDictionary("excel", "picks", "stamp", "tramp");
+        String previousGuess = "squat";
+        Color[] previousOutcome = new Color[]{ Color.YELLOW, Color.GRAY, Color.GRAY, Color.GRAY, Color.YELLOW };
+        CandidateSet newMatches = CandidateSet.of(4, 1, 2);
+        when(matcher.getMatchingCandidates(previousGuess.toCharArray(), previousOutcome)).thenReturn(newMatches);
+        when(goodnessCalculator.calculateGoodness(eq("stamp"), same(previousOutcome), eq(4))).thenReturn(0.2);
+        when(goodnessCalculator.calculateGoodness(eq("tramp"), same(previousOutcome), eq(4))).thenReturn(0.3);
+
+        assertThat(solver.findNextWord(previousGuess, previousOutcome, 2)).isEqualTo("tramp");
+
+        verify(dictionary).intersect(newMatches);
+        verify(goodnessCalculator, times(2)).calculateGoodness(anyString(), any(), anyInt());
+    }
+
+    @Test
+    public void testFollowStrategy() {
+        withDictionary("excel", "picks", "stamp", "tramp");
+        StrategyTree.Node root = new StrategyTree.Node("squat");
+        int outcome = PatternCode.parse("Y---Y");
+        root.addChild(outcome, new StrategyTree.Node("stamp"));
+        solver.followStrategy(new StrategyTree(root));
+        when(matcher.getMatchingCandidates("squat".toCharArray(), outcome)).thenReturn(CandidateSet.of(4, 1, 2));
+
+        assertThat(solver.findFirstWord()).isEqualTo("squat");
+        assertThat(solver.findNextWord("squat", outcome)).isEqualTo("stamp");
+        verifyNoInteractions(goodnessCalculator);
+
+        // playing something else leaves the strategy behind
+        when(goodnessCalculator.calculateGoodness(anyString(), anyInt(), eq(4))).thenReturn(0.5);
+        when(goodnessCalculator.calculateGoodness(eq("tramp"), anyInt(), eq(4))).thenReturn(0.9);
+        assertThat(solver.findNextWord("excel", 0)).isEqualTo("tramp");
+    }
+
+    @Test
+    public void testNarrowRecommendedWordWithoutMatcher() {
+        withDictionary("excel", "picks", "stamp", "tramp");
+        when(goodnessCalculator.calculateGoodness(anyString(), any(Color[].class), eq(4))).thenReturn(0.2);
+        when(goodnessCalculator.calculateGoodness(eq("picks"), any(Color[].class), eq(4))).thenReturn(0.9);
+        assertThat(solver.findFirstWord()).isEqualTo("picks");
+
+        // the words were split up by coloring against picks when it was recommended
+        solver.findNextWord("picks", new PatternCalculator(5).calculate("picks", "stamp"));
+
+        verify(dictionary).intersect(CandidateSet.of(4, 2));
+        verifyNoInteractions(matcher);
+    }
+
     @Test
     public void testFindNextWordOneLeft() {
         withDictionary("pints");
@@ -79,7 +162,10 @@ public class SolverTest {
     }
 
     private void withDictionary(String... words) {
+        WordList wordList = new WordList(Arrays.asList(words));
         when(dictionary.size()).thenReturn(words.length);
         when(dictionary.getWords()).thenReturn(Arrays.asList(words));
+        when(dictionary.getWordList()).thenReturn(wordList);
+        when(dictionary.getCandidates()).thenReturn(wordList.getEveryWord());
     }
 }
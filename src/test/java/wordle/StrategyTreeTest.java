@@ -0,0 +1,68 @@
+package wordle;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StrategyTreeTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final PatternCalculator calculator = new PatternCalculator(3);
+
+    @Test
+    public void shouldPlayAlongTree() {
+        StrategyTree tree = new StrategyTree(sample());
+
+        assertThat(tree.play("cat", calculator)).isEqualTo(1);
+        assertThat(tree.play("bat", calculator)).isEqualTo(2);
+        assertThat(tree.play("cab", calculator)).isEqualTo(2);
+        assertThat(tree.play("hat", calculator)).isEqualTo(3);
+        // the tree doesn't cover it
+        assertThat(tree.play("dog", calculator)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldWriteAndRead() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("strategy.txt");
+        new StrategyTree(sample()).write(file);
+        assertThat(Files.readAllLines(file)).containsExactly("cat", "  GG- cab", "  -GG bat", "    -GG hat");
+
+        StrategyTree read = StrategyTree.read(file);
+        assertThat(read.getRoot().getGuess()).isEqualTo("cat");
+        assertThat(read.getRoot().getChildren()).hasSize(2);
+        assertThat(read.play("hat", calculator)).isEqualTo(3);
+        assertThat(read.play("cab", calculator)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRejectMalformedFiles() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("strategy.txt");
+        Files.write(file, "cat\n      -GG bat\n".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> StrategyTree.read(file)).isInstanceOf(IOException.class);
+
+        Files.write(file, "cat\n  -XG bat\n".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> StrategyTree.read(file)).isInstanceOf(IOException.class);
+
+        Files.write(file, "cat\n  -GG bat\n  -GG hat\n".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> StrategyTree.read(file)).isInstanceOf(IOException.class);
+    }
+
+    private StrategyTree.Node sample() {
+        StrategyTree.Node root = new StrategyTree.Node("cat");
+        StrategyTree.Node bat = new StrategyTree.Node("bat");
+        bat.addChild(calculator.calculate("bat", "hat"), new StrategyTree.Node("hat"));
+        root.addChild(calculator.calculate("cat", "bat"), bat);
+        root.addChild(calculator.calculate("cat", "cab"), new StrategyTree.Node("cab"));
+        return root;
+    }
+}
@@ -0,0 +1,64 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StratifiedSamplerTest {
+
+    private static final List<String> ANSWERS = List.of(
+            "aback", "abase", "abate", "abbey", "abbot", "abhor",
+            "cable", "cacao", "cache", "caddy",
+            "zebra", "zesty");
+
+    @Test
+    public void shouldSampleStrataInProportion() {
+        AnswerSample sample = new StratifiedSampler(ANSWERS, 1).sample(6);
+
+        assertThat(sample.size()).isEqualTo(6);
+        assertThat(sample.getPopulationSize()).isEqualTo(12);
+        assertThat(sample.isComplete()).isFalse();
+        assertThat(sample.getNumStrata()).isEqualTo(3);
+        // strata are in letter order
+        assertThat(sample.getSampledSize(0)).isEqualTo(3);
+        assertThat(sample.getSampledSize(1)).isEqualTo(2);
+        assertThat(sample.getSampledSize(2)).isEqualTo(1);
+        assertThat(sample.getStratumSize(0)).isEqualTo(6);
+        for (int i = 0; i < sample.size(); i++) {
+            assertThat(sample.getAnswer(i)[0]).isEqualTo("acz".charAt(sample.getStratum(i)));
+        }
+    }
+
+    @Test
+    public void shouldSampleEveryStratum() {
+        AnswerSample sample = new StratifiedSampler(ANSWERS, 1).sample(2);
+
+        assertThat(sample.size()).isEqualTo(3);
+        assertThat(sample.getSampledSize(2)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldBeReproducible() {
+        assertThat(answers(new StratifiedSampler(ANSWERS, 5).sample(6)))
+                .isEqualTo(answers(new StratifiedSampler(ANSWERS, 5).sample(6)));
+    }
+
+    @Test
+    public void shouldTakeEverythingWhenAskedForMore() {
+        AnswerSample sample = new StratifiedSampler(ANSWERS, 1).sample(100);
+
+        assertThat(sample.isComplete()).isTrue();
+        assertThat(answers(sample)).containsExactlyInAnyOrderElementsOf(ANSWERS);
+    }
+
+    private List<String> answers(AnswerSample sample) {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < sample.size(); i++) {
+            answers.add(new String(sample.getAnswer(i)));
+        }
+        return answers;
+    }
+}
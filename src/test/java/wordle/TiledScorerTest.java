@@ -0,0 +1,87 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+public class TiledScorerTest {
+
+    // room for a couple of histograms and a few short tile rows
+    private static final long TINY_BUDGET = 243 * 4 * 2 + 100;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<String> words;
+    private PatternCalculator patternCalculator;
+    private GoodnessCalculator goodnessCalculator;
+
+    @Before
+    public void setUp() throws IOException {
+        List<String> all = new DictionaryFileLoader("/dictionary.txt").buildDictionary().getWords();
+        words = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += 15) {
+            words.add(all.get(i));
+        }
+        patternCalculator = new PatternCalculator(5);
+        goodnessCalculator = new GoodnessCalculator(5, new WordMatcher(new Dictionary(words)),
+                new EntropyCalculator(), new ColoringEnumerator(patternCalculator));
+    }
+
+    @Test
+    public void shouldMatchGoodnessCalculator() {
+        TiledScorer scorer = new TiledScorer(patternCalculator, goodnessCalculator, TINY_BUDGET);
+        List<String> guesses = words.subList(0, 20);
+
+        double[] scores = scorer.score(guesses, words, new Color[5]);
+
+        for (int i = 0; i < guesses.size(); i++) {
+            assertThat(scores[i])
+                    .as(guesses.get(i))
+                    .isEqualTo(goodnessCalculator.calculateGoodness(guesses.get(i), new Color[5], words.size()),
+                            offset(1e-12));
+        }
+    }
+
+    @Test
+    public void shouldNotDependOnBudget() {
+        double[] tiny = new TiledScorer(patternCalculator, goodnessCalculator, TINY_BUDGET)
+                .score(words, words, new Color[5]);
+        double[] large = new TiledScorer(patternCalculator, goodnessCalculator, 64L * 1024 * 1024)
+                .score(words, words, new Color[5]);
+
+        assertThat(tiny).containsExactly(large, offset(1e-12));
+    }
+
+    @Test
+    public void shouldReuseScratchFile() throws IOException {
+        Path scratchFile = folder.getRoot().toPath().resolve("patterns.bin");
+        TiledScorer scorer = new TiledScorer(patternCalculator, goodnessCalculator, TINY_BUDGET, scratchFile);
+
+        double[] computed = scorer.score(words, words, new Color[5]);
+        assertThat(Files.size(scratchFile)).isEqualTo((long) words.size() * words.size());
+
+        double[] reread = scorer.score(words, words, new Color[5]);
+        assertThat(reread).containsExactly(computed, offset(1e-12));
+        assertThat(scorer.findBestGuess(words, words, new Color[5]))
+                .isEqualTo(new TiledScorer(patternCalculator, goodnessCalculator, TINY_BUDGET)
+                        .findBestGuess(words, words, new Color[5]));
+    }
+
+    @Test
+    public void shouldRejectTinyBudget() {
+        assertThatThrownBy(() -> new TiledScorer(patternCalculator, goodnessCalculator, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
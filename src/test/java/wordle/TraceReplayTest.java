@@ -0,0 +1,150 @@
+package wordle;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TraceReplayTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private WordList wordList;
+    private PatternCalculator patternCalculator;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        List<String> all = new DictionaryFileLoader("/dictionary.txt").buildWordList().getWords();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += 100) {
+            words.add(all.get(i));
+        }
+        wordList = new WordList(words);
+        patternCalculator = new PatternCalculator(5);
+        file = folder.getRoot().toPath().resolve("games.trace");
+    }
+
+    @Test
+    public void shouldRecordEachTurn() throws IOException {
+        try (TraceRecorder recorder = TraceRecorder.open(file)) {
+            play(recorder, wordList.get(3));
+            play(recorder, wordList.get(30));
+        }
+
+        List<TraceTurn> turns = TraceRecorder.read(file);
+        assertThat(turns).isNotEmpty();
+        TraceTurn first = turns.get(0);
+        assertThat(first.getGame()).isEqualTo(0);
+        assertThat(first.getGuess()).isEqualTo("tares");
+        assertThat(first.getPattern()).isEqualTo(patternCalculator.calculate("tares", wordList.get(3)));
+        assertThat(first.getCandidatesBefore()).isEqualTo(wordList.size());
+        assertThat(first.getCandidatesAfter()).isBetween(1, wordList.size() - 1);
+        assertThat(first.getChosenWord()).isNotNull();
+        assertThat(first.getLatencyNanos()).isPositive();
+        assertThat(turns).extracting(TraceTurn::getGame).containsOnly(0L, 1L);
+        // a turn fits in a couple dozen bytes
+        assertThat(Files.size(file)).isLessThan(8 + 32L * turns.size());
+    }
+
+    @Test
+    public void shouldAppendAfterPartialTurn() throws IOException {
+        try (TraceRecorder recorder = TraceRecorder.open(file)) {
+            play(recorder, wordList.get(3));
+            play(recorder, wordList.get(30));
+        }
+        int complete = TraceRecorder.read(file).size();
+        // as if the process died while writing the last turn
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 2);
+        }
+        assertThat(TraceRecorder.read(file)).hasSize(complete - 1);
+
+        try (TraceRecorder recorder = TraceRecorder.open(file)) {
+            play(recorder, wordList.get(40));
+        }
+        List<TraceTurn> turns = TraceRecorder.read(file);
+        List<TraceTurn> before = turns.subList(0, complete - 1);
+        List<TraceTurn> after = turns.subList(complete - 1, turns.size());
+        // the new game starts cleanly after the dropped turn, with a number of its own
+        assertThat(after.get(0).getGuess()).isEqualTo("tares");
+        assertThat(after.get(0).getPattern()).isEqualTo(patternCalculator.calculate("tares", wordList.get(40)));
+        assertThat(after).extracting(TraceTurn::getGame).containsOnly(after.get(0).getGame());
+        assertThat(before).extracting(TraceTurn::getGame).doesNotContain(after.get(0).getGame());
+    }
+
+    @Test
+    public void shouldReplaySameWords() throws IOException, InterruptedException {
+        try (TraceRecorder recorder = TraceRecorder.open(file)) {
+            for (int i = 0; i < wordList.size(); i += 5) {
+                play(recorder, wordList.get(i));
+            }
+        }
+        List<TraceTurn> turns = TraceRecorder.read(file);
+        TraceReplay replay = new TraceReplay(wordList);
+
+        ReplayReport single = replay.replay(turns, 1);
+        assertThat(single.getTurns()).isEqualTo(turns.size());
+        assertThat(single.getGames()).isEqualTo((wordList.size() + 4) / 5);
+        assertThat(single.getDifferences()).isEmpty();
+        assertThat(single.getReplayedLatency().getPercentileNanos(50)).isPositive();
+
+        ReplayReport concurrent = replay.replay(turns, 4);
+        assertThat(concurrent.getTurns()).isEqualTo(turns.size());
+        assertThat(concurrent.getDifferences()).isEmpty();
+        assertThat(concurrent.toString()).contains("0 turn(s) chose a different word");
+    }
+
+    @Test
+    public void shouldReportDifferentWords() throws InterruptedException {
+        String guess = "tares";
+        int pattern = patternCalculator.calculate(guess, wordList.get(3));
+        List<TraceTurn> turns = List.of(new TraceTurn(7, guess, pattern, wordList.size(), 1, "zzzzz", 1000));
+
+        ReplayReport report = new TraceReplay(wordList).replay(turns, 1);
+
+        assertThat(report.getDifferences()).hasSize(1);
+        ReplayReport.Difference difference = report.getDifferences().get(0);
+        assertThat(difference.getTurn().getGame()).isEqualTo(7);
+        assertThat(difference.getTurnInGame()).isEqualTo(0);
+        assertThat(difference.getReplayedWord()).isNotEqualTo("zzzzz");
+        assertThat(report.getRecordedLatency().getMaxNanos()).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldRejectOtherFiles() throws IOException {
+        Files.write(file, "cigar\nrebut\n".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> TraceRecorder.read(file)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> TraceRecorder.open(file)).isInstanceOf(IOException.class);
+    }
+
+    private void play(TraceRecorder recorder, String answer) {
+        Dictionary dictionary = new Dictionary(wordList);
+        WordMatcher matcher = new WordMatcher(dictionary);
+        Solver solver = new Solver(5, dictionary, matcher, new GoodnessCalculator(5, matcher,
+                new EntropyCalculator(), new ColoringEnumerator(patternCalculator)));
+        RecordingSolver recordingSolver = new RecordingSolver(solver, recorder);
+
+        String guess = "tares";
+        for (int guesses = 0; guesses < 10; guesses++) {
+            int outcome = patternCalculator.calculate(guess, answer);
+            if (outcome == patternCalculator.getSolvedPattern()) {
+                return;
+            }
+            guess = recordingSolver.findNextWord(guess, outcome);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package wordle;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WordListTest {
+
+    private final WordList wordList = new WordList(List.of("heaps", "purge", "alarm"));
+
+    @Test
+    public void testIndexes() {
+        assertThat(wordList.size()).isEqualTo(3);
+        assertThat(wordList.indexOf("purge")).isEqualTo(1);
+        assertThat(wordList.indexOf("fizzy")).isEqualTo(-1);
+        assertThat(wordList.get(2)).isEqualTo("alarm");
+        assertThat(wordList.getLetters(0)).containsExactly('h', 'e', 'a', 'p', 's');
+        assertThat(wordList.contains("heaps")).isTrue();
+        assertThat(wordList.contains("fizzy")).isFalse();
+    }
+
+    @Test
+    public void shouldDiscoverAlphabet() {
+        assertThat(wordList.getAlphabet().toString()).isEqualTo("aeghlmprsu");
+        assertThat(wordList.update(List.of("a\u00f1os"), List.of()).getAlphabet().contains('\u00f1')).isTrue();
+    }
+
+    @Test
+    public void shouldNotChangeWithSource() {
+        List<String> source = new ArrayList<>(List.of("heaps"));
+        WordList copy = new WordList(source);
+        source.add("purge");
+        assertThat(copy.getWords()).containsExactly("heaps");
+    }
+
+    @Test
+    public void shouldUpdateWithoutChangingOriginal() {
+        WordList updated = wordList.update(List.of("fizzy", "heaps"), List.of("purge"));
+
+        assertThat(updated.getWords()).containsExactly("heaps", "alarm", "fizzy");
+        assertThat(updated.indexOf("fizzy")).isEqualTo(2);
+        assertThat(updated.indexOf("purge")).isEqualTo(-1);
+        assertThat(updated.getLetters(2)).containsExactly('f', 'i', 'z', 'z', 'y');
+        // the letters of the words that stayed are shared
+        assertThat(updated.getLetters(1)).isSameAs(wordList.getLetters(2));
+        assertThat(wordList.getWords()).containsExactly("heaps", "purge", "alarm");
+    }
+
+    @Test
+    public void shouldDiffAgainstNewWords() {
+        WordListDiff diff = WordListDiff.between(wordList, List.of("alarm", "fizzy", "heaps", "fizzy"));
+
+        assertThat(diff.getAdded()).containsExactly("fizzy");
+        assertThat(diff.getRemoved()).containsExactly("purge");
+        assertThat(diff.applyTo(wordList).getWords()).containsExactly("heaps", "alarm", "fizzy");
+        assertThat(WordListDiff.between(wordList, List.of("alarm", "heaps", "purge")).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,130 @@
+package wordle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WordListWatcherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file;
+    private WordListWatcher watcher;
+
+    @Before
+    public void setUp() throws IOException {
+        file = folder.getRoot().toPath().resolve("words.txt");
+        Files.write(file, List.of("heaps", "purge", "", "alarm"));
+        watcher = new WordListWatcher(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        watcher.close();
+    }
+
+    @Test
+    public void shouldLoadWords() {
+        assertThat(watcher.getWordList().getWords()).containsExactly("heaps", "purge", "alarm");
+        assertThat(watcher.newDictionary().size()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldKeepGamesOnTheirSnapshot() throws IOException {
+        Dictionary game = watcher.newDictionary();
+        AtomicReference<WordListDiff> reported = new AtomicReference<>();
+        watcher.addListener((previous, current, diff) -> reported.set(diff));
+
+        Files.write(file, List.of("heaps", "alarm", "fizzy"));
+        assertThat(watcher.reload()).isTrue();
+
+        assertThat(reported.get().getAdded()).containsExactly("fizzy");
+        assertThat(reported.get().getRemoved()).containsExactly("purge");
+        assertThat(watcher.newDictionary().getWords()).containsExactly("heaps", "alarm", "fizzy");
+        assertThat(game.getWords()).containsExactly("heaps", "purge", "alarm");
+        assertThat(watcher.reload()).isFalse();
+    }
+
+    @Test
+    public void shouldUpdatePatternTable() throws IOException {
+        PatternCalculator calculator = new PatternCalculator(5);
+        AtomicReference<PatternTable> table = new AtomicReference<>(
+                new PatternTable(watcher.getWordList().getWords(), calculator));
+        watcher.addListener((previous, current, diff) -> table.set(table.get().update(current.getWords())));
+
+        Files.write(file, List.of("purge", "fizzy", "alarm", "pizza"));
+        watcher.reload();
+
+        PatternTable expected = new PatternTable(watcher.getWordList().getWords(), calculator);
+        assertThat(table.get().getWords()).isEqualTo(expected.getWords());
+        for (int guess = 0; guess < expected.size(); guess++) {
+            for (int answer = 0; answer < expected.size(); answer++) {
+                assertThat(table.get().get(guess, answer)).isEqualTo(expected.get(guess, answer));
+            }
+        }
+    }
+
+    @Test
+    public void shouldPickUpChangesToFile() throws Exception {
+        CountDownLatch reloaded = new CountDownLatch(1);
+        watcher.addListener((previous, current, diff) -> reloaded.countDown());
+        watcher.start();
+
+        Path temp = folder.getRoot().toPath().resolve("words.tmp");
+        Files.write(temp, List.of("heaps", "fizzy"));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // some platforms poll for changes rather than being told about them
+        assertThat(reloaded.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(watcher.getWordList().getWords()).containsExactly("heaps", "fizzy");
+    }
+
+    @Test
+    public void shouldReportFailedReloads() throws Exception {
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        CountDownLatch failed = new CountDownLatch(1);
+        watcher.addListener(new WordListWatcher.Listener() {
+            @Override
+            public void onReload(WordList previous, WordList current, WordListDiff diff) {
+            }
+
+            @Override
+            public void onReloadFailed(Path file, IOException e) {
+                failure.set(e);
+                failed.countDown();
+            }
+        });
+        watcher.start();
+
+        // a directory where the file was can't be read as words
+        Files.delete(file);
+        Files.createDirectory(file);
+
+        assertThat(failed.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get()).isNotNull();
+        assertThat(watcher.getWordList().size()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldKeepWordsIfFileIsMissing() throws IOException {
+        Files.delete(file);
+
+        assertThatThrownBy(() -> watcher.reload()).isInstanceOf(IOException.class);
+        assertThat(watcher.getWordList().size()).isEqualTo(3);
+    }
+}
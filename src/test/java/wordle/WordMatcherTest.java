@@ -158,10 +158,56 @@ public class WordMatcherTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    public void testPatternCodes() {
+        withDictionary("south", "antic", "based", "stood");
+        char[] guess = "acids".toCharArray();
+        int pattern = PatternCode.parse("GYY--");
+        assertThat(matcher.countMatchingWords(guess, pattern)).isEqualTo(1);
+        assertThat(matcher.getMatchingWords(guess, pattern)).containsExactly("antic");
+        // the same answers as the colors give
+        assertThat(matcher.getMatchingWords(guess, PatternCode.parse("----Y")))
+                .isEqualTo(matcher.getMatchingWords(guess, PatternCode.toColors(PatternCode.parse("----Y"), 5)));
+
+        // not the canonical form, so nothing matches
+        assertThat(matcher.countMatchingWords("cca".toCharArray(), PatternCode.parse("-YY"))).isEqualTo(0);
+    }
+
+    @Test
+    public void testMissingColors() {
+        withDictionary("cat", "bar", "bat", "tab");
+        // a missing color says nothing about its position
+        assertThat(matcher.countMatchingWords("cat".toCharArray(), new Color[3])).isEqualTo(4);
+        assertThat(matcher.getMatchingWords("bat".toCharArray(), new Color[]{null, Color.GREEN, Color.GREEN}))
+                .containsExactlyInAnyOrder("cat", "bat");
+        // nor about the letter elsewhere, so the gray b alone rules out the words with a b
+        assertThat(matcher.getMatchingWords("bab".toCharArray(), new Color[]{Color.GRAY, null, null}))
+                .containsExactly("cat");
+        // and the yellow o still needs an o, without the missing copy freezing the count
+        withDictionary("boot", "bolt", "sand");
+        assertThat(matcher.getMatchingWords("oxxo".toCharArray(),
+                new Color[]{Color.YELLOW, Color.GRAY, Color.GRAY, null})).containsExactlyInAnyOrder("boot", "bolt");
+    }
+
+    @Test
+    public void testMissingColorOnFirstCopy() {
+        withDictionary("gloat", "paint", "begat", "shunt", "night");
+        // the first two a's are missing, but the gray third one still rules out every word with an a
+        assertThat(matcher.getMatchingWords("apart".toCharArray(),
+                new Color[]{null, null, Color.GRAY, Color.GRAY, Color.GREEN})).containsExactlyInAnyOrder("shunt",
+                "night");
+        // and a yellow later copy still needs the letter somewhere other than its spot
+        withDictionary("brand", "abbey", "begot");
+        assertThat(matcher.getMatchingWords("apart".toCharArray(),
+                new Color[]{null, null, Color.YELLOW, null, null})).containsExactlyInAnyOrder("abbey");
+    }
+
     @Test
     public void testBadInputs() {
         assertThatThrownBy(() -> matcher.countMatchingWords("abc".toCharArray(), new Color[4]))
                 .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> matcher.countMatchingWords("abc".toCharArray(), 27))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     private void withDictionary(String... words) {
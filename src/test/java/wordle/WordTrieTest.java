@@ -0,0 +1,108 @@
+package wordle;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WordTrieTest {
+
+    private static WordList wordList;
+    private static WordTrie trie;
+
+    @BeforeClass
+    public static void setUpClass() throws IOException {
+        wordList = new DictionaryFileLoader("/dictionary.txt").buildWordList();
+        trie = new WordTrie(wordList);
+    }
+
+    @Test
+    public void shouldFindWordsMatchingPattern() {
+        WordQuery query = WordQuery.pattern("cr_n_").requiring("e").excluding("as");
+
+        // not crane, which has an a, nor crank or crony, which have no e
+        assertThat(trie.find(query)).containsExactly("crone");
+    }
+
+    @Test
+    public void shouldMatchBruteForce() {
+        Random random = new Random(42);
+        String letters = "aeioustrnlcdpmhgbfy";
+        for (int i = 0; i < 300; i++) {
+            char[] pattern = "_____".toCharArray();
+            for (int position = 0; position < 5; position++) {
+                if (random.nextInt(3) == 0) {
+                    pattern[position] = letters.charAt(random.nextInt(letters.length()));
+                }
+            }
+            WordQuery query = WordQuery.pattern(new String(pattern));
+            if (random.nextBoolean()) {
+                query = query.requiring(String.valueOf(letters.charAt(random.nextInt(letters.length()))));
+            }
+            if (random.nextBoolean()) {
+                query = query.excluding(String.valueOf(letters.charAt(random.nextInt(letters.length()))));
+            }
+            if (random.nextInt(4) == 0) {
+                int min = random.nextInt(3);
+                query = query.withCount(letters.charAt(random.nextInt(5)), min, min + random.nextInt(2));
+            }
+
+            assertThat(trie.find(query).collect(Collectors.toList())).as(query.toString())
+                    .isEqualTo(bruteForce(query));
+        }
+    }
+
+    @Test
+    public void shouldCountRepeatedLetters() {
+        assertThat(trie.find(WordQuery.anyWord(5).withCount('z', 2, 2)))
+                .containsExactly("abuzz", "dizzy", "fizzy", "frizz", "fuzzy", "jazzy", "pizza", "tizzy", "whizz");
+        assertThat(trie.find(WordQuery.pattern("_i___").withCount('z', 2, 2).excluding("y")))
+                .containsExactly("pizza");
+    }
+
+    @Test
+    public void shouldStopAtLimit() {
+        assertThat(trie.find(WordQuery.anyWord(5)).limit(3)).containsExactlyElementsOf(
+                bruteForce(WordQuery.anyWord(5)).subList(0, 3));
+    }
+
+    @Test
+    public void shouldOnlyFindPossibleWords() {
+        Dictionary dictionary = new Dictionary(wordList);
+        dictionary.intersect(Set.of("crone", "pizza"));
+
+        assertThat(trie.find(WordQuery.pattern("cr_n_"), dictionary)).containsExactly("crone");
+        assertThatThrownBy(() -> trie.find(WordQuery.pattern("cr_n_"), new Dictionary(List.of("crone"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldFindNothingForOtherLengths() {
+        assertThat(trie.find(WordQuery.pattern("cr_n"))).isEmpty();
+        assertThat(new WordTrie(new WordList(List.of())).find(WordQuery.anyWord(5))).isEmpty();
+    }
+
+    @Test
+    public void shouldFindWordsWithAccentedLetters() {
+        WordTrie spanish = new WordTrie(new WordList(List.of("a\u00f1os", "ca\u00f1a", "casas", "ni\u00f1o")));
+
+        assertThat(spanish.find(WordQuery.pattern("_a\u00f1_"))).containsExactly("ca\u00f1a");
+        assertThat(spanish.find(WordQuery.anyWord(4).requiring("\u00f1").excluding("s")))
+                .containsExactly("ca\u00f1a", "ni\u00f1o");
+        // a letter no word has can't match anything
+        assertThat(spanish.find(WordQuery.pattern("_\u00e9__"))).isEmpty();
+        assertThat(spanish.find(WordQuery.anyWord(4).excluding("\u00e9")))
+                .containsExactly("a\u00f1os", "ca\u00f1a", "ni\u00f1o");
+    }
+
+    private static List<String> bruteForce(WordQuery query) {
+        return wordList.getWords().stream().filter(query::matches).sorted().collect(Collectors.toList());
+    }
+}